@@ -0,0 +1,38 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the usual JMH command line,
+ * but unless told otherwise writes results as JSON to
+ * {@code benchmark-results/jmh-<timestamp>.json} so runs can be compared.
+ */
+public class BenchmarkRunner {
+    private static final String RESULTS_DIR = "benchmark-results";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            new File(RESULTS_DIR).mkdirs();
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            options.result(RESULTS_DIR + "/jmh-" + timestamp + ".json");
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link Gateway#handleCommand} per action type against 1k registered devices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgateway.data.dir=")
+public class CommandDispatchBenchmark {
+    private static final int DEVICES = 1000;
+
+    @Param({"ON_OFF", "COLOR", "BRIGHTNESS", "CHANNEL", "VOLUME", "TEMPERATURE", "MODE", "STATUS", "UNKNOWN_DEVICE"})
+    public String action;
+
+    private Smarthome.Command command;
+
+    @Setup
+    public void setUp() {
+        Fixtures.populate(Gateway.registry(), DEVICES);
+        Smarthome.Command.Builder builder = Smarthome.Command.newBuilder();
+        switch (action) {
+            case "ON_OFF" -> builder.setDeviceId("lamp0").setAction("ON");
+            case "COLOR" -> builder.setDeviceId("lamp0").setColor("Red");
+            case "BRIGHTNESS" -> builder.setDeviceId("lamp0").setBrightness("75");
+            case "CHANNEL" -> builder.setDeviceId("tv1").setChannel("12");
+            case "VOLUME" -> builder.setDeviceId("tv1").setVolume("30");
+            case "TEMPERATURE" -> builder.setDeviceId("air2").setTemperature("21");
+            case "MODE" -> builder.setDeviceId("air2").setMode("Dry");
+            case "STATUS" -> builder.setDeviceId("air2").setAction("STATUS");
+            case "UNKNOWN_DEVICE" -> builder.setDeviceId("missing").setAction("ON");
+            default -> throw new IllegalArgumentException("Unknown action: " + action);
+        }
+        command = builder.build();
+    }
+
+    @Benchmark
+    public Smarthome.Response dispatch() {
+        Smarthome.Response.Builder response = Smarthome.Response.newBuilder();
+        Gateway.handleCommand(command, response);
+        return response.build();
+    }
+}
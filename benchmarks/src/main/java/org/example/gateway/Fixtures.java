@@ -0,0 +1,41 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+
+/**
+ * Deterministic device populations shared by the benchmarks.
+ * Devices rotate through lamps, TVs, air conditioners and their room sensors,
+ * with attributes decorated the way the gateway stores them.
+ */
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static Smarthome.Device sampleDevice(int i) {
+        Smarthome.Device.Builder device = Smarthome.Device.newBuilder().setState(i % 2 == 0 ? "ON" : "OFF");
+        switch (i % 4) {
+            case 0 -> device.setId("lamp" + i).setType("lamp")
+                    .setColor("Color: Blue")
+                    .setBrightness("Brightness: " + (i % 101) + "%");
+            case 1 -> device.setId("tv" + i).setType("tv")
+                    .setChannel("Channel: " + (i % 500))
+                    .setVolume("Volume: " + (i % 101) + "%");
+            case 2 -> device.setId("air" + i).setType("air")
+                    .setTemperature("Temperature: " + (16 + i % 14) + "°C")
+                    .setMode("Mode: Cooling");
+            default -> device.setId("air" + (i - 1) + "_sensor").setType("sensor")
+                    .setState(Integer.toString(16 + i % 14));
+        }
+        return device.build();
+    }
+
+    static String[] populate(DeviceRegistry registry, int count) {
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            Smarthome.Device device = sampleDevice(i);
+            registry.put(device);
+            ids[i] = device.getId();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.gateway;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import org.example.devices.Smarthome;
+import org.example.devices.v2.SmarthomeV2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a multicast payload out of a direct receive buffer:
+ * a legacy bare Device, a DeviceMessage envelope dispatched on its tag,
+ * and the same device in the typed v2 schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadDecodeBenchmark {
+    @Param({"0", "1", "2", "3"})
+    public int deviceKind;
+
+    private ByteBuffer legacy;
+    private ByteBuffer envelope;
+    private ByteBuffer v2;
+
+    @Setup
+    public void setUp() {
+        Smarthome.Device device = Fixtures.sampleDevice(deviceKind);
+        legacy = direct(device.toByteArray());
+        envelope = direct(Smarthome.DeviceMessage.newBuilder().setRegistration(device).build().toByteArray());
+        v2 = direct(SchemaTranslator.toV2(device).toByteArray());
+    }
+
+    @Benchmark
+    public Smarthome.Device legacyDevice() throws IOException {
+        legacy.position(0);
+        return Smarthome.Device.parseFrom(CodedInputStream.newInstance(legacy));
+    }
+
+    @Benchmark
+    public Smarthome.Device envelopeRegistration() throws IOException {
+        envelope.position(0);
+        CodedInputStream input = CodedInputStream.newInstance(envelope);
+        int tag = input.readTag();
+        if (WireFormat.getTagFieldNumber(tag) != Smarthome.DeviceMessage.REGISTRATION_FIELD_NUMBER) {
+            throw new IllegalStateException("Unexpected tag " + tag);
+        }
+        return input.readMessage(Smarthome.Device.parser(), ExtensionRegistryLite.getEmptyRegistry());
+    }
+
+    @Benchmark
+    public SmarthomeV2.Device v2Device() throws IOException {
+        v2.position(0);
+        return SmarthomeV2.Device.parseFrom(CodedInputStream.newInstance(v2));
+    }
+
+    private static ByteBuffer direct(byte[] data) {
+        return ByteBuffer.allocateDirect(data.length).put(data).flip();
+    }
+}
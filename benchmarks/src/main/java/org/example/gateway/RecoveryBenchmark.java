@@ -0,0 +1,86 @@
+package org.example.gateway;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to rebuild the registry from disk at startup.
+ * The store is written once with small WAL segments, so almost every device
+ * ends up in the compacted flat snapshot and only the last segment is
+ * replayed. {@code lookups} then reads devices straight from the mapped
+ * snapshot, as the first requests after a restart would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RecoveryBenchmark {
+    private static final long SEGMENT_BYTES = 4L << 20;
+    private static final long NO_ROTATION_SECONDS = TimeUnit.DAYS.toSeconds(365);
+    private static final int LOOKUPS = 1000;
+
+    @Param({"100000", "1000000"})
+    public int devices;
+
+    private Path directory;
+    private String[] ids;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("recovery-benchmark");
+        DeviceRegistry registry = new DeviceRegistry();
+        RegistryStore store = RegistryStore.open(directory, registry, WriteAheadLog.FsyncPolicy.NEVER,
+                1000, SEGMENT_BYTES, NO_ROTATION_SECONDS);
+        ids = Fixtures.populate(registry, devices);
+        store.close();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public DeviceRegistry recover() throws IOException {
+        DeviceRegistry registry = new DeviceRegistry();
+        RegistryStore store = RegistryStore.open(directory, registry, WriteAheadLog.FsyncPolicy.NEVER,
+                1000, SEGMENT_BYTES, NO_ROTATION_SECONDS);
+        store.close();
+        return registry;
+    }
+
+    @Benchmark
+    public int recoverAndLookup() throws IOException {
+        DeviceRegistry registry = recover();
+        int found = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (registry.get(ids[(int) ((long) i * 7919 % ids.length)]) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-modify-write throughput of a device update.
+ * Compares a bare {@link DeviceRegistry}, the gateway's registry with its
+ * listeners attached, and a HashMap behind one global lock. Run with
+ * {@code -t N} to measure contention between N writer threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgateway.data.dir=")
+public class RegistryUpdateBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int devices;
+
+    private String[] ids;
+    private final DeviceRegistry bare = new DeviceRegistry();
+    private final Map<String, Smarthome.Device> locked = new HashMap<>();
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String nextId(String[] ids) {
+            next = next + 7919 < 0 ? 0 : next + 7919;
+            return ids[next % ids.length];
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        ids = Fixtures.populate(bare, devices);
+        Fixtures.populate(Gateway.registry(), devices);
+        for (Smarthome.Device device : bare.values()) {
+            locked.put(device.getId(), device);
+        }
+    }
+
+    @Benchmark
+    public Smarthome.Device registry(Cursor cursor) {
+        return bare.update(cursor.nextId(ids), RegistryUpdateBenchmark::touch);
+    }
+
+    @Benchmark
+    public Smarthome.Device registryWithListeners(Cursor cursor) {
+        return Gateway.registry().update(cursor.nextId(ids), RegistryUpdateBenchmark::touch);
+    }
+
+    @Benchmark
+    public Smarthome.Device globalLock(Cursor cursor) {
+        String id = cursor.nextId(ids);
+        synchronized (locked) {
+            Smarthome.Device updated = touch(locked.get(id));
+            locked.put(id, updated);
+            return updated;
+        }
+    }
+
+    private static Smarthome.Device touch(Smarthome.Device device) {
+        return device.toBuilder().setState("ON".equals(device.getState()) ? "OFF" : "ON").build();
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LIST_DEVICES, LIST_PAGE and STATUS response building at 10, 1k and 100k devices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgateway.data.dir=")
+public class RenderingBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int devices;
+
+    private String[] ids;
+    private int next;
+    private final Smarthome.Command list = Smarthome.Command.newBuilder().setAction("LIST_DEVICES").build();
+    private final Smarthome.Command page = Smarthome.Command.newBuilder().setAction("LIST_PAGE").setPageSize(100).build();
+    private Smarthome.Command status;
+
+    @Setup
+    public void setUp() {
+        ids = Fixtures.populate(Gateway.registry(), devices);
+        status = Smarthome.Command.newBuilder().setAction("STATUS").setDeviceId(ids[ids.length / 2]).build();
+    }
+
+    /**
+     * LIST_DEVICES with no change since the previous call: served from the encoded snapshot.
+     */
+    @Benchmark
+    public byte[] listUnchanged() {
+        return Gateway.cachedResponse(list);
+    }
+
+    /**
+     * LIST_DEVICES right after one device changed: one fragment re-rendered, then the response re-assembled.
+     */
+    @Benchmark
+    public byte[] listAfterChange() {
+        String id = ids[next++ % ids.length];
+        Gateway.registry().update(id, device -> device.toBuilder()
+                .setState("ON".equals(device.getState()) ? "OFF" : "ON")
+                .build());
+        return Gateway.cachedResponse(list);
+    }
+
+    @Benchmark
+    public Smarthome.Response listFirstPage() {
+        return handle(page);
+    }
+
+    @Benchmark
+    public Smarthome.Response status() {
+        return handle(status);
+    }
+
+    private static Smarthome.Response handle(Smarthome.Command command) {
+        Smarthome.Response.Builder response = Smarthome.Response.newBuilder();
+        Gateway.handleCommand(command, response);
+        return response.build();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.gateway;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.example.devices.Smarthome;
+import org.example.devices.v2.SmarthomeV2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse cost per device of the string-typed v1 Device and the typed v2
+ * Device, over a mixed population of devices as the gateway stores them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaBenchmark {
+    private static final int DEVICES = 1000;
+
+    private final byte[][] v1 = new byte[DEVICES][];
+    private final byte[][] v2 = new byte[DEVICES][];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < DEVICES; i++) {
+            Smarthome.Device device = Fixtures.sampleDevice(i);
+            v1[i] = device.toByteArray();
+            v2[i] = SchemaTranslator.toV2(device).toByteArray();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEVICES)
+    public void parseV1(Blackhole blackhole) throws InvalidProtocolBufferException {
+        for (byte[] payload : v1) {
+            blackhole.consume(Smarthome.Device.parseFrom(payload));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEVICES)
+    public void parseV2(Blackhole blackhole) throws InvalidProtocolBufferException {
+        for (byte[] payload : v2) {
+            blackhole.consume(SmarthomeV2.Device.parseFrom(payload));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of a device command once the registry is persisted, per fsync policy.
+ * Each operation updates one device and waits for {@link RegistryStore#awaitDurable()},
+ * as the gateway does before answering. {@code none} is the in-memory baseline.
+ * Run with {@code -t N} to see group commit share one fsync between N writers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WalBenchmark {
+    private static final int DEVICES = 1000;
+
+    @Param({"none", "never", "interval", "always"})
+    public String fsync;
+
+    private Path directory;
+    private DeviceRegistry registry;
+    private RegistryStore store;
+    private String[] ids;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String nextId(String[] ids) {
+            next = next + 7919 < 0 ? 0 : next + 7919;
+            return ids[next % ids.length];
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wal-benchmark");
+        registry = new DeviceRegistry();
+        if (!"none".equals(fsync)) {
+            store = RegistryStore.open(directory, registry, WriteAheadLog.FsyncPolicy.valueOf(fsync.toUpperCase()),
+                    1000, 64L << 20, 300);
+        }
+        ids = Fixtures.populate(registry, DEVICES);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Smarthome.Device command(Cursor cursor) throws IOException {
+        Smarthome.Device updated = registry.update(cursor.nextId(ids), WalBenchmark::touch);
+        if (store != null) {
+            store.awaitDurable();
+        }
+        return updated;
+    }
+
+    private static Smarthome.Device touch(Smarthome.Device device) {
+        return device.toBuilder().setState("ON".equals(device.getState()) ? "OFF" : "ON").build();
+    }
+}
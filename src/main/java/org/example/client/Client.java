@@ -25,7 +25,10 @@ public class Client {
                 System.out.println("1. Send Command");
                 System.out.println("2. Get Device Status");
                 System.out.println("3. List All Devices");
-                System.out.println("4. Exit");
+                System.out.println("4. List Devices by Page");
+                System.out.println("5. Switch Many Devices");
+                System.out.println("6. Show Gateway Metrics");
+                System.out.println("7. Exit");
                 System.out.print("Option: ");
                 String option = scanner.nextLine();
 
@@ -58,6 +61,18 @@ public class Client {
                     Smarthome.Response response = Smarthome.Response.parseDelimitedFrom(input);
                     System.out.println("Connected Devices:\n" + response.getMessage());
                 } else if ("4".equals(option)) {
+                    listDevicesByPage(scanner, output, input);
+                } else if ("5".equals(option)) {
+                    sendBatch(scanner, output, input);
+                } else if ("6".equals(option)) {
+                    Smarthome.Command command = Smarthome.Command.newBuilder()
+                            .setAction("METRICS")
+                            .build();
+                    command.writeDelimitedTo(output);
+
+                    Smarthome.Response response = Smarthome.Response.parseDelimitedFrom(input);
+                    System.out.println(response.getMessage());
+                } else if ("7".equals(option)) {
                     System.out.println("Exiting client...");
                     break;
                 } else {
@@ -69,6 +84,64 @@ public class Client {
         }
     }
 
+    private static void listDevicesByPage(Scanner scanner, OutputStream output, InputStream input) throws IOException {
+        System.out.print("Device type (empty for all): ");
+        String type = scanner.nextLine();
+        System.out.print("ID prefix (empty for all): ");
+        String prefix = scanner.nextLine();
+        System.out.print("Page size: ");
+        String pageSize = scanner.nextLine();
+
+        String cursor = "";
+        do {
+            Smarthome.Command command = Smarthome.Command.newBuilder()
+                    .setAction("LIST_PAGE")
+                    .setTypeFilter(type)
+                    .setIdPrefix(prefix)
+                    .setPageSize(pageSize.isEmpty() ? 0 : Integer.parseInt(pageSize))
+                    .setCursor(cursor)
+                    .build();
+            command.writeDelimitedTo(output);
+
+            Smarthome.Response response = Smarthome.Response.parseDelimitedFrom(input);
+            for (Smarthome.Device device : response.getDevicesList()) {
+                System.out.println("ID: " + device.getId() + ", Type: " + device.getType() + ", State: " + device.getState());
+            }
+            cursor = response.getNextCursor();
+            if (!cursor.isEmpty()) {
+                System.out.print("Press Enter for the next page, or type q to stop: ");
+                if ("q".equalsIgnoreCase(scanner.nextLine())) {
+                    break;
+                }
+            }
+        } while (!cursor.isEmpty());
+    }
+
+    private static void sendBatch(Scanner scanner, OutputStream output, InputStream input) throws IOException {
+        System.out.print("Device IDs (comma separated): ");
+        String[] deviceIds = scanner.nextLine().split(",");
+        System.out.print("Enter Action (ON/OFF): ");
+        String action = scanner.nextLine();
+        System.out.print("All or nothing? (y/n): ");
+        boolean atomic = "y".equalsIgnoreCase(scanner.nextLine());
+
+        Smarthome.CommandBatch.Builder batch = Smarthome.CommandBatch.newBuilder().setAtomic(atomic);
+        for (String deviceId : deviceIds) {
+            batch.addCommands(Smarthome.Command.newBuilder().setDeviceId(deviceId.trim()).setAction(action));
+        }
+        Smarthome.Command.newBuilder()
+                .setAction("BATCH")
+                .setBatch(batch)
+                .build()
+                .writeDelimitedTo(output);
+
+        Smarthome.Response response = Smarthome.Response.parseDelimitedFrom(input);
+        System.out.println("Server Response: " + response.getMessage());
+        for (Smarthome.CommandResult result : response.getResultsList()) {
+            System.out.println("  " + result.getDeviceId() + ": " + result.getStatus() + " - " + result.getMessage());
+        }
+    }
+
     private static void sendDeviceSpecificCommand(String deviceId, OutputStream output, InputStream input) throws IOException {
         Scanner scanner = new Scanner(System.in);
         Smarthome.Command.Builder commandBuilder = Smarthome.Command.newBuilder().setDeviceId(deviceId);
@@ -0,0 +1,222 @@
+package org.example.client;
+
+import org.example.devices.Smarthome;
+import org.example.logging.Log;
+import org.example.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless, closed-loop load generator for the gateway TCP protocol.
+ * Opens N connections, each sending one command at a time, and drives a
+ * weighted mix of STATUS, LIST_DEVICES, LIST_PAGE and device commands at
+ * an optional target rate. Latency is measured from each request's
+ * scheduled send time, so a stalled gateway shows up in the tail instead
+ * of silently lowering the offered load.
+ *
+ * <pre>
+ * java org.example.client.LoadGenerator host=localhost port=6000 connections=32 rate=20000 \
+ *     duration=30 warmup=5 mix=status:60,list:5,page:5,command:30 devices=lamp1,tv1,air1
+ * </pre>
+ */
+public class LoadGenerator {
+    private static final Log log = Log.get("load");
+
+    enum Operation { STATUS, LIST, PAGE, COMMAND }
+
+    record Config(String host, int port, int connections, int rate, int durationSeconds,
+                  int warmupSeconds, Map<Operation, Integer> mix, List<String> devices) {
+
+        static Config parse(String[] args) {
+            Map<String, String> options = new LinkedHashMap<>();
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Expected key=value, got: " + arg);
+                }
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+
+            Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+            for (String entry : options.getOrDefault("mix", "status:70,list:5,page:5,command:20").split(",")) {
+                String[] parts = entry.split(":");
+                mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+            }
+
+            return new Config(
+                    options.getOrDefault("host", "localhost"),
+                    Integer.parseInt(options.getOrDefault("port", "6000")),
+                    Integer.parseInt(options.getOrDefault("connections", "8")),
+                    Integer.parseInt(options.getOrDefault("rate", "0")),
+                    Integer.parseInt(options.getOrDefault("duration", "10")),
+                    Integer.parseInt(options.getOrDefault("warmup", "2")),
+                    mix,
+                    List.of(options.getOrDefault("devices", "lamp1").split(",")));
+        }
+    }
+
+    record Result(long operations, long errors, double seconds, LatencyHistogram total,
+                  Map<Operation, LatencyHistogram> byOperation) {
+
+        double throughput() {
+            return operations / seconds;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Config config = Config.parse(args);
+        System.out.println("Load: " + config.connections() + " connections to " + config.host() + ":" + config.port()
+                + ", rate=" + (config.rate() > 0 ? config.rate() + "/s" : "unthrottled")
+                + ", mix=" + config.mix() + ", " + config.durationSeconds() + "s after " + config.warmupSeconds() + "s warmup");
+
+        Result result = run(config);
+        report(result);
+        Log.flush();
+    }
+
+    static Result run(Config config) throws InterruptedException {
+        Operation[] schedule = weightedSchedule(config.mix());
+        Map<Operation, LatencyHistogram> byOperation = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            byOperation.put(operation, new LatencyHistogram());
+        }
+        LatencyHistogram total = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        AtomicBoolean recording = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch connected = new CountDownLatch(config.connections());
+        // Each connection gets an equal share of the target rate
+        long intervalNanos = config.rate() > 0 ? TimeUnit.SECONDS.toNanos(config.connections()) / config.rate() : 0;
+
+        List<Thread> threads = new ArrayList<>(config.connections());
+        for (int i = 0; i < config.connections(); i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                boolean counted = false;
+                try (Socket socket = new Socket(config.host(), config.port());
+                     OutputStream output = socket.getOutputStream();
+                     InputStream input = socket.getInputStream()) {
+                    socket.setTcpNoDelay(true);
+                    connected.countDown();
+                    counted = true;
+                    connected.await();
+
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long next = System.nanoTime() + random.nextLong(Math.max(1, intervalNanos));
+                    while (running.get()) {
+                        if (intervalNanos > 0) {
+                            long wait = next - System.nanoTime();
+                            if (wait > 0) {
+                                LockSupport.parkNanos(wait);
+                            }
+                        } else {
+                            next = System.nanoTime();
+                        }
+
+                        Operation operation = schedule[random.nextInt(schedule.length)];
+                        String device = config.devices().get(random.nextInt(config.devices().size()));
+                        command(operation, device, random).writeDelimitedTo(output);
+                        Smarthome.Response response = Smarthome.Response.parseDelimitedFrom(input);
+                        if (response == null) {
+                            break;
+                        }
+
+                        long latency = System.nanoTime() - next;
+                        if (recording.get()) {
+                            byOperation.get(operation).record(latency);
+                            total.record(latency);
+                            if (!"OK".equals(response.getStatus())) {
+                                errors.increment();
+                            }
+                        }
+                        next += intervalNanos;
+                    }
+                } catch (IOException e) {
+                    log.warn("Load connection error: {}", e.getMessage());
+                    // A connection that never got up must not hold back the others
+                    if (!counted) {
+                        connected.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        connected.await();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(config.warmupSeconds()));
+        recording.set(true);
+        long start = System.nanoTime();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(config.durationSeconds()));
+        recording.set(false);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        return new Result(total.count(), errors.sum(), seconds, total, byOperation);
+    }
+
+    static void report(Result result) {
+        System.out.printf("Throughput: %.0f ops/s (%d ops, %d non-OK responses)%n",
+                result.throughput(), result.operations(), result.errors());
+        System.out.println("operation      count   mean_us    p50_us    p99_us   p999_us    max_us");
+        for (Map.Entry<Operation, LatencyHistogram> entry : result.byOperation().entrySet()) {
+            printRow(entry.getKey().name(), entry.getValue());
+        }
+        printRow("ALL", result.total());
+    }
+
+    private static void printRow(String name, LatencyHistogram histogram) {
+        if (histogram.count() == 0) {
+            return;
+        }
+        System.out.printf("%-9s %10d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name,
+                histogram.count(),
+                histogram.mean() / 1000.0,
+                histogram.valueAtPercentile(50) / 1000.0,
+                histogram.valueAtPercentile(99) / 1000.0,
+                histogram.valueAtPercentile(99.9) / 1000.0,
+                histogram.max() / 1000.0);
+    }
+
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                schedule.add(entry.getKey());
+            }
+        }
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix is empty");
+        }
+        return schedule.toArray(new Operation[0]);
+    }
+
+    private static Smarthome.Command command(Operation operation, String device, ThreadLocalRandom random) {
+        return switch (operation) {
+            case STATUS -> Smarthome.Command.newBuilder().setAction("STATUS").setDeviceId(device).build();
+            case LIST -> Smarthome.Command.newBuilder().setAction("LIST_DEVICES").build();
+            case PAGE -> Smarthome.Command.newBuilder().setAction("LIST_PAGE").setPageSize(50).build();
+            case COMMAND -> Smarthome.Command.newBuilder()
+                    .setDeviceId(device)
+                    .setAction(random.nextBoolean() ? "ON" : "OFF")
+                    .build();
+        };
+    }
+}
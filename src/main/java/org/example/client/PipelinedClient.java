@@ -0,0 +1,122 @@
+package org.example.client;
+
+import org.example.devices.Smarthome;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gateway client for automation that keeps many commands in flight on one
+ * connection. Every command is tagged with a request_id and its future is
+ * completed by a reader thread when the matching response arrives, in
+ * whatever order the gateway answers.
+ */
+public class PipelinedClient implements Closeable {
+    private final Socket socket;
+    private final OutputStream output;
+    private final InputStream input;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, CompletableFuture<Smarthome.Response>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong nextRequestId = new AtomicLong(1);
+    private final Thread reader;
+
+    public PipelinedClient(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        output = new BufferedOutputStream(socket.getOutputStream());
+        input = socket.getInputStream();
+        reader = Thread.ofVirtual().name("pipelined-client-reader").start(this::readResponses);
+    }
+
+    /**
+     * Sends a command without waiting for earlier ones; any request_id on it is replaced.
+     */
+    public CompletableFuture<Smarthome.Response> send(Smarthome.Command command) {
+        long requestId = nextRequestId.getAndIncrement();
+        CompletableFuture<Smarthome.Response> future = new CompletableFuture<>();
+        inFlight.put(requestId, future);
+
+        writeLock.lock();
+        try {
+            command.toBuilder().setRequestId(requestId).build().writeDelimitedTo(output);
+            output.flush();
+        } catch (IOException e) {
+            inFlight.remove(requestId);
+            future.completeExceptionally(e);
+        } finally {
+            writeLock.unlock();
+        }
+        return future;
+    }
+
+    private void readResponses() {
+        IOException failure = new IOException("Connection closed by gateway");
+        try {
+            Smarthome.Response response;
+            while ((response = Smarthome.Response.parseDelimitedFrom(input)) != null) {
+                CompletableFuture<Smarthome.Response> future = inFlight.remove(response.getRequestId());
+                if (future != null) {
+                    future.complete(response);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+        for (CompletableFuture<Smarthome.Response> future : inFlight.values()) {
+            future.completeExceptionally(failure);
+        }
+        inFlight.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends {@code count} STATUS commands back to back and reports how long the answers took.
+     */
+    public static void main(String[] args) throws IOException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 6000;
+        int count = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+        String deviceId = args.length > 3 ? args[3] : "lamp1";
+
+        try (PipelinedClient client = new PipelinedClient(host, port)) {
+            Smarthome.Command command = Smarthome.Command.newBuilder()
+                    .setAction("STATUS")
+                    .setDeviceId(deviceId)
+                    .build();
+
+            long start = System.nanoTime();
+            List<CompletableFuture<Smarthome.Response>> responses = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                responses.add(client.send(command));
+            }
+            long ok = 0;
+            for (CompletableFuture<Smarthome.Response> response : responses) {
+                if ("OK".equals(response.join().getStatus())) {
+                    ok++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d responses (%d OK) in %.3fs: %.0f commands/s%n", count, ok, seconds, count / seconds);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.client;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures gateway throughput as the number of concurrent TCP clients grows.
+ * Each step runs an unthrottled {@link LoadGenerator} of STATUS commands
+ * with twice the connections of the previous step.
+ */
+public class ScalingLoadTest {
+    private static final String DEFAULT_HOST = "localhost";
+    private static final int DEFAULT_PORT = 6000;
+    private static final int DEFAULT_MAX_CLIENTS = 64;
+    private static final int DEFAULT_SECONDS = 5;
+    private static final int WARMUP_SECONDS = 1;
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : DEFAULT_HOST;
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+        int maxClients = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MAX_CLIENTS;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_SECONDS;
+
+        System.out.println("Load test against " + host + ":" + port + ", " + seconds + "s per step");
+        System.out.println("clients,commands,commands_per_sec,p50_us,p99_us");
+
+        for (int clients = 1; clients <= maxClients; clients *= 2) {
+            LoadGenerator.Config config = new LoadGenerator.Config(host, port, clients, 0, seconds, WARMUP_SECONDS,
+                    Map.of(LoadGenerator.Operation.STATUS, 1), List.of("lamp1"));
+            LoadGenerator.Result result = LoadGenerator.run(config);
+            System.out.printf("%d,%d,%.0f,%.1f,%.1f%n", clients, result.operations(), result.throughput(),
+                    result.total().valueAtPercentile(50) / 1000.0,
+                    result.total().valueAtPercentile(99) / 1000.0);
+        }
+    }
+}
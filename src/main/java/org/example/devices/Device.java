@@ -26,7 +26,10 @@ public class Device {
                     .setState(state)
                     .build();
 
-            byte[] data = device.toByteArray();
+            byte[] data = Smarthome.DeviceMessage.newBuilder()
+                    .setRegistration(device)
+                    .build()
+                    .toByteArray();
             System.out.println("Serialized Device data: " + data.length + " bytes");
 
             DatagramPacket packet = new DatagramPacket(data, data.length, group, port);
@@ -0,0 +1,222 @@
+package org.example.devices;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Simulates a whole installation of devices in one JVM.
+ * Virtual lamps, TVs, air conditioners and temperature sensors are spread
+ * over a few shards. Each shard owns one multicast socket and a hashed
+ * timing wheel, and sends every device's report on its own schedule with
+ * random jitter. Sensors walk their temperature up and down; the other
+ * devices re-announce themselves and occasionally flip ON/OFF.
+ *
+ * <pre>
+ * java org.example.devices.DeviceFleet lamps=40000 tvs=20000 airs=20000 sensors=20000 \
+ *     interval=15 jitter=0.2 sockets=4 duration=0
+ * </pre>
+ */
+public class DeviceFleet {
+    private static final String MULTICAST_GROUP = "230.0.0.1";
+    private static final int MULTICAST_PORT = 6001;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int WHEEL_SIZE = 4096;
+    private static final int REPORT_SECONDS = 5;
+
+    private static final class VirtualDevice {
+        final String id;
+        final String type;
+        final boolean sensor;
+        String state;
+        double temperature;
+        long rounds;
+        VirtualDevice nextInSlot;
+
+        VirtualDevice(String id, String type, boolean sensor, String state, double temperature) {
+            this.id = id;
+            this.type = type;
+            this.sensor = sensor;
+            this.state = state;
+            this.temperature = temperature;
+        }
+    }
+
+    /**
+     * One socket and one timing wheel; devices are linked into the slot of their next report.
+     */
+    private static final class Shard implements Runnable {
+        private final DatagramChannel channel;
+        private final InetSocketAddress group;
+        private final VirtualDevice[] wheel = new VirtualDevice[WHEEL_SIZE];
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        private final SplittableRandom random;
+        private final long intervalTicks;
+        private final double jitter;
+        private final LongAdder sent;
+        private long tick;
+
+        Shard(InetSocketAddress group, long intervalTicks, double jitter, long seed, LongAdder sent) throws IOException {
+            this.channel = DatagramChannel.open(StandardProtocolFamily.INET);
+            this.group = group;
+            this.intervalTicks = intervalTicks;
+            this.jitter = jitter;
+            this.random = new SplittableRandom(seed);
+            this.sent = sent;
+        }
+
+        void add(VirtualDevice device) {
+            // Spread the first reports evenly over one interval
+            schedule(device, 1 + random.nextLong(intervalTicks));
+        }
+
+        @Override
+        public void run() {
+            long nextTick = System.nanoTime();
+            while (!Thread.currentThread().isInterrupted()) {
+                VirtualDevice due = wheel[(int) (tick % WHEEL_SIZE)];
+                wheel[(int) (tick % WHEEL_SIZE)] = null;
+                while (due != null) {
+                    VirtualDevice device = due;
+                    due = due.nextInSlot;
+                    if (device.rounds > 0) {
+                        device.rounds--;
+                        link(device, (int) (tick % WHEEL_SIZE));
+                        continue;
+                    }
+                    report(device);
+                    schedule(device, nextDelay());
+                }
+
+                tick++;
+                nextTick += TICK_NANOS;
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+        }
+
+        private long nextDelay() {
+            double factor = 1 + jitter * (2 * random.nextDouble() - 1);
+            return Math.max(1, Math.round(intervalTicks * factor));
+        }
+
+        private void schedule(VirtualDevice device, long delayTicks) {
+            device.rounds = (delayTicks - 1) / WHEEL_SIZE;
+            link(device, (int) ((tick + delayTicks) % WHEEL_SIZE));
+        }
+
+        private void link(VirtualDevice device, int slot) {
+            device.nextInSlot = wheel[slot];
+            wheel[slot] = device;
+        }
+
+        private void report(VirtualDevice device) {
+            if (device.sensor) {
+                device.temperature += random.nextDouble() - 0.5;
+                device.state = Long.toString(Math.round(device.temperature));
+            } else if (random.nextInt(10) == 0) {
+                device.state = "ON".equals(device.state) ? "OFF" : "ON";
+            }
+
+            Smarthome.DeviceMessage message = Smarthome.DeviceMessage.newBuilder()
+                    .setRegistration(Smarthome.Device.newBuilder()
+                            .setId(device.id)
+                            .setType(device.type)
+                            .setState(device.state))
+                    .build();
+            try {
+                buffer.clear();
+                CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+                message.writeTo(output);
+                output.flush();
+                buffer.flip();
+                channel.send(buffer, group);
+                sent.increment();
+            } catch (IOException e) {
+                System.err.println("Fleet send error: " + e.getMessage());
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                System.err.println("Usage: java DeviceFleet [lamps=N] [tvs=N] [airs=N] [sensors=N] "
+                        + "[interval=seconds] [jitter=0..1] [sockets=N] [duration=seconds]");
+                return;
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        int lamps = Integer.parseInt(options.getOrDefault("lamps", "1000"));
+        int tvs = Integer.parseInt(options.getOrDefault("tvs", "1000"));
+        int airs = Integer.parseInt(options.getOrDefault("airs", "1000"));
+        int sensors = Integer.parseInt(options.getOrDefault("sensors", Integer.toString(airs)));
+        double intervalSeconds = Double.parseDouble(options.getOrDefault("interval", "15"));
+        double jitter = Double.parseDouble(options.getOrDefault("jitter", "0.1"));
+        int sockets = Integer.parseInt(options.getOrDefault("sockets", "4"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "0"));
+
+        long intervalTicks = Math.max(1, Math.round(intervalSeconds * TimeUnit.SECONDS.toNanos(1) / TICK_NANOS));
+        InetSocketAddress group = new InetSocketAddress(MULTICAST_GROUP, MULTICAST_PORT);
+        LongAdder sent = new LongAdder();
+        List<Shard> shards = new ArrayList<>(sockets);
+        for (int i = 0; i < sockets; i++) {
+            shards.add(new Shard(group, intervalTicks, jitter, i, sent));
+        }
+
+        SplittableRandom random = new SplittableRandom();
+        int count = 0;
+        for (int i = 0; i < lamps; i++) {
+            shards.get(count++ % sockets).add(new VirtualDevice("lamp" + i, "lamp", false, "ON", 0));
+        }
+        for (int i = 0; i < tvs; i++) {
+            shards.get(count++ % sockets).add(new VirtualDevice("tv" + i, "tv", false, "OFF", 0));
+        }
+        for (int i = 0; i < airs; i++) {
+            shards.get(count++ % sockets).add(new VirtualDevice("air" + i, "air", false, "OFF", 0));
+        }
+        for (int i = 0; i < sensors; i++) {
+            shards.get(count++ % sockets).add(new VirtualDevice(
+                    "air" + i + "_sensor", "sensor", true, "", 18 + random.nextDouble(10)));
+        }
+
+        System.out.printf("Fleet: %d devices on %d sockets, one report every %.1fs +/-%.0f%% (~%.0f reports/s)%n",
+                count, sockets, intervalSeconds, jitter * 100, count / intervalSeconds);
+
+        List<Thread> threads = new ArrayList<>(sockets);
+        for (int i = 0; i < sockets; i++) {
+            threads.add(Thread.ofPlatform().name("fleet-shard-" + i).start(shards.get(i)));
+        }
+
+        long deadline = duration > 0 ? System.nanoTime() + TimeUnit.SECONDS.toNanos(duration) : Long.MAX_VALUE;
+        long last = 0;
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(REPORT_SECONDS));
+            long total = sent.sum();
+            System.out.printf("Sent %d reports (%.0f/s)%n", total, (total - last) / (double) REPORT_SECONDS);
+            last = total;
+        }
+
+        for (Thread thread : threads) {
+            thread.interrupt();
+            thread.join();
+        }
+    }
+}
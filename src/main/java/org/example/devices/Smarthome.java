@@ -2234,6 +2234,224 @@ public final class Smarthome {
      */
     com.google.protobuf.ByteString
         getModeBytes();
+
+    /**
+     * <pre>
+     * Dispositivos por página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>int32 page_size = 10;</code>
+     * @return The pageSize.
+     */
+    int getPageSize();
+
+    /**
+     * <pre>
+     * next_cursor da página anterior (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string cursor = 11;</code>
+     * @return The cursor.
+     */
+    java.lang.String getCursor();
+    /**
+     * <pre>
+     * next_cursor da página anterior (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string cursor = 11;</code>
+     * @return The bytes for cursor.
+     */
+    com.google.protobuf.ByteString
+        getCursorBytes();
+
+    /**
+     * <pre>
+     * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string type_filter = 12;</code>
+     * @return The typeFilter.
+     */
+    java.lang.String getTypeFilter();
+    /**
+     * <pre>
+     * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string type_filter = 12;</code>
+     * @return The bytes for typeFilter.
+     */
+    com.google.protobuf.ByteString
+        getTypeFilterBytes();
+
+    /**
+     * <pre>
+     * Filtra pelo prefixo do ID (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string id_prefix = 13;</code>
+     * @return The idPrefix.
+     */
+    java.lang.String getIdPrefix();
+    /**
+     * <pre>
+     * Filtra pelo prefixo do ID (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string id_prefix = 13;</code>
+     * @return The bytes for idPrefix.
+     */
+    com.google.protobuf.ByteString
+        getIdPrefixBytes();
+
+    /**
+     * <pre>
+     * Ecoado na resposta; diferente de 0 permite respostas fora de ordem
+     * </pre>
+     *
+     * <code>uint64 request_id = 14;</code>
+     * @return The requestId.
+     */
+    long getRequestId();
+
+    /**
+     * <pre>
+     * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+     * </pre>
+     *
+     * <code>.org.example.devices.CommandBatch batch = 15;</code>
+     * @return Whether the batch field is set.
+     */
+    boolean hasBatch();
+    /**
+     * <pre>
+     * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+     * </pre>
+     *
+     * <code>.org.example.devices.CommandBatch batch = 15;</code>
+     * @return The batch.
+     */
+    org.example.devices.Smarthome.CommandBatch getBatch();
+    /**
+     * <pre>
+     * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+     * </pre>
+     *
+     * <code>.org.example.devices.CommandBatch batch = 15;</code>
+     */
+    org.example.devices.Smarthome.CommandBatchOrBuilder getBatchOrBuilder();
+
+    /**
+     * <pre>
+     * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
+     * </pre>
+     *
+     * <code>string group = 16;</code>
+     * @return The group.
+     */
+    java.lang.String getGroup();
+    /**
+     * <pre>
+     * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
+     * </pre>
+     *
+     * <code>string group = 16;</code>
+     * @return The bytes for group.
+     */
+    com.google.protobuf.ByteString
+        getGroupBytes();
+
+    /**
+     * <pre>
+     * IDs dos membros do grupo (para DEFINE_GROUP)
+     * </pre>
+     *
+     * <code>repeated string members = 17;</code>
+     * @return A list containing the members.
+     */
+    java.util.List<java.lang.String>
+        getMembersList();
+    /**
+     * <pre>
+     * IDs dos membros do grupo (para DEFINE_GROUP)
+     * </pre>
+     *
+     * <code>repeated string members = 17;</code>
+     * @return The count of members.
+     */
+    int getMembersCount();
+    /**
+     * <pre>
+     * IDs dos membros do grupo (para DEFINE_GROUP)
+     * </pre>
+     *
+     * <code>repeated string members = 17;</code>
+     * @param index The index of the element to return.
+     * @return The members at the given index.
+     */
+    java.lang.String getMembers(int index);
+    /**
+     * <pre>
+     * IDs dos membros do grupo (para DEFINE_GROUP)
+     * </pre>
+     *
+     * <code>repeated string members = 17;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the members at the given index.
+     */
+    com.google.protobuf.ByteString
+        getMembersBytes(int index);
+
+    /**
+     * <pre>
+     * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+     * </pre>
+     *
+     * <code>string scene = 18;</code>
+     * @return The scene.
+     */
+    java.lang.String getScene();
+    /**
+     * <pre>
+     * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+     * </pre>
+     *
+     * <code>string scene = 18;</code>
+     * @return The bytes for scene.
+     */
+    com.google.protobuf.ByteString
+        getSceneBytes();
+
+    /**
+     * <pre>
+     * Início da janela em ms desde a época (para QUERY_RANGE); 0 = uma hora antes do fim
+     * </pre>
+     *
+     * <code>int64 from_millis = 19;</code>
+     * @return The fromMillis.
+     */
+    long getFromMillis();
+
+    /**
+     * <pre>
+     * Fim da janela, exclusivo (para QUERY_RANGE); 0 = agora
+     * </pre>
+     *
+     * <code>int64 to_millis = 20;</code>
+     * @return The toMillis.
+     */
+    long getToMillis();
+
+    /**
+     * <pre>
+     * Largura de cada intervalo (para QUERY_RANGE); 0 = 60 intervalos na janela
+     * </pre>
+     *
+     * <code>int64 step_millis = 21;</code>
+     * @return The stepMillis.
+     */
+    long getStepMillis();
   }
   /**
    * <pre>
@@ -2270,6 +2488,13 @@ public final class Smarthome {
       volume_ = "";
       temperature_ = "";
       mode_ = "";
+      cursor_ = "";
+      typeFilter_ = "";
+      idPrefix_ = "";
+      group_ = "";
+      members_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      scene_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -2285,6 +2510,7 @@ public final class Smarthome {
               org.example.devices.Smarthome.Command.class, org.example.devices.Smarthome.Command.Builder.class);
     }
 
+    private int bitField0_;
     public static final int DEVICE_ID_FIELD_NUMBER = 1;
     @SuppressWarnings("serial")
     private volatile java.lang.Object deviceId_ = "";
@@ -2708,445 +2934,1106 @@ public final class Smarthome {
       }
     }
 
-    private byte memoizedIsInitialized = -1;
+    public static final int PAGE_SIZE_FIELD_NUMBER = 10;
+    private int pageSize_ = 0;
+    /**
+     * <pre>
+     * Dispositivos por página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>int32 page_size = 10;</code>
+     * @return The pageSize.
+     */
     @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
+    public int getPageSize() {
+      return pageSize_;
     }
 
+    public static final int CURSOR_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cursor_ = "";
+    /**
+     * <pre>
+     * next_cursor da página anterior (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string cursor = 11;</code>
+     * @return The cursor.
+     */
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, deviceId_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(action_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, action_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(value_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, value_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(color_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 4, color_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(brightness_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 5, brightness_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(channel_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 6, channel_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(volume_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 7, volume_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(temperature_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 8, temperature_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(mode_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 9, mode_);
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cursor_ = s;
+        return s;
       }
-      getUnknownFields().writeTo(output);
     }
-
+    /**
+     * <pre>
+     * next_cursor da página anterior (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string cursor = 11;</code>
+     * @return The bytes for cursor.
+     */
     @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, deviceId_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(action_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, action_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(value_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, value_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(color_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, color_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(brightness_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, brightness_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(channel_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(6, channel_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(volume_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(7, volume_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(temperature_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(8, temperature_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(mode_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(9, mode_);
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
     }
 
+    public static final int TYPE_FILTER_FIELD_NUMBER = 12;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object typeFilter_ = "";
+    /**
+     * <pre>
+     * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string type_filter = 12;</code>
+     * @return The typeFilter.
+     */
     @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof org.example.devices.Smarthome.Command)) {
-        return super.equals(obj);
+    public java.lang.String getTypeFilter() {
+      java.lang.Object ref = typeFilter_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        typeFilter_ = s;
+        return s;
       }
-      org.example.devices.Smarthome.Command other = (org.example.devices.Smarthome.Command) obj;
-
-      if (!getDeviceId()
-          .equals(other.getDeviceId())) return false;
-      if (!getAction()
-          .equals(other.getAction())) return false;
-      if (!getValue()
-          .equals(other.getValue())) return false;
-      if (!getColor()
-          .equals(other.getColor())) return false;
-      if (!getBrightness()
-          .equals(other.getBrightness())) return false;
-      if (!getChannel()
-          .equals(other.getChannel())) return false;
-      if (!getVolume()
-          .equals(other.getVolume())) return false;
-      if (!getTemperature()
-          .equals(other.getTemperature())) return false;
-      if (!getMode()
-          .equals(other.getMode())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
     }
-
+    /**
+     * <pre>
+     * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string type_filter = 12;</code>
+     * @return The bytes for typeFilter.
+     */
     @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+    public com.google.protobuf.ByteString
+        getTypeFilterBytes() {
+      java.lang.Object ref = typeFilter_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        typeFilter_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + DEVICE_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getDeviceId().hashCode();
-      hash = (37 * hash) + ACTION_FIELD_NUMBER;
-      hash = (53 * hash) + getAction().hashCode();
-      hash = (37 * hash) + VALUE_FIELD_NUMBER;
-      hash = (53 * hash) + getValue().hashCode();
-      hash = (37 * hash) + COLOR_FIELD_NUMBER;
-      hash = (53 * hash) + getColor().hashCode();
-      hash = (37 * hash) + BRIGHTNESS_FIELD_NUMBER;
-      hash = (53 * hash) + getBrightness().hashCode();
-      hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
-      hash = (53 * hash) + getChannel().hashCode();
-      hash = (37 * hash) + VOLUME_FIELD_NUMBER;
-      hash = (53 * hash) + getVolume().hashCode();
-      hash = (37 * hash) + TEMPERATURE_FIELD_NUMBER;
-      hash = (53 * hash) + getTemperature().hashCode();
-      hash = (37 * hash) + MODE_FIELD_NUMBER;
-      hash = (53 * hash) + getMode().hashCode();
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
     }
 
-    public static org.example.devices.Smarthome.Command parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
+    public static final int ID_PREFIX_FIELD_NUMBER = 13;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object idPrefix_ = "";
+    /**
+     * <pre>
+     * Filtra pelo prefixo do ID (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string id_prefix = 13;</code>
+     * @return The idPrefix.
+     */
+    @java.lang.Override
+    public java.lang.String getIdPrefix() {
+      java.lang.Object ref = idPrefix_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        idPrefix_ = s;
+        return s;
+      }
     }
-
-    public static org.example.devices.Smarthome.Command parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
+    /**
+     * <pre>
+     * Filtra pelo prefixo do ID (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>string id_prefix = 13;</code>
+     * @return The bytes for idPrefix.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdPrefixBytes() {
+      java.lang.Object ref = idPrefix_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        idPrefix_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static org.example.devices.Smarthome.Command parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static org.example.devices.Smarthome.Command parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
+    public static final int REQUEST_ID_FIELD_NUMBER = 14;
+    private long requestId_ = 0L;
+    /**
+     * <pre>
+     * Ecoado na resposta; diferente de 0 permite respostas fora de ordem
+     * </pre>
+     *
+     * <code>uint64 request_id = 14;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
     }
 
+    public static final int BATCH_FIELD_NUMBER = 15;
+    private org.example.devices.Smarthome.CommandBatch batch_;
+    /**
+     * <pre>
+     * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+     * </pre>
+     *
+     * <code>.org.example.devices.CommandBatch batch = 15;</code>
+     * @return Whether the batch field is set.
+     */
     @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
+    public boolean hasBatch() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
-    public static Builder newBuilder(org.example.devices.Smarthome.Command prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    /**
+     * <pre>
+     * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+     * </pre>
+     *
+     * <code>.org.example.devices.CommandBatch batch = 15;</code>
+     * @return The batch.
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.CommandBatch getBatch() {
+      return batch_ == null ? org.example.devices.Smarthome.CommandBatch.getDefaultInstance() : batch_;
     }
+    /**
+     * <pre>
+     * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+     * </pre>
+     *
+     * <code>.org.example.devices.CommandBatch batch = 15;</code>
+     */
     @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
+    public org.example.devices.Smarthome.CommandBatchOrBuilder getBatchOrBuilder() {
+      return batch_ == null ? org.example.devices.Smarthome.CommandBatch.getDefaultInstance() : batch_;
     }
 
+    public static final int GROUP_FIELD_NUMBER = 16;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object group_ = "";
+    /**
+     * <pre>
+     * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
+     * </pre>
+     *
+     * <code>string group = 16;</code>
+     * @return The group.
+     */
     @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public java.lang.String getGroup() {
+      java.lang.Object ref = group_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        group_ = s;
+        return s;
+      }
     }
     /**
      * <pre>
-     * Comando enviado do Gateway para os dispositivos
+     * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
      * </pre>
      *
-     * Protobuf type {@code org.example.devices.Command}
+     * <code>string group = 16;</code>
+     * @return The bytes for group.
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.example.devices.Command)
-        org.example.devices.Smarthome.CommandOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return org.example.devices.Smarthome.internal_static_org_example_devices_Command_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return org.example.devices.Smarthome.internal_static_org_example_devices_Command_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                org.example.devices.Smarthome.Command.class, org.example.devices.Smarthome.Command.Builder.class);
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getGroupBytes() {
+      java.lang.Object ref = group_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        group_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      // Construct using org.example.devices.Smarthome.Command.newBuilder()
-      private Builder() {
+    public static final int MEMBERS_FIELD_NUMBER = 17;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList members_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * IDs dos membros do grupo (para DEFINE_GROUP)
+     * </pre>
+     *
+     * <code>repeated string members = 17;</code>
+     * @return A list containing the members.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getMembersList() {
+      return members_;
+    }
+    /**
+     * <pre>
+     * IDs dos membros do grupo (para DEFINE_GROUP)
+     * </pre>
+     *
+     * <code>repeated string members = 17;</code>
+     * @return The count of members.
+     */
+    public int getMembersCount() {
+      return members_.size();
+    }
+    /**
+     * <pre>
+     * IDs dos membros do grupo (para DEFINE_GROUP)
+     * </pre>
+     *
+     * <code>repeated string members = 17;</code>
+     * @param index The index of the element to return.
+     * @return The members at the given index.
+     */
+    public java.lang.String getMembers(int index) {
+      return members_.get(index);
+    }
+    /**
+     * <pre>
+     * IDs dos membros do grupo (para DEFINE_GROUP)
+     * </pre>
+     *
+     * <code>repeated string members = 17;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the members at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getMembersBytes(int index) {
+      return members_.getByteString(index);
+    }
 
+    public static final int SCENE_FIELD_NUMBER = 18;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object scene_ = "";
+    /**
+     * <pre>
+     * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+     * </pre>
+     *
+     * <code>string scene = 18;</code>
+     * @return The scene.
+     */
+    @java.lang.Override
+    public java.lang.String getScene() {
+      java.lang.Object ref = scene_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        scene_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+     * </pre>
+     *
+     * <code>string scene = 18;</code>
+     * @return The bytes for scene.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSceneBytes() {
+      java.lang.Object ref = scene_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        scene_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
+    public static final int FROM_MILLIS_FIELD_NUMBER = 19;
+    private long fromMillis_ = 0L;
+    /**
+     * <pre>
+     * Início da janela em ms desde a época (para QUERY_RANGE); 0 = uma hora antes do fim
+     * </pre>
+     *
+     * <code>int64 from_millis = 19;</code>
+     * @return The fromMillis.
+     */
+    @java.lang.Override
+    public long getFromMillis() {
+      return fromMillis_;
+    }
+
+    public static final int TO_MILLIS_FIELD_NUMBER = 20;
+    private long toMillis_ = 0L;
+    /**
+     * <pre>
+     * Fim da janela, exclusivo (para QUERY_RANGE); 0 = agora
+     * </pre>
+     *
+     * <code>int64 to_millis = 20;</code>
+     * @return The toMillis.
+     */
+    @java.lang.Override
+    public long getToMillis() {
+      return toMillis_;
+    }
+
+    public static final int STEP_MILLIS_FIELD_NUMBER = 21;
+    private long stepMillis_ = 0L;
+    /**
+     * <pre>
+     * Largura de cada intervalo (para QUERY_RANGE); 0 = 60 intervalos na janela
+     * </pre>
+     *
+     * <code>int64 step_millis = 21;</code>
+     * @return The stepMillis.
+     */
+    @java.lang.Override
+    public long getStepMillis() {
+      return stepMillis_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, deviceId_);
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        deviceId_ = "";
-        action_ = "";
-        value_ = "";
-        color_ = "";
-        brightness_ = "";
-        channel_ = "";
-        volume_ = "";
-        temperature_ = "";
-        mode_ = "";
-        return this;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(action_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, action_);
       }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return org.example.devices.Smarthome.internal_static_org_example_devices_Command_descriptor;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(value_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, value_);
       }
-
-      @java.lang.Override
-      public org.example.devices.Smarthome.Command getDefaultInstanceForType() {
-        return org.example.devices.Smarthome.Command.getDefaultInstance();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(color_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, color_);
       }
-
-      @java.lang.Override
-      public org.example.devices.Smarthome.Command build() {
-        org.example.devices.Smarthome.Command result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(brightness_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, brightness_);
       }
-
-      @java.lang.Override
-      public org.example.devices.Smarthome.Command buildPartial() {
-        org.example.devices.Smarthome.Command result = new org.example.devices.Smarthome.Command(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(channel_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 6, channel_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(volume_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 7, volume_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(temperature_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 8, temperature_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(mode_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 9, mode_);
+      }
+      if (pageSize_ != 0) {
+        output.writeInt32(10, pageSize_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cursor_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 11, cursor_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(typeFilter_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 12, typeFilter_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(idPrefix_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 13, idPrefix_);
+      }
+      if (requestId_ != 0L) {
+        output.writeUInt64(14, requestId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(15, getBatch());
       }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(group_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 16, group_);
+      }
+      for (int i = 0; i < members_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 17, members_.getRaw(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(scene_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 18, scene_);
+      }
+      if (fromMillis_ != 0L) {
+        output.writeInt64(19, fromMillis_);
+      }
+      if (toMillis_ != 0L) {
+        output.writeInt64(20, toMillis_);
+      }
+      if (stepMillis_ != 0L) {
+        output.writeInt64(21, stepMillis_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-      private void buildPartial0(org.example.devices.Smarthome.Command result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.deviceId_ = deviceId_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.action_ = action_;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.value_ = value_;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.color_ = color_;
-        }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.brightness_ = brightness_;
-        }
-        if (((from_bitField0_ & 0x00000020) != 0)) {
-          result.channel_ = channel_;
-        }
-        if (((from_bitField0_ & 0x00000040) != 0)) {
-          result.volume_ = volume_;
-        }
-        if (((from_bitField0_ & 0x00000080) != 0)) {
-          result.temperature_ = temperature_;
-        }
-        if (((from_bitField0_ & 0x00000100) != 0)) {
-          result.mode_ = mode_;
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, deviceId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(action_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, action_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(value_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, value_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(color_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, color_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(brightness_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, brightness_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(channel_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(6, channel_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(volume_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(7, volume_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(temperature_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(8, temperature_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(mode_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(9, mode_);
+      }
+      if (pageSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(10, pageSize_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cursor_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(11, cursor_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(typeFilter_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(12, typeFilter_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(idPrefix_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(13, idPrefix_);
+      }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(14, requestId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, getBatch());
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(group_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(16, group_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < members_.size(); i++) {
+          dataSize += computeStringSizeNoTag(members_.getRaw(i));
         }
+        size += dataSize;
+        size += 2 * getMembersList().size();
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(scene_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(18, scene_);
+      }
+      if (fromMillis_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(19, fromMillis_);
+      }
+      if (toMillis_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(20, toMillis_);
+      }
+      if (stepMillis_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(21, stepMillis_);
       }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
 
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.example.devices.Smarthome.Command) {
-          return mergeFrom((org.example.devices.Smarthome.Command)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
+      if (!(obj instanceof org.example.devices.Smarthome.Command)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.Command other = (org.example.devices.Smarthome.Command) obj;
 
-      public Builder mergeFrom(org.example.devices.Smarthome.Command other) {
-        if (other == org.example.devices.Smarthome.Command.getDefaultInstance()) return this;
-        if (!other.getDeviceId().isEmpty()) {
-          deviceId_ = other.deviceId_;
-          bitField0_ |= 0x00000001;
-          onChanged();
-        }
-        if (!other.getAction().isEmpty()) {
-          action_ = other.action_;
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        if (!other.getValue().isEmpty()) {
-          value_ = other.value_;
-          bitField0_ |= 0x00000004;
-          onChanged();
-        }
-        if (!other.getColor().isEmpty()) {
-          color_ = other.color_;
-          bitField0_ |= 0x00000008;
-          onChanged();
-        }
-        if (!other.getBrightness().isEmpty()) {
-          brightness_ = other.brightness_;
-          bitField0_ |= 0x00000010;
-          onChanged();
-        }
-        if (!other.getChannel().isEmpty()) {
-          channel_ = other.channel_;
-          bitField0_ |= 0x00000020;
-          onChanged();
-        }
-        if (!other.getVolume().isEmpty()) {
-          volume_ = other.volume_;
-          bitField0_ |= 0x00000040;
-          onChanged();
-        }
-        if (!other.getTemperature().isEmpty()) {
-          temperature_ = other.temperature_;
-          bitField0_ |= 0x00000080;
-          onChanged();
+      if (!getDeviceId()
+          .equals(other.getDeviceId())) return false;
+      if (!getAction()
+          .equals(other.getAction())) return false;
+      if (!getValue()
+          .equals(other.getValue())) return false;
+      if (!getColor()
+          .equals(other.getColor())) return false;
+      if (!getBrightness()
+          .equals(other.getBrightness())) return false;
+      if (!getChannel()
+          .equals(other.getChannel())) return false;
+      if (!getVolume()
+          .equals(other.getVolume())) return false;
+      if (!getTemperature()
+          .equals(other.getTemperature())) return false;
+      if (!getMode()
+          .equals(other.getMode())) return false;
+      if (getPageSize()
+          != other.getPageSize()) return false;
+      if (!getCursor()
+          .equals(other.getCursor())) return false;
+      if (!getTypeFilter()
+          .equals(other.getTypeFilter())) return false;
+      if (!getIdPrefix()
+          .equals(other.getIdPrefix())) return false;
+      if (getRequestId()
+          != other.getRequestId()) return false;
+      if (hasBatch() != other.hasBatch()) return false;
+      if (hasBatch()) {
+        if (!getBatch()
+            .equals(other.getBatch())) return false;
+      }
+      if (!getGroup()
+          .equals(other.getGroup())) return false;
+      if (!getMembersList()
+          .equals(other.getMembersList())) return false;
+      if (!getScene()
+          .equals(other.getScene())) return false;
+      if (getFromMillis()
+          != other.getFromMillis()) return false;
+      if (getToMillis()
+          != other.getToMillis()) return false;
+      if (getStepMillis()
+          != other.getStepMillis()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DEVICE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDeviceId().hashCode();
+      hash = (37 * hash) + ACTION_FIELD_NUMBER;
+      hash = (53 * hash) + getAction().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (37 * hash) + COLOR_FIELD_NUMBER;
+      hash = (53 * hash) + getColor().hashCode();
+      hash = (37 * hash) + BRIGHTNESS_FIELD_NUMBER;
+      hash = (53 * hash) + getBrightness().hashCode();
+      hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
+      hash = (53 * hash) + getChannel().hashCode();
+      hash = (37 * hash) + VOLUME_FIELD_NUMBER;
+      hash = (53 * hash) + getVolume().hashCode();
+      hash = (37 * hash) + TEMPERATURE_FIELD_NUMBER;
+      hash = (53 * hash) + getTemperature().hashCode();
+      hash = (37 * hash) + MODE_FIELD_NUMBER;
+      hash = (53 * hash) + getMode().hashCode();
+      hash = (37 * hash) + PAGE_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
+      hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getCursor().hashCode();
+      hash = (37 * hash) + TYPE_FILTER_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeFilter().hashCode();
+      hash = (37 * hash) + ID_PREFIX_FIELD_NUMBER;
+      hash = (53 * hash) + getIdPrefix().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
+      if (hasBatch()) {
+        hash = (37 * hash) + BATCH_FIELD_NUMBER;
+        hash = (53 * hash) + getBatch().hashCode();
+      }
+      hash = (37 * hash) + GROUP_FIELD_NUMBER;
+      hash = (53 * hash) + getGroup().hashCode();
+      if (getMembersCount() > 0) {
+        hash = (37 * hash) + MEMBERS_FIELD_NUMBER;
+        hash = (53 * hash) + getMembersList().hashCode();
+      }
+      hash = (37 * hash) + SCENE_FIELD_NUMBER;
+      hash = (53 * hash) + getScene().hashCode();
+      hash = (37 * hash) + FROM_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getFromMillis());
+      hash = (37 * hash) + TO_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getToMillis());
+      hash = (37 * hash) + STEP_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getStepMillis());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.Smarthome.Command parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.Smarthome.Command parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.Smarthome.Command parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.Command parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.Smarthome.Command prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Comando enviado do Gateway para os dispositivos
+     * </pre>
+     *
+     * Protobuf type {@code org.example.devices.Command}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.Command)
+        org.example.devices.Smarthome.CommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Command_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Command_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.Smarthome.Command.class, org.example.devices.Smarthome.Command.Builder.class);
+      }
+
+      // Construct using org.example.devices.Smarthome.Command.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getBatchFieldBuilder();
         }
-        if (!other.getMode().isEmpty()) {
-          mode_ = other.mode_;
-          bitField0_ |= 0x00000100;
-          onChanged();
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        deviceId_ = "";
+        action_ = "";
+        value_ = "";
+        color_ = "";
+        brightness_ = "";
+        channel_ = "";
+        volume_ = "";
+        temperature_ = "";
+        mode_ = "";
+        pageSize_ = 0;
+        cursor_ = "";
+        typeFilter_ = "";
+        idPrefix_ = "";
+        requestId_ = 0L;
+        batch_ = null;
+        if (batchBuilder_ != null) {
+          batchBuilder_.dispose();
+          batchBuilder_ = null;
         }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
+        group_ = "";
+        members_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        scene_ = "";
+        fromMillis_ = 0L;
+        toMillis_ = 0L;
+        stepMillis_ = 0L;
         return this;
       }
 
       @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Command_descriptor;
       }
 
       @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
+      public org.example.devices.Smarthome.Command getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.Command.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Command build() {
+        org.example.devices.Smarthome.Command result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                deviceId_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              case 18: {
-                action_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 26: {
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Command buildPartial() {
+        org.example.devices.Smarthome.Command result = new org.example.devices.Smarthome.Command(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.example.devices.Smarthome.Command result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.deviceId_ = deviceId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.action_ = action_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.value_ = value_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.color_ = color_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.brightness_ = brightness_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.channel_ = channel_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.volume_ = volume_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.temperature_ = temperature_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.mode_ = mode_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.pageSize_ = pageSize_;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.cursor_ = cursor_;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.typeFilter_ = typeFilter_;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.idPrefix_ = idPrefix_;
+        }
+        if (((from_bitField0_ & 0x00002000) != 0)) {
+          result.requestId_ = requestId_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00004000) != 0)) {
+          result.batch_ = batchBuilder_ == null
+              ? batch_
+              : batchBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          result.group_ = group_;
+        }
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          members_.makeImmutable();
+          result.members_ = members_;
+        }
+        if (((from_bitField0_ & 0x00020000) != 0)) {
+          result.scene_ = scene_;
+        }
+        if (((from_bitField0_ & 0x00040000) != 0)) {
+          result.fromMillis_ = fromMillis_;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          result.toMillis_ = toMillis_;
+        }
+        if (((from_bitField0_ & 0x00100000) != 0)) {
+          result.stepMillis_ = stepMillis_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.Smarthome.Command) {
+          return mergeFrom((org.example.devices.Smarthome.Command)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.Smarthome.Command other) {
+        if (other == org.example.devices.Smarthome.Command.getDefaultInstance()) return this;
+        if (!other.getDeviceId().isEmpty()) {
+          deviceId_ = other.deviceId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getAction().isEmpty()) {
+          action_ = other.action_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getValue().isEmpty()) {
+          value_ = other.value_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getColor().isEmpty()) {
+          color_ = other.color_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.getBrightness().isEmpty()) {
+          brightness_ = other.brightness_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (!other.getChannel().isEmpty()) {
+          channel_ = other.channel_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (!other.getVolume().isEmpty()) {
+          volume_ = other.volume_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (!other.getTemperature().isEmpty()) {
+          temperature_ = other.temperature_;
+          bitField0_ |= 0x00000080;
+          onChanged();
+        }
+        if (!other.getMode().isEmpty()) {
+          mode_ = other.mode_;
+          bitField0_ |= 0x00000100;
+          onChanged();
+        }
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
+        if (!other.getCursor().isEmpty()) {
+          cursor_ = other.cursor_;
+          bitField0_ |= 0x00000400;
+          onChanged();
+        }
+        if (!other.getTypeFilter().isEmpty()) {
+          typeFilter_ = other.typeFilter_;
+          bitField0_ |= 0x00000800;
+          onChanged();
+        }
+        if (!other.getIdPrefix().isEmpty()) {
+          idPrefix_ = other.idPrefix_;
+          bitField0_ |= 0x00001000;
+          onChanged();
+        }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasBatch()) {
+          mergeBatch(other.getBatch());
+        }
+        if (!other.getGroup().isEmpty()) {
+          group_ = other.group_;
+          bitField0_ |= 0x00008000;
+          onChanged();
+        }
+        if (!other.members_.isEmpty()) {
+          if (members_.isEmpty()) {
+            members_ = other.members_;
+            bitField0_ |= 0x00010000;
+          } else {
+            ensureMembersIsMutable();
+            members_.addAll(other.members_);
+          }
+          onChanged();
+        }
+        if (!other.getScene().isEmpty()) {
+          scene_ = other.scene_;
+          bitField0_ |= 0x00020000;
+          onChanged();
+        }
+        if (other.getFromMillis() != 0L) {
+          setFromMillis(other.getFromMillis());
+        }
+        if (other.getToMillis() != 0L) {
+          setToMillis(other.getToMillis());
+        }
+        if (other.getStepMillis() != 0L) {
+          setStepMillis(other.getStepMillis());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                deviceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                action_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
                 value_ = input.readStringRequireUtf8();
                 bitField0_ |= 0x00000004;
                 break;
@@ -3181,6 +4068,69 @@ public final class Smarthome {
                 bitField0_ |= 0x00000100;
                 break;
               } // case 74
+              case 80: {
+                pageSize_ = input.readInt32();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 80
+              case 90: {
+                cursor_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 98: {
+                typeFilter_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 98
+              case 106: {
+                idPrefix_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 112: {
+                requestId_ = input.readUInt64();
+                bitField0_ |= 0x00002000;
+                break;
+              } // case 112
+              case 122: {
+                input.readMessage(
+                    getBatchFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00004000;
+                break;
+              } // case 122
+              case 130: {
+                group_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 130
+              case 138: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureMembersIsMutable();
+                members_.add(s);
+                break;
+              } // case 138
+              case 146: {
+                scene_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 146
+              case 152: {
+                fromMillis_ = input.readInt64();
+                bitField0_ |= 0x00040000;
+                break;
+              } // case 152
+              case 160: {
+                toMillis_ = input.readInt64();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 160
+              case 168: {
+                stepMillis_ = input.readInt64();
+                bitField0_ |= 0x00100000;
+                break;
+              } // case 168
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -3700,256 +4650,9011 @@ public final class Smarthome {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-      /**
-       * <pre>
-       * Canal (para TVs)
-       * </pre>
-       *
-       * <code>string channel = 6;</code>
-       * @param value The channel to set.
-       * @return This builder for chaining.
-       */
-      public Builder setChannel(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        channel_ = value;
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return this;
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>string channel = 6;</code>
+       * @param value The channel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChannel(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        channel_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>string channel = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChannel() {
+        channel_ = getDefaultInstance().getChannel();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>string channel = 6;</code>
+       * @param value The bytes for channel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChannelBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        channel_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object volume_ = "";
+      /**
+       * <pre>
+       * Volume (0-100, para TVs)
+       * </pre>
+       *
+       * <code>string volume = 7;</code>
+       * @return The volume.
+       */
+      public java.lang.String getVolume() {
+        java.lang.Object ref = volume_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          volume_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Volume (0-100, para TVs)
+       * </pre>
+       *
+       * <code>string volume = 7;</code>
+       * @return The bytes for volume.
+       */
+      public com.google.protobuf.ByteString
+          getVolumeBytes() {
+        java.lang.Object ref = volume_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volume_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Volume (0-100, para TVs)
+       * </pre>
+       *
+       * <code>string volume = 7;</code>
+       * @param value The volume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVolume(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        volume_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Volume (0-100, para TVs)
+       * </pre>
+       *
+       * <code>string volume = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVolume() {
+        volume_ = getDefaultInstance().getVolume();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Volume (0-100, para TVs)
+       * </pre>
+       *
+       * <code>string volume = 7;</code>
+       * @param value The bytes for volume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVolumeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        volume_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object temperature_ = "";
+      /**
+       * <pre>
+       * Temperatura (para ar-condicionado)
+       * </pre>
+       *
+       * <code>string temperature = 8;</code>
+       * @return The temperature.
+       */
+      public java.lang.String getTemperature() {
+        java.lang.Object ref = temperature_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          temperature_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Temperatura (para ar-condicionado)
+       * </pre>
+       *
+       * <code>string temperature = 8;</code>
+       * @return The bytes for temperature.
+       */
+      public com.google.protobuf.ByteString
+          getTemperatureBytes() {
+        java.lang.Object ref = temperature_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          temperature_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Temperatura (para ar-condicionado)
+       * </pre>
+       *
+       * <code>string temperature = 8;</code>
+       * @param value The temperature to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTemperature(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        temperature_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Temperatura (para ar-condicionado)
+       * </pre>
+       *
+       * <code>string temperature = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTemperature() {
+        temperature_ = getDefaultInstance().getTemperature();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Temperatura (para ar-condicionado)
+       * </pre>
+       *
+       * <code>string temperature = 8;</code>
+       * @param value The bytes for temperature to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTemperatureBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        temperature_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object mode_ = "";
+      /**
+       * <pre>
+       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * </pre>
+       *
+       * <code>string mode = 9;</code>
+       * @return The mode.
+       */
+      public java.lang.String getMode() {
+        java.lang.Object ref = mode_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          mode_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * </pre>
+       *
+       * <code>string mode = 9;</code>
+       * @return The bytes for mode.
+       */
+      public com.google.protobuf.ByteString
+          getModeBytes() {
+        java.lang.Object ref = mode_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          mode_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * </pre>
+       *
+       * <code>string mode = 9;</code>
+       * @param value The mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMode(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        mode_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * </pre>
+       *
+       * <code>string mode = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMode() {
+        mode_ = getDefaultInstance().getMode();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * </pre>
+       *
+       * <code>string mode = 9;</code>
+       * @param value The bytes for mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        mode_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+
+      private int pageSize_ ;
+      /**
+       * <pre>
+       * Dispositivos por página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>int32 page_size = 10;</code>
+       * @return The pageSize.
+       */
+      @java.lang.Override
+      public int getPageSize() {
+        return pageSize_;
+      }
+      /**
+       * <pre>
+       * Dispositivos por página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>int32 page_size = 10;</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageSize(int value) {
+
+        pageSize_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos por página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>int32 page_size = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageSize() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cursor_ = "";
+      /**
+       * <pre>
+       * next_cursor da página anterior (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string cursor = 11;</code>
+       * @return The cursor.
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * next_cursor da página anterior (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string cursor = 11;</code>
+       * @return The bytes for cursor.
+       */
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * next_cursor da página anterior (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string cursor = 11;</code>
+       * @param value The cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cursor_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * next_cursor da página anterior (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string cursor = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCursor() {
+        cursor_ = getDefaultInstance().getCursor();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * next_cursor da página anterior (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string cursor = 11;</code>
+       * @param value The bytes for cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cursor_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object typeFilter_ = "";
+      /**
+       * <pre>
+       * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string type_filter = 12;</code>
+       * @return The typeFilter.
+       */
+      public java.lang.String getTypeFilter() {
+        java.lang.Object ref = typeFilter_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          typeFilter_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string type_filter = 12;</code>
+       * @return The bytes for typeFilter.
+       */
+      public com.google.protobuf.ByteString
+          getTypeFilterBytes() {
+        java.lang.Object ref = typeFilter_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          typeFilter_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string type_filter = 12;</code>
+       * @param value The typeFilter to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeFilter(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        typeFilter_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string type_filter = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeFilter() {
+        typeFilter_ = getDefaultInstance().getTypeFilter();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Filtra pelo tipo do dispositivo (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string type_filter = 12;</code>
+       * @param value The bytes for typeFilter to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeFilterBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        typeFilter_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object idPrefix_ = "";
+      /**
+       * <pre>
+       * Filtra pelo prefixo do ID (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string id_prefix = 13;</code>
+       * @return The idPrefix.
+       */
+      public java.lang.String getIdPrefix() {
+        java.lang.Object ref = idPrefix_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          idPrefix_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Filtra pelo prefixo do ID (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string id_prefix = 13;</code>
+       * @return The bytes for idPrefix.
+       */
+      public com.google.protobuf.ByteString
+          getIdPrefixBytes() {
+        java.lang.Object ref = idPrefix_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          idPrefix_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Filtra pelo prefixo do ID (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string id_prefix = 13;</code>
+       * @param value The idPrefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdPrefix(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        idPrefix_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Filtra pelo prefixo do ID (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string id_prefix = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdPrefix() {
+        idPrefix_ = getDefaultInstance().getIdPrefix();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Filtra pelo prefixo do ID (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>string id_prefix = 13;</code>
+       * @param value The bytes for idPrefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdPrefixBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        idPrefix_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       * Ecoado na resposta; diferente de 0 permite respostas fora de ordem
+       * </pre>
+       *
+       * <code>uint64 request_id = 14;</code>
+       * @return The requestId.
+       */
+      @java.lang.Override
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       * Ecoado na resposta; diferente de 0 permite respostas fora de ordem
+       * </pre>
+       *
+       * <code>uint64 request_id = 14;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(long value) {
+
+        requestId_ = value;
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Ecoado na resposta; diferente de 0 permite respostas fora de ordem
+       * </pre>
+       *
+       * <code>uint64 request_id = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private org.example.devices.Smarthome.CommandBatch batch_;
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.CommandBatch, org.example.devices.Smarthome.CommandBatch.Builder, org.example.devices.Smarthome.CommandBatchOrBuilder> batchBuilder_;
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       * @return Whether the batch field is set.
+       */
+      public boolean hasBatch() {
+        return ((bitField0_ & 0x00004000) != 0);
+      }
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       * @return The batch.
+       */
+      public org.example.devices.Smarthome.CommandBatch getBatch() {
+        if (batchBuilder_ == null) {
+          return batch_ == null ? org.example.devices.Smarthome.CommandBatch.getDefaultInstance() : batch_;
+        } else {
+          return batchBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       */
+      public Builder setBatch(org.example.devices.Smarthome.CommandBatch value) {
+        if (batchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          batch_ = value;
+        } else {
+          batchBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       */
+      public Builder setBatch(
+          org.example.devices.Smarthome.CommandBatch.Builder builderForValue) {
+        if (batchBuilder_ == null) {
+          batch_ = builderForValue.build();
+        } else {
+          batchBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       */
+      public Builder mergeBatch(org.example.devices.Smarthome.CommandBatch value) {
+        if (batchBuilder_ == null) {
+          if (((bitField0_ & 0x00004000) != 0) &&
+            batch_ != null &&
+            batch_ != org.example.devices.Smarthome.CommandBatch.getDefaultInstance()) {
+            getBatchBuilder().mergeFrom(value);
+          } else {
+            batch_ = value;
+          }
+        } else {
+          batchBuilder_.mergeFrom(value);
+        }
+        if (batch_ != null) {
+          bitField0_ |= 0x00004000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       */
+      public Builder clearBatch() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        batch_ = null;
+        if (batchBuilder_ != null) {
+          batchBuilder_.dispose();
+          batchBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       */
+      public org.example.devices.Smarthome.CommandBatch.Builder getBatchBuilder() {
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return getBatchFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       */
+      public org.example.devices.Smarthome.CommandBatchOrBuilder getBatchOrBuilder() {
+        if (batchBuilder_ != null) {
+          return batchBuilder_.getMessageOrBuilder();
+        } else {
+          return batch_ == null ?
+              org.example.devices.Smarthome.CommandBatch.getDefaultInstance() : batch_;
+        }
+      }
+      /**
+       * <pre>
+       * Comandos do lote (para BATCH) ou da cena (para DEFINE_SCENE)
+       * </pre>
+       *
+       * <code>.org.example.devices.CommandBatch batch = 15;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.CommandBatch, org.example.devices.Smarthome.CommandBatch.Builder, org.example.devices.Smarthome.CommandBatchOrBuilder> 
+          getBatchFieldBuilder() {
+        if (batchBuilder_ == null) {
+          batchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.example.devices.Smarthome.CommandBatch, org.example.devices.Smarthome.CommandBatch.Builder, org.example.devices.Smarthome.CommandBatchOrBuilder>(
+                  getBatch(),
+                  getParentForChildren(),
+                  isClean());
+          batch_ = null;
+        }
+        return batchBuilder_;
+      }
+
+      private java.lang.Object group_ = "";
+      /**
+       * <pre>
+       * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
+       * </pre>
+       *
+       * <code>string group = 16;</code>
+       * @return The group.
+       */
+      public java.lang.String getGroup() {
+        java.lang.Object ref = group_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          group_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
+       * </pre>
+       *
+       * <code>string group = 16;</code>
+       * @return The bytes for group.
+       */
+      public com.google.protobuf.ByteString
+          getGroupBytes() {
+        java.lang.Object ref = group_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          group_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
+       * </pre>
+       *
+       * <code>string group = 16;</code>
+       * @param value The group to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroup(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        group_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
+       * </pre>
+       *
+       * <code>string group = 16;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroup() {
+        group_ = getDefaultInstance().getGroup();
+        bitField0_ = (bitField0_ & ~0x00008000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Grupo (para DEFINE_GROUP); num comando de cena, alvo no lugar de device_id
+       * </pre>
+       *
+       * <code>string group = 16;</code>
+       * @param value The bytes for group to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        group_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList members_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureMembersIsMutable() {
+        if (!members_.isModifiable()) {
+          members_ = new com.google.protobuf.LazyStringArrayList(members_);
+        }
+        bitField0_ |= 0x00010000;
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @return A list containing the members.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getMembersList() {
+        members_.makeImmutable();
+        return members_;
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @return The count of members.
+       */
+      public int getMembersCount() {
+        return members_.size();
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @param index The index of the element to return.
+       * @return The members at the given index.
+       */
+      public java.lang.String getMembers(int index) {
+        return members_.get(index);
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the members at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getMembersBytes(int index) {
+        return members_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @param index The index to set the value at.
+       * @param value The members to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMembers(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureMembersIsMutable();
+        members_.set(index, value);
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @param value The members to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMembers(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureMembersIsMutable();
+        members_.add(value);
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @param values The members to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMembers(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureMembersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, members_);
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMembers() {
+        members_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00010000);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * IDs dos membros do grupo (para DEFINE_GROUP)
+       * </pre>
+       *
+       * <code>repeated string members = 17;</code>
+       * @param value The bytes of the members to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMembersBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureMembersIsMutable();
+        members_.add(value);
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object scene_ = "";
+      /**
+       * <pre>
+       * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+       * </pre>
+       *
+       * <code>string scene = 18;</code>
+       * @return The scene.
+       */
+      public java.lang.String getScene() {
+        java.lang.Object ref = scene_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          scene_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+       * </pre>
+       *
+       * <code>string scene = 18;</code>
+       * @return The bytes for scene.
+       */
+      public com.google.protobuf.ByteString
+          getSceneBytes() {
+        java.lang.Object ref = scene_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          scene_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+       * </pre>
+       *
+       * <code>string scene = 18;</code>
+       * @param value The scene to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScene(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        scene_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+       * </pre>
+       *
+       * <code>string scene = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearScene() {
+        scene_ = getDefaultInstance().getScene();
+        bitField0_ = (bitField0_ & ~0x00020000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Nome da cena (para DEFINE_SCENE e APPLY_SCENE)
+       * </pre>
+       *
+       * <code>string scene = 18;</code>
+       * @param value The bytes for scene to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSceneBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        scene_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+
+      private long fromMillis_ ;
+      /**
+       * <pre>
+       * Início da janela em ms desde a época (para QUERY_RANGE); 0 = uma hora antes do fim
+       * </pre>
+       *
+       * <code>int64 from_millis = 19;</code>
+       * @return The fromMillis.
+       */
+      @java.lang.Override
+      public long getFromMillis() {
+        return fromMillis_;
+      }
+      /**
+       * <pre>
+       * Início da janela em ms desde a época (para QUERY_RANGE); 0 = uma hora antes do fim
+       * </pre>
+       *
+       * <code>int64 from_millis = 19;</code>
+       * @param value The fromMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFromMillis(long value) {
+
+        fromMillis_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Início da janela em ms desde a época (para QUERY_RANGE); 0 = uma hora antes do fim
+       * </pre>
+       *
+       * <code>int64 from_millis = 19;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFromMillis() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        fromMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long toMillis_ ;
+      /**
+       * <pre>
+       * Fim da janela, exclusivo (para QUERY_RANGE); 0 = agora
+       * </pre>
+       *
+       * <code>int64 to_millis = 20;</code>
+       * @return The toMillis.
+       */
+      @java.lang.Override
+      public long getToMillis() {
+        return toMillis_;
+      }
+      /**
+       * <pre>
+       * Fim da janela, exclusivo (para QUERY_RANGE); 0 = agora
+       * </pre>
+       *
+       * <code>int64 to_millis = 20;</code>
+       * @param value The toMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setToMillis(long value) {
+
+        toMillis_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Fim da janela, exclusivo (para QUERY_RANGE); 0 = agora
+       * </pre>
+       *
+       * <code>int64 to_millis = 20;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearToMillis() {
+        bitField0_ = (bitField0_ & ~0x00080000);
+        toMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long stepMillis_ ;
+      /**
+       * <pre>
+       * Largura de cada intervalo (para QUERY_RANGE); 0 = 60 intervalos na janela
+       * </pre>
+       *
+       * <code>int64 step_millis = 21;</code>
+       * @return The stepMillis.
+       */
+      @java.lang.Override
+      public long getStepMillis() {
+        return stepMillis_;
+      }
+      /**
+       * <pre>
+       * Largura de cada intervalo (para QUERY_RANGE); 0 = 60 intervalos na janela
+       * </pre>
+       *
+       * <code>int64 step_millis = 21;</code>
+       * @param value The stepMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStepMillis(long value) {
+
+        stepMillis_ = value;
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Largura de cada intervalo (para QUERY_RANGE); 0 = 60 intervalos na janela
+       * </pre>
+       *
+       * <code>int64 step_millis = 21;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStepMillis() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        stepMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.Command)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.Command)
+    private static final org.example.devices.Smarthome.Command DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.Command();
+    }
+
+    public static org.example.devices.Smarthome.Command getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Command>
+        PARSER = new com.google.protobuf.AbstractParser<Command>() {
+      @java.lang.Override
+      public Command parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Command> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Command> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.Smarthome.Command getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CommandBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.CommandBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    java.util.List<org.example.devices.Smarthome.Command> 
+        getCommandsList();
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    org.example.devices.Smarthome.Command getCommands(int index);
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    int getCommandsCount();
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    java.util.List<? extends org.example.devices.Smarthome.CommandOrBuilder> 
+        getCommandsOrBuilderList();
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    org.example.devices.Smarthome.CommandOrBuilder getCommandsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Aplica todos ou nenhum
+     * </pre>
+     *
+     * <code>bool atomic = 2;</code>
+     * @return The atomic.
+     */
+    boolean getAtomic();
+  }
+  /**
+   * Protobuf type {@code org.example.devices.CommandBatch}
+   */
+  public static final class CommandBatch extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.CommandBatch)
+      CommandBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        CommandBatch.class.getName());
+    }
+    // Use CommandBatch.newBuilder() to construct.
+    private CommandBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CommandBatch() {
+      commands_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_CommandBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_CommandBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.Smarthome.CommandBatch.class, org.example.devices.Smarthome.CommandBatch.Builder.class);
+    }
+
+    public static final int COMMANDS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.example.devices.Smarthome.Command> commands_;
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.example.devices.Smarthome.Command> getCommandsList() {
+      return commands_;
+    }
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.example.devices.Smarthome.CommandOrBuilder> 
+        getCommandsOrBuilderList() {
+      return commands_;
+    }
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    @java.lang.Override
+    public int getCommandsCount() {
+      return commands_.size();
+    }
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.Command getCommands(int index) {
+      return commands_.get(index);
+    }
+    /**
+     * <pre>
+     * Comandos de dispositivo, aplicados em ordem
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Command commands = 1;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.CommandOrBuilder getCommandsOrBuilder(
+        int index) {
+      return commands_.get(index);
+    }
+
+    public static final int ATOMIC_FIELD_NUMBER = 2;
+    private boolean atomic_ = false;
+    /**
+     * <pre>
+     * Aplica todos ou nenhum
+     * </pre>
+     *
+     * <code>bool atomic = 2;</code>
+     * @return The atomic.
+     */
+    @java.lang.Override
+    public boolean getAtomic() {
+      return atomic_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < commands_.size(); i++) {
+        output.writeMessage(1, commands_.get(i));
+      }
+      if (atomic_ != false) {
+        output.writeBool(2, atomic_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < commands_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, commands_.get(i));
+      }
+      if (atomic_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, atomic_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.Smarthome.CommandBatch)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.CommandBatch other = (org.example.devices.Smarthome.CommandBatch) obj;
+
+      if (!getCommandsList()
+          .equals(other.getCommandsList())) return false;
+      if (getAtomic()
+          != other.getAtomic()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getCommandsCount() > 0) {
+        hash = (37 * hash) + COMMANDS_FIELD_NUMBER;
+        hash = (53 * hash) + getCommandsList().hashCode();
+      }
+      hash = (37 * hash) + ATOMIC_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getAtomic());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.Smarthome.CommandBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.Smarthome.CommandBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.CommandBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.Smarthome.CommandBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.example.devices.CommandBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.CommandBatch)
+        org.example.devices.Smarthome.CommandBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_CommandBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_CommandBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.Smarthome.CommandBatch.class, org.example.devices.Smarthome.CommandBatch.Builder.class);
+      }
+
+      // Construct using org.example.devices.Smarthome.CommandBatch.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (commandsBuilder_ == null) {
+          commands_ = java.util.Collections.emptyList();
+        } else {
+          commands_ = null;
+          commandsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        atomic_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_CommandBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.CommandBatch getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.CommandBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.CommandBatch build() {
+        org.example.devices.Smarthome.CommandBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.CommandBatch buildPartial() {
+        org.example.devices.Smarthome.CommandBatch result = new org.example.devices.Smarthome.CommandBatch(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.example.devices.Smarthome.CommandBatch result) {
+        if (commandsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            commands_ = java.util.Collections.unmodifiableList(commands_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.commands_ = commands_;
+        } else {
+          result.commands_ = commandsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.example.devices.Smarthome.CommandBatch result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.atomic_ = atomic_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.Smarthome.CommandBatch) {
+          return mergeFrom((org.example.devices.Smarthome.CommandBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.Smarthome.CommandBatch other) {
+        if (other == org.example.devices.Smarthome.CommandBatch.getDefaultInstance()) return this;
+        if (commandsBuilder_ == null) {
+          if (!other.commands_.isEmpty()) {
+            if (commands_.isEmpty()) {
+              commands_ = other.commands_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureCommandsIsMutable();
+              commands_.addAll(other.commands_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.commands_.isEmpty()) {
+            if (commandsBuilder_.isEmpty()) {
+              commandsBuilder_.dispose();
+              commandsBuilder_ = null;
+              commands_ = other.commands_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              commandsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getCommandsFieldBuilder() : null;
+            } else {
+              commandsBuilder_.addAllMessages(other.commands_);
+            }
+          }
+        }
+        if (other.getAtomic() != false) {
+          setAtomic(other.getAtomic());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.example.devices.Smarthome.Command m =
+                    input.readMessage(
+                        org.example.devices.Smarthome.Command.parser(),
+                        extensionRegistry);
+                if (commandsBuilder_ == null) {
+                  ensureCommandsIsMutable();
+                  commands_.add(m);
+                } else {
+                  commandsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              case 16: {
+                atomic_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.example.devices.Smarthome.Command> commands_ =
+        java.util.Collections.emptyList();
+      private void ensureCommandsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          commands_ = new java.util.ArrayList<org.example.devices.Smarthome.Command>(commands_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.Smarthome.Command, org.example.devices.Smarthome.Command.Builder, org.example.devices.Smarthome.CommandOrBuilder> commandsBuilder_;
+
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public java.util.List<org.example.devices.Smarthome.Command> getCommandsList() {
+        if (commandsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(commands_);
+        } else {
+          return commandsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public int getCommandsCount() {
+        if (commandsBuilder_ == null) {
+          return commands_.size();
+        } else {
+          return commandsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public org.example.devices.Smarthome.Command getCommands(int index) {
+        if (commandsBuilder_ == null) {
+          return commands_.get(index);
+        } else {
+          return commandsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder setCommands(
+          int index, org.example.devices.Smarthome.Command value) {
+        if (commandsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCommandsIsMutable();
+          commands_.set(index, value);
+          onChanged();
+        } else {
+          commandsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder setCommands(
+          int index, org.example.devices.Smarthome.Command.Builder builderForValue) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          commands_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          commandsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder addCommands(org.example.devices.Smarthome.Command value) {
+        if (commandsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCommandsIsMutable();
+          commands_.add(value);
+          onChanged();
+        } else {
+          commandsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder addCommands(
+          int index, org.example.devices.Smarthome.Command value) {
+        if (commandsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCommandsIsMutable();
+          commands_.add(index, value);
+          onChanged();
+        } else {
+          commandsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder addCommands(
+          org.example.devices.Smarthome.Command.Builder builderForValue) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          commands_.add(builderForValue.build());
+          onChanged();
+        } else {
+          commandsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder addCommands(
+          int index, org.example.devices.Smarthome.Command.Builder builderForValue) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          commands_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          commandsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder addAllCommands(
+          java.lang.Iterable<? extends org.example.devices.Smarthome.Command> values) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, commands_);
+          onChanged();
+        } else {
+          commandsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder clearCommands() {
+        if (commandsBuilder_ == null) {
+          commands_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          commandsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public Builder removeCommands(int index) {
+        if (commandsBuilder_ == null) {
+          ensureCommandsIsMutable();
+          commands_.remove(index);
+          onChanged();
+        } else {
+          commandsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public org.example.devices.Smarthome.Command.Builder getCommandsBuilder(
+          int index) {
+        return getCommandsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public org.example.devices.Smarthome.CommandOrBuilder getCommandsOrBuilder(
+          int index) {
+        if (commandsBuilder_ == null) {
+          return commands_.get(index);  } else {
+          return commandsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public java.util.List<? extends org.example.devices.Smarthome.CommandOrBuilder> 
+           getCommandsOrBuilderList() {
+        if (commandsBuilder_ != null) {
+          return commandsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(commands_);
+        }
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public org.example.devices.Smarthome.Command.Builder addCommandsBuilder() {
+        return getCommandsFieldBuilder().addBuilder(
+            org.example.devices.Smarthome.Command.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public org.example.devices.Smarthome.Command.Builder addCommandsBuilder(
+          int index) {
+        return getCommandsFieldBuilder().addBuilder(
+            index, org.example.devices.Smarthome.Command.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Comandos de dispositivo, aplicados em ordem
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Command commands = 1;</code>
+       */
+      public java.util.List<org.example.devices.Smarthome.Command.Builder> 
+           getCommandsBuilderList() {
+        return getCommandsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.Smarthome.Command, org.example.devices.Smarthome.Command.Builder, org.example.devices.Smarthome.CommandOrBuilder> 
+          getCommandsFieldBuilder() {
+        if (commandsBuilder_ == null) {
+          commandsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.example.devices.Smarthome.Command, org.example.devices.Smarthome.Command.Builder, org.example.devices.Smarthome.CommandOrBuilder>(
+                  commands_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          commands_ = null;
+        }
+        return commandsBuilder_;
+      }
+
+      private boolean atomic_ ;
+      /**
+       * <pre>
+       * Aplica todos ou nenhum
+       * </pre>
+       *
+       * <code>bool atomic = 2;</code>
+       * @return The atomic.
+       */
+      @java.lang.Override
+      public boolean getAtomic() {
+        return atomic_;
+      }
+      /**
+       * <pre>
+       * Aplica todos ou nenhum
+       * </pre>
+       *
+       * <code>bool atomic = 2;</code>
+       * @param value The atomic to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAtomic(boolean value) {
+
+        atomic_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Aplica todos ou nenhum
+       * </pre>
+       *
+       * <code>bool atomic = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAtomic() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        atomic_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.CommandBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.CommandBatch)
+    private static final org.example.devices.Smarthome.CommandBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.CommandBatch();
+    }
+
+    public static org.example.devices.Smarthome.CommandBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CommandBatch>
+        PARSER = new com.google.protobuf.AbstractParser<CommandBatch>() {
+      @java.lang.Override
+      public CommandBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CommandBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CommandBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.Smarthome.CommandBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CommandResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.CommandResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Dispositivo do comando
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
+     */
+    java.lang.String getDeviceId();
+    /**
+     * <pre>
+     * Dispositivo do comando
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
+     */
+    com.google.protobuf.ByteString
+        getDeviceIdBytes();
+
+    /**
+     * <pre>
+     * "OK" ou "Error"
+     * </pre>
+     *
+     * <code>string status = 2;</code>
+     * @return The status.
+     */
+    java.lang.String getStatus();
+    /**
+     * <pre>
+     * "OK" ou "Error"
+     * </pre>
+     *
+     * <code>string status = 2;</code>
+     * @return The bytes for status.
+     */
+    com.google.protobuf.ByteString
+        getStatusBytes();
+
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    java.lang.String getMessage();
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+  }
+  /**
+   * Protobuf type {@code org.example.devices.CommandResult}
+   */
+  public static final class CommandResult extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.CommandResult)
+      CommandResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        CommandResult.class.getName());
+    }
+    // Use CommandResult.newBuilder() to construct.
+    private CommandResult(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CommandResult() {
+      deviceId_ = "";
+      status_ = "";
+      message_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_CommandResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_CommandResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.Smarthome.CommandResult.class, org.example.devices.Smarthome.CommandResult.Builder.class);
+    }
+
+    public static final int DEVICE_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object deviceId_ = "";
+    /**
+     * <pre>
+     * Dispositivo do comando
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
+     */
+    @java.lang.Override
+    public java.lang.String getDeviceId() {
+      java.lang.Object ref = deviceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        deviceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Dispositivo do comando
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDeviceIdBytes() {
+      java.lang.Object ref = deviceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        deviceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object status_ = "";
+    /**
+     * <pre>
+     * "OK" ou "Error"
+     * </pre>
+     *
+     * <code>string status = 2;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * "OK" ou "Error"
+     * </pre>
+     *
+     * <code>string status = 2;</code>
+     * @return The bytes for status.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object message_ = "";
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    @java.lang.Override
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, deviceId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(status_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, message_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, deviceId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(status_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, message_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.Smarthome.CommandResult)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.CommandResult other = (org.example.devices.Smarthome.CommandResult) obj;
+
+      if (!getDeviceId()
+          .equals(other.getDeviceId())) return false;
+      if (!getStatus()
+          .equals(other.getStatus())) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DEVICE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDeviceId().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatus().hashCode();
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.Smarthome.CommandResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.Smarthome.CommandResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.Smarthome.CommandResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.CommandResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.Smarthome.CommandResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.example.devices.CommandResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.CommandResult)
+        org.example.devices.Smarthome.CommandResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_CommandResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_CommandResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.Smarthome.CommandResult.class, org.example.devices.Smarthome.CommandResult.Builder.class);
+      }
+
+      // Construct using org.example.devices.Smarthome.CommandResult.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        deviceId_ = "";
+        status_ = "";
+        message_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_CommandResult_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.CommandResult getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.CommandResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.CommandResult build() {
+        org.example.devices.Smarthome.CommandResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.CommandResult buildPartial() {
+        org.example.devices.Smarthome.CommandResult result = new org.example.devices.Smarthome.CommandResult(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.example.devices.Smarthome.CommandResult result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.deviceId_ = deviceId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.status_ = status_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.message_ = message_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.Smarthome.CommandResult) {
+          return mergeFrom((org.example.devices.Smarthome.CommandResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.Smarthome.CommandResult other) {
+        if (other == org.example.devices.Smarthome.CommandResult.getDefaultInstance()) return this;
+        if (!other.getDeviceId().isEmpty()) {
+          deviceId_ = other.deviceId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getStatus().isEmpty()) {
+          status_ = other.status_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                deviceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                status_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                message_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object deviceId_ = "";
+      /**
+       * <pre>
+       * Dispositivo do comando
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return The deviceId.
+       */
+      public java.lang.String getDeviceId() {
+        java.lang.Object ref = deviceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          deviceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivo do comando
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return The bytes for deviceId.
+       */
+      public com.google.protobuf.ByteString
+          getDeviceIdBytes() {
+        java.lang.Object ref = deviceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          deviceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivo do comando
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @param value The deviceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeviceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        deviceId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivo do comando
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDeviceId() {
+        deviceId_ = getDefaultInstance().getDeviceId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivo do comando
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @param value The bytes for deviceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeviceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        deviceId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object status_ = "";
+      /**
+       * <pre>
+       * "OK" ou "Error"
+       * </pre>
+       *
+       * <code>string status = 2;</code>
+       * @return The status.
+       */
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          status_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * "OK" ou "Error"
+       * </pre>
+       *
+       * <code>string status = 2;</code>
+       * @return The bytes for status.
+       */
+      public com.google.protobuf.ByteString
+          getStatusBytes() {
+        java.lang.Object ref = status_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          status_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * "OK" ou "Error"
+       * </pre>
+       *
+       * <code>string status = 2;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        status_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * "OK" ou "Error"
+       * </pre>
+       *
+       * <code>string status = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        status_ = getDefaultInstance().getStatus();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * "OK" ou "Error"
+       * </pre>
+       *
+       * <code>string status = 2;</code>
+       * @param value The bytes for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        status_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 3;</code>
+       * @return The message.
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 3;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 3;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        message_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
+        message_ = getDefaultInstance().getMessage();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 3;</code>
+       * @param value The bytes for message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        message_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.CommandResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.CommandResult)
+    private static final org.example.devices.Smarthome.CommandResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.CommandResult();
+    }
+
+    public static org.example.devices.Smarthome.CommandResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CommandResult>
+        PARSER = new com.google.protobuf.AbstractParser<CommandResult>() {
+      @java.lang.Override
+      public CommandResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CommandResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CommandResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.Smarthome.CommandResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Status do comando (ex.: "OK", "Erro")
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The status.
+     */
+    java.lang.String getStatus();
+    /**
+     * <pre>
+     * Status do comando (ex.: "OK", "Erro")
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The bytes for status.
+     */
+    com.google.protobuf.ByteString
+        getStatusBytes();
+
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 2;</code>
+     * @return The message.
+     */
+    java.lang.String getMessage();
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    java.util.List<org.example.devices.Smarthome.Device> 
+        getDevicesList();
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    org.example.devices.Smarthome.Device getDevices(int index);
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    int getDevicesCount();
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    java.util.List<? extends org.example.devices.Smarthome.DeviceOrBuilder> 
+        getDevicesOrBuilderList();
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    org.example.devices.Smarthome.DeviceOrBuilder getDevicesOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Cursor da próxima página; vazio na última
+     * </pre>
+     *
+     * <code>string next_cursor = 4;</code>
+     * @return The nextCursor.
+     */
+    java.lang.String getNextCursor();
+    /**
+     * <pre>
+     * Cursor da próxima página; vazio na última
+     * </pre>
+     *
+     * <code>string next_cursor = 4;</code>
+     * @return The bytes for nextCursor.
+     */
+    com.google.protobuf.ByteString
+        getNextCursorBytes();
+
+    /**
+     * <pre>
+     * request_id do comando respondido
+     * </pre>
+     *
+     * <code>uint64 request_id = 5;</code>
+     * @return The requestId.
+     */
+    long getRequestId();
+
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    java.util.List<org.example.devices.Smarthome.CommandResult> 
+        getResultsList();
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    org.example.devices.Smarthome.CommandResult getResults(int index);
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    int getResultsCount();
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    java.util.List<? extends org.example.devices.Smarthome.CommandResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    org.example.devices.Smarthome.CommandResultOrBuilder getResultsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    java.util.List<org.example.devices.Smarthome.Bucket> 
+        getBucketsList();
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    org.example.devices.Smarthome.Bucket getBuckets(int index);
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    int getBucketsCount();
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    java.util.List<? extends org.example.devices.Smarthome.BucketOrBuilder> 
+        getBucketsOrBuilderList();
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    org.example.devices.Smarthome.BucketOrBuilder getBucketsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Resposta dos dispositivos ao Gateway
+   * </pre>
+   *
+   * Protobuf type {@code org.example.devices.Response}
+   */
+  public static final class Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.Response)
+      ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Response.class.getName());
+    }
+    // Use Response.newBuilder() to construct.
+    private Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Response() {
+      status_ = "";
+      message_ = "";
+      devices_ = java.util.Collections.emptyList();
+      nextCursor_ = "";
+      results_ = java.util.Collections.emptyList();
+      buckets_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.Smarthome.Response.class, org.example.devices.Smarthome.Response.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object status_ = "";
+    /**
+     * <pre>
+     * Status do comando (ex.: "OK", "Erro")
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Status do comando (ex.: "OK", "Erro")
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The bytes for status.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object message_ = "";
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 2;</code>
+     * @return The message.
+     */
+    @java.lang.Override
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DEVICES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.example.devices.Smarthome.Device> devices_;
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.example.devices.Smarthome.Device> getDevicesList() {
+      return devices_;
+    }
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.example.devices.Smarthome.DeviceOrBuilder> 
+        getDevicesOrBuilderList() {
+      return devices_;
+    }
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public int getDevicesCount() {
+      return devices_.size();
+    }
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.Device getDevices(int index) {
+      return devices_.get(index);
+    }
+    /**
+     * <pre>
+     * Dispositivos da página (para LIST_PAGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.DeviceOrBuilder getDevicesOrBuilder(
+        int index) {
+      return devices_.get(index);
+    }
+
+    public static final int NEXT_CURSOR_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object nextCursor_ = "";
+    /**
+     * <pre>
+     * Cursor da próxima página; vazio na última
+     * </pre>
+     *
+     * <code>string next_cursor = 4;</code>
+     * @return The nextCursor.
+     */
+    @java.lang.Override
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextCursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Cursor da próxima página; vazio na última
+     * </pre>
+     *
+     * <code>string next_cursor = 4;</code>
+     * @return The bytes for nextCursor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 5;
+    private long requestId_ = 0L;
+    /**
+     * <pre>
+     * request_id do comando respondido
+     * </pre>
+     *
+     * <code>uint64 request_id = 5;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private java.util.List<org.example.devices.Smarthome.CommandResult> results_;
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.example.devices.Smarthome.CommandResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.example.devices.Smarthome.CommandResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    @java.lang.Override
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.CommandResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <pre>
+     * Um resultado por comando do lote (para BATCH)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.CommandResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    public static final int BUCKETS_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private java.util.List<org.example.devices.Smarthome.Bucket> buckets_;
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.example.devices.Smarthome.Bucket> getBucketsList() {
+      return buckets_;
+    }
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.example.devices.Smarthome.BucketOrBuilder> 
+        getBucketsOrBuilderList() {
+      return buckets_;
+    }
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    @java.lang.Override
+    public int getBucketsCount() {
+      return buckets_.size();
+    }
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.Bucket getBuckets(int index) {
+      return buckets_.get(index);
+    }
+    /**
+     * <pre>
+     * Leituras agregadas por intervalo (para QUERY_RANGE)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.BucketOrBuilder getBucketsOrBuilder(
+        int index) {
+      return buckets_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(status_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, message_);
+      }
+      for (int i = 0; i < devices_.size(); i++) {
+        output.writeMessage(3, devices_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(nextCursor_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, nextCursor_);
+      }
+      if (requestId_ != 0L) {
+        output.writeUInt64(5, requestId_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(6, results_.get(i));
+      }
+      for (int i = 0; i < buckets_.size(); i++) {
+        output.writeMessage(7, buckets_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(status_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, message_);
+      }
+      for (int i = 0; i < devices_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, devices_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(nextCursor_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, nextCursor_);
+      }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, requestId_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, results_.get(i));
+      }
+      for (int i = 0; i < buckets_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, buckets_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.Smarthome.Response)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.Response other = (org.example.devices.Smarthome.Response) obj;
+
+      if (!getStatus()
+          .equals(other.getStatus())) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (!getDevicesList()
+          .equals(other.getDevicesList())) return false;
+      if (!getNextCursor()
+          .equals(other.getNextCursor())) return false;
+      if (getRequestId()
+          != other.getRequestId()) return false;
+      if (!getResultsList()
+          .equals(other.getResultsList())) return false;
+      if (!getBucketsList()
+          .equals(other.getBucketsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatus().hashCode();
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      if (getDevicesCount() > 0) {
+        hash = (37 * hash) + DEVICES_FIELD_NUMBER;
+        hash = (53 * hash) + getDevicesList().hashCode();
+      }
+      hash = (37 * hash) + NEXT_CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getNextCursor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      if (getBucketsCount() > 0) {
+        hash = (37 * hash) + BUCKETS_FIELD_NUMBER;
+        hash = (53 * hash) + getBucketsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.Smarthome.Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.Smarthome.Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.Smarthome.Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.Smarthome.Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Resposta dos dispositivos ao Gateway
+     * </pre>
+     *
+     * Protobuf type {@code org.example.devices.Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.Response)
+        org.example.devices.Smarthome.ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.Smarthome.Response.class, org.example.devices.Smarthome.Response.Builder.class);
+      }
+
+      // Construct using org.example.devices.Smarthome.Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = "";
+        message_ = "";
+        if (devicesBuilder_ == null) {
+          devices_ = java.util.Collections.emptyList();
+        } else {
+          devices_ = null;
+          devicesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        nextCursor_ = "";
+        requestId_ = 0L;
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+        } else {
+          results_ = null;
+          resultsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (bucketsBuilder_ == null) {
+          buckets_ = java.util.Collections.emptyList();
+        } else {
+          buckets_ = null;
+          bucketsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Response getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Response build() {
+        org.example.devices.Smarthome.Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Response buildPartial() {
+        org.example.devices.Smarthome.Response result = new org.example.devices.Smarthome.Response(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.example.devices.Smarthome.Response result) {
+        if (devicesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            devices_ = java.util.Collections.unmodifiableList(devices_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.devices_ = devices_;
+        } else {
+          result.devices_ = devicesBuilder_.build();
+        }
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+        if (bucketsBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            buckets_ = java.util.Collections.unmodifiableList(buckets_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.buckets_ = buckets_;
+        } else {
+          result.buckets_ = bucketsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.example.devices.Smarthome.Response result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = status_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.message_ = message_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.nextCursor_ = nextCursor_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.requestId_ = requestId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.Smarthome.Response) {
+          return mergeFrom((org.example.devices.Smarthome.Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.Smarthome.Response other) {
+        if (other == org.example.devices.Smarthome.Response.getDefaultInstance()) return this;
+        if (!other.getStatus().isEmpty()) {
+          status_ = other.status_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (devicesBuilder_ == null) {
+          if (!other.devices_.isEmpty()) {
+            if (devices_.isEmpty()) {
+              devices_ = other.devices_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureDevicesIsMutable();
+              devices_.addAll(other.devices_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.devices_.isEmpty()) {
+            if (devicesBuilder_.isEmpty()) {
+              devicesBuilder_.dispose();
+              devicesBuilder_ = null;
+              devices_ = other.devices_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              devicesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDevicesFieldBuilder() : null;
+            } else {
+              devicesBuilder_.addAllMessages(other.devices_);
+            }
+          }
+        }
+        if (!other.getNextCursor().isEmpty()) {
+          nextCursor_ = other.nextCursor_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        if (bucketsBuilder_ == null) {
+          if (!other.buckets_.isEmpty()) {
+            if (buckets_.isEmpty()) {
+              buckets_ = other.buckets_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureBucketsIsMutable();
+              buckets_.addAll(other.buckets_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.buckets_.isEmpty()) {
+            if (bucketsBuilder_.isEmpty()) {
+              bucketsBuilder_.dispose();
+              bucketsBuilder_ = null;
+              buckets_ = other.buckets_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              bucketsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getBucketsFieldBuilder() : null;
+            } else {
+              bucketsBuilder_.addAllMessages(other.buckets_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                status_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                message_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                org.example.devices.Smarthome.Device m =
+                    input.readMessage(
+                        org.example.devices.Smarthome.Device.parser(),
+                        extensionRegistry);
+                if (devicesBuilder_ == null) {
+                  ensureDevicesIsMutable();
+                  devices_.add(m);
+                } else {
+                  devicesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 34: {
+                nextCursor_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                requestId_ = input.readUInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 50: {
+                org.example.devices.Smarthome.CommandResult m =
+                    input.readMessage(
+                        org.example.devices.Smarthome.CommandResult.parser(),
+                        extensionRegistry);
+                if (resultsBuilder_ == null) {
+                  ensureResultsIsMutable();
+                  results_.add(m);
+                } else {
+                  resultsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 50
+              case 58: {
+                org.example.devices.Smarthome.Bucket m =
+                    input.readMessage(
+                        org.example.devices.Smarthome.Bucket.parser(),
+                        extensionRegistry);
+                if (bucketsBuilder_ == null) {
+                  ensureBucketsIsMutable();
+                  buckets_.add(m);
+                } else {
+                  bucketsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object status_ = "";
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Erro")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return The status.
+       */
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          status_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Erro")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return The bytes for status.
+       */
+      public com.google.protobuf.ByteString
+          getStatusBytes() {
+        java.lang.Object ref = status_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          status_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Erro")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        status_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Erro")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        status_ = getDefaultInstance().getStatus();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Erro")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @param value The bytes for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        status_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @return The message.
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        message_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
+        message_ = getDefaultInstance().getMessage();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @param value The bytes for message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        message_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.example.devices.Smarthome.Device> devices_ =
+        java.util.Collections.emptyList();
+      private void ensureDevicesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          devices_ = new java.util.ArrayList<org.example.devices.Smarthome.Device>(devices_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.Smarthome.Device, org.example.devices.Smarthome.Device.Builder, org.example.devices.Smarthome.DeviceOrBuilder> devicesBuilder_;
+
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public java.util.List<org.example.devices.Smarthome.Device> getDevicesList() {
+        if (devicesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(devices_);
+        } else {
+          return devicesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public int getDevicesCount() {
+        if (devicesBuilder_ == null) {
+          return devices_.size();
+        } else {
+          return devicesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public org.example.devices.Smarthome.Device getDevices(int index) {
+        if (devicesBuilder_ == null) {
+          return devices_.get(index);
+        } else {
+          return devicesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder setDevices(
+          int index, org.example.devices.Smarthome.Device value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.set(index, value);
+          onChanged();
+        } else {
+          devicesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder setDevices(
+          int index, org.example.devices.Smarthome.Device.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder addDevices(org.example.devices.Smarthome.Device value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.add(value);
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder addDevices(
+          int index, org.example.devices.Smarthome.Device value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.add(index, value);
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder addDevices(
+          org.example.devices.Smarthome.Device.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.add(builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder addDevices(
+          int index, org.example.devices.Smarthome.Device.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder addAllDevices(
+          java.lang.Iterable<? extends org.example.devices.Smarthome.Device> values) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, devices_);
+          onChanged();
+        } else {
+          devicesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder clearDevices() {
+        if (devicesBuilder_ == null) {
+          devices_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          devicesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public Builder removeDevices(int index) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.remove(index);
+          onChanged();
+        } else {
+          devicesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public org.example.devices.Smarthome.Device.Builder getDevicesBuilder(
+          int index) {
+        return getDevicesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public org.example.devices.Smarthome.DeviceOrBuilder getDevicesOrBuilder(
+          int index) {
+        if (devicesBuilder_ == null) {
+          return devices_.get(index);  } else {
+          return devicesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public java.util.List<? extends org.example.devices.Smarthome.DeviceOrBuilder> 
+           getDevicesOrBuilderList() {
+        if (devicesBuilder_ != null) {
+          return devicesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(devices_);
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public org.example.devices.Smarthome.Device.Builder addDevicesBuilder() {
+        return getDevicesFieldBuilder().addBuilder(
+            org.example.devices.Smarthome.Device.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public org.example.devices.Smarthome.Device.Builder addDevicesBuilder(
+          int index) {
+        return getDevicesFieldBuilder().addBuilder(
+            index, org.example.devices.Smarthome.Device.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Dispositivos da página (para LIST_PAGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Device devices = 3;</code>
+       */
+      public java.util.List<org.example.devices.Smarthome.Device.Builder> 
+           getDevicesBuilderList() {
+        return getDevicesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.Smarthome.Device, org.example.devices.Smarthome.Device.Builder, org.example.devices.Smarthome.DeviceOrBuilder> 
+          getDevicesFieldBuilder() {
+        if (devicesBuilder_ == null) {
+          devicesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.example.devices.Smarthome.Device, org.example.devices.Smarthome.Device.Builder, org.example.devices.Smarthome.DeviceOrBuilder>(
+                  devices_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          devices_ = null;
+        }
+        return devicesBuilder_;
+      }
+
+      private java.lang.Object nextCursor_ = "";
+      /**
+       * <pre>
+       * Cursor da próxima página; vazio na última
+       * </pre>
+       *
+       * <code>string next_cursor = 4;</code>
+       * @return The nextCursor.
+       */
+      public java.lang.String getNextCursor() {
+        java.lang.Object ref = nextCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Cursor da próxima página; vazio na última
+       * </pre>
+       *
+       * <code>string next_cursor = 4;</code>
+       * @return The bytes for nextCursor.
+       */
+      public com.google.protobuf.ByteString
+          getNextCursorBytes() {
+        java.lang.Object ref = nextCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Cursor da próxima página; vazio na última
+       * </pre>
+       *
+       * <code>string next_cursor = 4;</code>
+       * @param value The nextCursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextCursor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        nextCursor_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Cursor da próxima página; vazio na última
+       * </pre>
+       *
+       * <code>string next_cursor = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextCursor() {
+        nextCursor_ = getDefaultInstance().getNextCursor();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Cursor da próxima página; vazio na última
+       * </pre>
+       *
+       * <code>string next_cursor = 4;</code>
+       * @param value The bytes for nextCursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        nextCursor_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       * request_id do comando respondido
+       * </pre>
+       *
+       * <code>uint64 request_id = 5;</code>
+       * @return The requestId.
+       */
+      @java.lang.Override
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       * request_id do comando respondido
+       * </pre>
+       *
+       * <code>uint64 request_id = 5;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(long value) {
+
+        requestId_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * request_id do comando respondido
+       * </pre>
+       *
+       * <code>uint64 request_id = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.example.devices.Smarthome.CommandResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          results_ = new java.util.ArrayList<org.example.devices.Smarthome.CommandResult>(results_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.Smarthome.CommandResult, org.example.devices.Smarthome.CommandResult.Builder, org.example.devices.Smarthome.CommandResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public java.util.List<org.example.devices.Smarthome.CommandResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public org.example.devices.Smarthome.CommandResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder setResults(
+          int index, org.example.devices.Smarthome.CommandResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder setResults(
+          int index, org.example.devices.Smarthome.CommandResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder addResults(org.example.devices.Smarthome.CommandResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder addResults(
+          int index, org.example.devices.Smarthome.CommandResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder addResults(
+          org.example.devices.Smarthome.CommandResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder addResults(
+          int index, org.example.devices.Smarthome.CommandResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends org.example.devices.Smarthome.CommandResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public org.example.devices.Smarthome.CommandResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public org.example.devices.Smarthome.CommandResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public java.util.List<? extends org.example.devices.Smarthome.CommandResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public org.example.devices.Smarthome.CommandResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            org.example.devices.Smarthome.CommandResult.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public org.example.devices.Smarthome.CommandResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, org.example.devices.Smarthome.CommandResult.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Um resultado por comando do lote (para BATCH)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.CommandResult results = 6;</code>
+       */
+      public java.util.List<org.example.devices.Smarthome.CommandResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.Smarthome.CommandResult, org.example.devices.Smarthome.CommandResult.Builder, org.example.devices.Smarthome.CommandResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.example.devices.Smarthome.CommandResult, org.example.devices.Smarthome.CommandResult.Builder, org.example.devices.Smarthome.CommandResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+
+      private java.util.List<org.example.devices.Smarthome.Bucket> buckets_ =
+        java.util.Collections.emptyList();
+      private void ensureBucketsIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          buckets_ = new java.util.ArrayList<org.example.devices.Smarthome.Bucket>(buckets_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.Smarthome.Bucket, org.example.devices.Smarthome.Bucket.Builder, org.example.devices.Smarthome.BucketOrBuilder> bucketsBuilder_;
+
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public java.util.List<org.example.devices.Smarthome.Bucket> getBucketsList() {
+        if (bucketsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(buckets_);
+        } else {
+          return bucketsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public int getBucketsCount() {
+        if (bucketsBuilder_ == null) {
+          return buckets_.size();
+        } else {
+          return bucketsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public org.example.devices.Smarthome.Bucket getBuckets(int index) {
+        if (bucketsBuilder_ == null) {
+          return buckets_.get(index);
+        } else {
+          return bucketsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder setBuckets(
+          int index, org.example.devices.Smarthome.Bucket value) {
+        if (bucketsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBucketsIsMutable();
+          buckets_.set(index, value);
+          onChanged();
+        } else {
+          bucketsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder setBuckets(
+          int index, org.example.devices.Smarthome.Bucket.Builder builderForValue) {
+        if (bucketsBuilder_ == null) {
+          ensureBucketsIsMutable();
+          buckets_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          bucketsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder addBuckets(org.example.devices.Smarthome.Bucket value) {
+        if (bucketsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBucketsIsMutable();
+          buckets_.add(value);
+          onChanged();
+        } else {
+          bucketsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder addBuckets(
+          int index, org.example.devices.Smarthome.Bucket value) {
+        if (bucketsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBucketsIsMutable();
+          buckets_.add(index, value);
+          onChanged();
+        } else {
+          bucketsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder addBuckets(
+          org.example.devices.Smarthome.Bucket.Builder builderForValue) {
+        if (bucketsBuilder_ == null) {
+          ensureBucketsIsMutable();
+          buckets_.add(builderForValue.build());
+          onChanged();
+        } else {
+          bucketsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder addBuckets(
+          int index, org.example.devices.Smarthome.Bucket.Builder builderForValue) {
+        if (bucketsBuilder_ == null) {
+          ensureBucketsIsMutable();
+          buckets_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          bucketsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder addAllBuckets(
+          java.lang.Iterable<? extends org.example.devices.Smarthome.Bucket> values) {
+        if (bucketsBuilder_ == null) {
+          ensureBucketsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, buckets_);
+          onChanged();
+        } else {
+          bucketsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder clearBuckets() {
+        if (bucketsBuilder_ == null) {
+          buckets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          bucketsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public Builder removeBuckets(int index) {
+        if (bucketsBuilder_ == null) {
+          ensureBucketsIsMutable();
+          buckets_.remove(index);
+          onChanged();
+        } else {
+          bucketsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public org.example.devices.Smarthome.Bucket.Builder getBucketsBuilder(
+          int index) {
+        return getBucketsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public org.example.devices.Smarthome.BucketOrBuilder getBucketsOrBuilder(
+          int index) {
+        if (bucketsBuilder_ == null) {
+          return buckets_.get(index);  } else {
+          return bucketsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public java.util.List<? extends org.example.devices.Smarthome.BucketOrBuilder> 
+           getBucketsOrBuilderList() {
+        if (bucketsBuilder_ != null) {
+          return bucketsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(buckets_);
+        }
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public org.example.devices.Smarthome.Bucket.Builder addBucketsBuilder() {
+        return getBucketsFieldBuilder().addBuilder(
+            org.example.devices.Smarthome.Bucket.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public org.example.devices.Smarthome.Bucket.Builder addBucketsBuilder(
+          int index) {
+        return getBucketsFieldBuilder().addBuilder(
+            index, org.example.devices.Smarthome.Bucket.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Leituras agregadas por intervalo (para QUERY_RANGE)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.Bucket buckets = 7;</code>
+       */
+      public java.util.List<org.example.devices.Smarthome.Bucket.Builder> 
+           getBucketsBuilderList() {
+        return getBucketsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.Smarthome.Bucket, org.example.devices.Smarthome.Bucket.Builder, org.example.devices.Smarthome.BucketOrBuilder> 
+          getBucketsFieldBuilder() {
+        if (bucketsBuilder_ == null) {
+          bucketsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.example.devices.Smarthome.Bucket, org.example.devices.Smarthome.Bucket.Builder, org.example.devices.Smarthome.BucketOrBuilder>(
+                  buckets_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          buckets_ = null;
+        }
+        return bucketsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.Response)
+    private static final org.example.devices.Smarthome.Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.Response();
+    }
+
+    public static org.example.devices.Smarthome.Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Response>
+        PARSER = new com.google.protobuf.AbstractParser<Response>() {
+      @java.lang.Override
+      public Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.Smarthome.Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BucketOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.Bucket)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 start_millis = 1;</code>
+     * @return The startMillis.
+     */
+    long getStartMillis();
+
+    /**
+     * <code>double min = 2;</code>
+     * @return The min.
+     */
+    double getMin();
+
+    /**
+     * <code>double max = 3;</code>
+     * @return The max.
+     */
+    double getMax();
+
+    /**
+     * <code>double avg = 4;</code>
+     * @return The avg.
+     */
+    double getAvg();
+
+    /**
+     * <pre>
+     * Leituras no intervalo; intervalos sem leituras são omitidos
+     * </pre>
+     *
+     * <code>int64 count = 5;</code>
+     * @return The count.
+     */
+    long getCount();
+  }
+  /**
+   * <pre>
+   * Leituras de um sensor num intervalo [start_millis, start_millis + step_millis)
+   * </pre>
+   *
+   * Protobuf type {@code org.example.devices.Bucket}
+   */
+  public static final class Bucket extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.Bucket)
+      BucketOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Bucket.class.getName());
+    }
+    // Use Bucket.newBuilder() to construct.
+    private Bucket(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Bucket() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_Bucket_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_Bucket_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.Smarthome.Bucket.class, org.example.devices.Smarthome.Bucket.Builder.class);
+    }
+
+    public static final int START_MILLIS_FIELD_NUMBER = 1;
+    private long startMillis_ = 0L;
+    /**
+     * <code>int64 start_millis = 1;</code>
+     * @return The startMillis.
+     */
+    @java.lang.Override
+    public long getStartMillis() {
+      return startMillis_;
+    }
+
+    public static final int MIN_FIELD_NUMBER = 2;
+    private double min_ = 0D;
+    /**
+     * <code>double min = 2;</code>
+     * @return The min.
+     */
+    @java.lang.Override
+    public double getMin() {
+      return min_;
+    }
+
+    public static final int MAX_FIELD_NUMBER = 3;
+    private double max_ = 0D;
+    /**
+     * <code>double max = 3;</code>
+     * @return The max.
+     */
+    @java.lang.Override
+    public double getMax() {
+      return max_;
+    }
+
+    public static final int AVG_FIELD_NUMBER = 4;
+    private double avg_ = 0D;
+    /**
+     * <code>double avg = 4;</code>
+     * @return The avg.
+     */
+    @java.lang.Override
+    public double getAvg() {
+      return avg_;
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 5;
+    private long count_ = 0L;
+    /**
+     * <pre>
+     * Leituras no intervalo; intervalos sem leituras são omitidos
+     * </pre>
+     *
+     * <code>int64 count = 5;</code>
+     * @return The count.
+     */
+    @java.lang.Override
+    public long getCount() {
+      return count_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (startMillis_ != 0L) {
+        output.writeInt64(1, startMillis_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(min_) != 0) {
+        output.writeDouble(2, min_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(max_) != 0) {
+        output.writeDouble(3, max_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(avg_) != 0) {
+        output.writeDouble(4, avg_);
+      }
+      if (count_ != 0L) {
+        output.writeInt64(5, count_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (startMillis_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, startMillis_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(min_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, min_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(max_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, max_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(avg_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, avg_);
+      }
+      if (count_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, count_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.Smarthome.Bucket)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.Bucket other = (org.example.devices.Smarthome.Bucket) obj;
+
+      if (getStartMillis()
+          != other.getStartMillis()) return false;
+      if (java.lang.Double.doubleToLongBits(getMin())
+          != java.lang.Double.doubleToLongBits(
+              other.getMin())) return false;
+      if (java.lang.Double.doubleToLongBits(getMax())
+          != java.lang.Double.doubleToLongBits(
+              other.getMax())) return false;
+      if (java.lang.Double.doubleToLongBits(getAvg())
+          != java.lang.Double.doubleToLongBits(
+              other.getAvg())) return false;
+      if (getCount()
+          != other.getCount()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + START_MILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getStartMillis());
+      hash = (37 * hash) + MIN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getMin()));
+      hash = (37 * hash) + MAX_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getMax()));
+      hash = (37 * hash) + AVG_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getAvg()));
+      hash = (37 * hash) + COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCount());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.Smarthome.Bucket parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.Smarthome.Bucket parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.Smarthome.Bucket parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.Bucket parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.Smarthome.Bucket prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Leituras de um sensor num intervalo [start_millis, start_millis + step_millis)
+     * </pre>
+     *
+     * Protobuf type {@code org.example.devices.Bucket}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.Bucket)
+        org.example.devices.Smarthome.BucketOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Bucket_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Bucket_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.Smarthome.Bucket.class, org.example.devices.Smarthome.Bucket.Builder.class);
+      }
+
+      // Construct using org.example.devices.Smarthome.Bucket.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        startMillis_ = 0L;
+        min_ = 0D;
+        max_ = 0D;
+        avg_ = 0D;
+        count_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Bucket_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Bucket getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.Bucket.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Bucket build() {
+        org.example.devices.Smarthome.Bucket result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Bucket buildPartial() {
+        org.example.devices.Smarthome.Bucket result = new org.example.devices.Smarthome.Bucket(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.example.devices.Smarthome.Bucket result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.startMillis_ = startMillis_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.min_ = min_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.max_ = max_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.avg_ = avg_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.count_ = count_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.Smarthome.Bucket) {
+          return mergeFrom((org.example.devices.Smarthome.Bucket)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.Smarthome.Bucket other) {
+        if (other == org.example.devices.Smarthome.Bucket.getDefaultInstance()) return this;
+        if (other.getStartMillis() != 0L) {
+          setStartMillis(other.getStartMillis());
+        }
+        if (other.getMin() != 0D) {
+          setMin(other.getMin());
+        }
+        if (other.getMax() != 0D) {
+          setMax(other.getMax());
+        }
+        if (other.getAvg() != 0D) {
+          setAvg(other.getAvg());
+        }
+        if (other.getCount() != 0L) {
+          setCount(other.getCount());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                startMillis_ = input.readInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 17: {
+                min_ = input.readDouble();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              case 25: {
+                max_ = input.readDouble();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 25
+              case 33: {
+                avg_ = input.readDouble();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 33
+              case 40: {
+                count_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private long startMillis_ ;
+      /**
+       * <code>int64 start_millis = 1;</code>
+       * @return The startMillis.
+       */
+      @java.lang.Override
+      public long getStartMillis() {
+        return startMillis_;
+      }
+      /**
+       * <code>int64 start_millis = 1;</code>
+       * @param value The startMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartMillis(long value) {
+
+        startMillis_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 start_millis = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartMillis() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private double min_ ;
+      /**
+       * <code>double min = 2;</code>
+       * @return The min.
+       */
+      @java.lang.Override
+      public double getMin() {
+        return min_;
+      }
+      /**
+       * <code>double min = 2;</code>
+       * @param value The min to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMin(double value) {
+
+        min_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double min = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMin() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        min_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double max_ ;
+      /**
+       * <code>double max = 3;</code>
+       * @return The max.
+       */
+      @java.lang.Override
+      public double getMax() {
+        return max_;
+      }
+      /**
+       * <code>double max = 3;</code>
+       * @param value The max to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMax(double value) {
+
+        max_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double max = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMax() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        max_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double avg_ ;
+      /**
+       * <code>double avg = 4;</code>
+       * @return The avg.
+       */
+      @java.lang.Override
+      public double getAvg() {
+        return avg_;
+      }
+      /**
+       * <code>double avg = 4;</code>
+       * @param value The avg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAvg(double value) {
+
+        avg_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double avg = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAvg() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        avg_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private long count_ ;
+      /**
+       * <pre>
+       * Leituras no intervalo; intervalos sem leituras são omitidos
+       * </pre>
+       *
+       * <code>int64 count = 5;</code>
+       * @return The count.
+       */
+      @java.lang.Override
+      public long getCount() {
+        return count_;
+      }
+      /**
+       * <pre>
+       * Leituras no intervalo; intervalos sem leituras são omitidos
+       * </pre>
+       *
+       * <code>int64 count = 5;</code>
+       * @param value The count to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCount(long value) {
+
+        count_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Leituras no intervalo; intervalos sem leituras são omitidos
+       * </pre>
+       *
+       * <code>int64 count = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        count_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.Bucket)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.Bucket)
+    private static final org.example.devices.Smarthome.Bucket DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.Bucket();
+    }
+
+    public static org.example.devices.Smarthome.Bucket getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Bucket>
+        PARSER = new com.google.protobuf.AbstractParser<Bucket>() {
+      @java.lang.Override
+      public Bucket parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Bucket> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Bucket> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.Smarthome.Bucket getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeviceMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.DeviceMessage)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Anúncio ou leitura do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.Device registration = 16;</code>
+     * @return Whether the registration field is set.
+     */
+    boolean hasRegistration();
+    /**
+     * <pre>
+     * Anúncio ou leitura do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.Device registration = 16;</code>
+     * @return The registration.
+     */
+    org.example.devices.Smarthome.Device getRegistration();
+    /**
+     * <pre>
+     * Anúncio ou leitura do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.Device registration = 16;</code>
+     */
+    org.example.devices.Smarthome.DeviceOrBuilder getRegistrationOrBuilder();
+
+    /**
+     * <pre>
+     * Verificação de saúde do Gateway (ida e volta)
+     * </pre>
+     *
+     * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+     * @return Whether the heartbeat field is set.
+     */
+    boolean hasHeartbeat();
+    /**
+     * <pre>
+     * Verificação de saúde do Gateway (ida e volta)
+     * </pre>
+     *
+     * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+     * @return The heartbeat.
+     */
+    org.example.devices.Smarthome.Heartbeat getHeartbeat();
+    /**
+     * <pre>
+     * Verificação de saúde do Gateway (ida e volta)
+     * </pre>
+     *
+     * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+     */
+    org.example.devices.Smarthome.HeartbeatOrBuilder getHeartbeatOrBuilder();
+
+    /**
+     * <pre>
+     * Consulta do estado de um dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.StateQuery state_query = 18;</code>
+     * @return Whether the stateQuery field is set.
+     */
+    boolean hasStateQuery();
+    /**
+     * <pre>
+     * Consulta do estado de um dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.StateQuery state_query = 18;</code>
+     * @return The stateQuery.
+     */
+    org.example.devices.Smarthome.StateQuery getStateQuery();
+    /**
+     * <pre>
+     * Consulta do estado de um dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.StateQuery state_query = 18;</code>
+     */
+    org.example.devices.Smarthome.StateQueryOrBuilder getStateQueryOrBuilder();
+
+    /**
+     * <pre>
+     * Resposta do Gateway à consulta
+     * </pre>
+     *
+     * <code>.org.example.devices.StateReply state_reply = 19;</code>
+     * @return Whether the stateReply field is set.
+     */
+    boolean hasStateReply();
+    /**
+     * <pre>
+     * Resposta do Gateway à consulta
+     * </pre>
+     *
+     * <code>.org.example.devices.StateReply state_reply = 19;</code>
+     * @return The stateReply.
+     */
+    org.example.devices.Smarthome.StateReply getStateReply();
+    /**
+     * <pre>
+     * Resposta do Gateway à consulta
+     * </pre>
+     *
+     * <code>.org.example.devices.StateReply state_reply = 19;</code>
+     */
+    org.example.devices.Smarthome.StateReplyOrBuilder getStateReplyOrBuilder();
+
+    org.example.devices.Smarthome.DeviceMessage.BodyCase getBodyCase();
+  }
+  /**
+   * <pre>
+   * Envelope das mensagens multicast entre dispositivos e Gateway.
+   * Os campos começam em 16 para que o primeiro byte de um envelope nunca seja
+   * confundido com um Device sem envelope ou com as mensagens de texto antigas.
+   * Todas as mensagens internas trazem o ID do dispositivo no campo 1.
+   * </pre>
+   *
+   * Protobuf type {@code org.example.devices.DeviceMessage}
+   */
+  public static final class DeviceMessage extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.DeviceMessage)
+      DeviceMessageOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        DeviceMessage.class.getName());
+    }
+    // Use DeviceMessage.newBuilder() to construct.
+    private DeviceMessage(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DeviceMessage() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_DeviceMessage_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_DeviceMessage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.Smarthome.DeviceMessage.class, org.example.devices.Smarthome.DeviceMessage.Builder.class);
+    }
+
+    private int bodyCase_ = 0;
+    @SuppressWarnings("serial")
+    private java.lang.Object body_;
+    public enum BodyCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      REGISTRATION(16),
+      HEARTBEAT(17),
+      STATE_QUERY(18),
+      STATE_REPLY(19),
+      BODY_NOT_SET(0);
+      private final int value;
+      private BodyCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static BodyCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static BodyCase forNumber(int value) {
+        switch (value) {
+          case 16: return REGISTRATION;
+          case 17: return HEARTBEAT;
+          case 18: return STATE_QUERY;
+          case 19: return STATE_REPLY;
+          case 0: return BODY_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public BodyCase
+    getBodyCase() {
+      return BodyCase.forNumber(
+          bodyCase_);
+    }
+
+    public static final int REGISTRATION_FIELD_NUMBER = 16;
+    /**
+     * <pre>
+     * Anúncio ou leitura do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.Device registration = 16;</code>
+     * @return Whether the registration field is set.
+     */
+    @java.lang.Override
+    public boolean hasRegistration() {
+      return bodyCase_ == 16;
+    }
+    /**
+     * <pre>
+     * Anúncio ou leitura do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.Device registration = 16;</code>
+     * @return The registration.
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.Device getRegistration() {
+      if (bodyCase_ == 16) {
+         return (org.example.devices.Smarthome.Device) body_;
+      }
+      return org.example.devices.Smarthome.Device.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Anúncio ou leitura do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.Device registration = 16;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.DeviceOrBuilder getRegistrationOrBuilder() {
+      if (bodyCase_ == 16) {
+         return (org.example.devices.Smarthome.Device) body_;
+      }
+      return org.example.devices.Smarthome.Device.getDefaultInstance();
+    }
+
+    public static final int HEARTBEAT_FIELD_NUMBER = 17;
+    /**
+     * <pre>
+     * Verificação de saúde do Gateway (ida e volta)
+     * </pre>
+     *
+     * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+     * @return Whether the heartbeat field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeartbeat() {
+      return bodyCase_ == 17;
+    }
+    /**
+     * <pre>
+     * Verificação de saúde do Gateway (ida e volta)
+     * </pre>
+     *
+     * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+     * @return The heartbeat.
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.Heartbeat getHeartbeat() {
+      if (bodyCase_ == 17) {
+         return (org.example.devices.Smarthome.Heartbeat) body_;
+      }
+      return org.example.devices.Smarthome.Heartbeat.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Verificação de saúde do Gateway (ida e volta)
+     * </pre>
+     *
+     * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.HeartbeatOrBuilder getHeartbeatOrBuilder() {
+      if (bodyCase_ == 17) {
+         return (org.example.devices.Smarthome.Heartbeat) body_;
+      }
+      return org.example.devices.Smarthome.Heartbeat.getDefaultInstance();
+    }
+
+    public static final int STATE_QUERY_FIELD_NUMBER = 18;
+    /**
+     * <pre>
+     * Consulta do estado de um dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.StateQuery state_query = 18;</code>
+     * @return Whether the stateQuery field is set.
+     */
+    @java.lang.Override
+    public boolean hasStateQuery() {
+      return bodyCase_ == 18;
+    }
+    /**
+     * <pre>
+     * Consulta do estado de um dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.StateQuery state_query = 18;</code>
+     * @return The stateQuery.
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.StateQuery getStateQuery() {
+      if (bodyCase_ == 18) {
+         return (org.example.devices.Smarthome.StateQuery) body_;
+      }
+      return org.example.devices.Smarthome.StateQuery.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Consulta do estado de um dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.StateQuery state_query = 18;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.StateQueryOrBuilder getStateQueryOrBuilder() {
+      if (bodyCase_ == 18) {
+         return (org.example.devices.Smarthome.StateQuery) body_;
+      }
+      return org.example.devices.Smarthome.StateQuery.getDefaultInstance();
+    }
+
+    public static final int STATE_REPLY_FIELD_NUMBER = 19;
+    /**
+     * <pre>
+     * Resposta do Gateway à consulta
+     * </pre>
+     *
+     * <code>.org.example.devices.StateReply state_reply = 19;</code>
+     * @return Whether the stateReply field is set.
+     */
+    @java.lang.Override
+    public boolean hasStateReply() {
+      return bodyCase_ == 19;
+    }
+    /**
+     * <pre>
+     * Resposta do Gateway à consulta
+     * </pre>
+     *
+     * <code>.org.example.devices.StateReply state_reply = 19;</code>
+     * @return The stateReply.
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.StateReply getStateReply() {
+      if (bodyCase_ == 19) {
+         return (org.example.devices.Smarthome.StateReply) body_;
+      }
+      return org.example.devices.Smarthome.StateReply.getDefaultInstance();
+    }
+    /**
+     * <pre>
+     * Resposta do Gateway à consulta
+     * </pre>
+     *
+     * <code>.org.example.devices.StateReply state_reply = 19;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.Smarthome.StateReplyOrBuilder getStateReplyOrBuilder() {
+      if (bodyCase_ == 19) {
+         return (org.example.devices.Smarthome.StateReply) body_;
+      }
+      return org.example.devices.Smarthome.StateReply.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (bodyCase_ == 16) {
+        output.writeMessage(16, (org.example.devices.Smarthome.Device) body_);
+      }
+      if (bodyCase_ == 17) {
+        output.writeMessage(17, (org.example.devices.Smarthome.Heartbeat) body_);
+      }
+      if (bodyCase_ == 18) {
+        output.writeMessage(18, (org.example.devices.Smarthome.StateQuery) body_);
+      }
+      if (bodyCase_ == 19) {
+        output.writeMessage(19, (org.example.devices.Smarthome.StateReply) body_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (bodyCase_ == 16) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(16, (org.example.devices.Smarthome.Device) body_);
+      }
+      if (bodyCase_ == 17) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, (org.example.devices.Smarthome.Heartbeat) body_);
+      }
+      if (bodyCase_ == 18) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(18, (org.example.devices.Smarthome.StateQuery) body_);
+      }
+      if (bodyCase_ == 19) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, (org.example.devices.Smarthome.StateReply) body_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.Smarthome.DeviceMessage)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.DeviceMessage other = (org.example.devices.Smarthome.DeviceMessage) obj;
+
+      if (!getBodyCase().equals(other.getBodyCase())) return false;
+      switch (bodyCase_) {
+        case 16:
+          if (!getRegistration()
+              .equals(other.getRegistration())) return false;
+          break;
+        case 17:
+          if (!getHeartbeat()
+              .equals(other.getHeartbeat())) return false;
+          break;
+        case 18:
+          if (!getStateQuery()
+              .equals(other.getStateQuery())) return false;
+          break;
+        case 19:
+          if (!getStateReply()
+              .equals(other.getStateReply())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (bodyCase_) {
+        case 16:
+          hash = (37 * hash) + REGISTRATION_FIELD_NUMBER;
+          hash = (53 * hash) + getRegistration().hashCode();
+          break;
+        case 17:
+          hash = (37 * hash) + HEARTBEAT_FIELD_NUMBER;
+          hash = (53 * hash) + getHeartbeat().hashCode();
+          break;
+        case 18:
+          hash = (37 * hash) + STATE_QUERY_FIELD_NUMBER;
+          hash = (53 * hash) + getStateQuery().hashCode();
+          break;
+        case 19:
+          hash = (37 * hash) + STATE_REPLY_FIELD_NUMBER;
+          hash = (53 * hash) + getStateReply().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.Smarthome.DeviceMessage parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.Smarthome.DeviceMessage parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.DeviceMessage parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.Smarthome.DeviceMessage prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Envelope das mensagens multicast entre dispositivos e Gateway.
+     * Os campos começam em 16 para que o primeiro byte de um envelope nunca seja
+     * confundido com um Device sem envelope ou com as mensagens de texto antigas.
+     * Todas as mensagens internas trazem o ID do dispositivo no campo 1.
+     * </pre>
+     *
+     * Protobuf type {@code org.example.devices.DeviceMessage}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.DeviceMessage)
+        org.example.devices.Smarthome.DeviceMessageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_DeviceMessage_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_DeviceMessage_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.Smarthome.DeviceMessage.class, org.example.devices.Smarthome.DeviceMessage.Builder.class);
+      }
+
+      // Construct using org.example.devices.Smarthome.DeviceMessage.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (registrationBuilder_ != null) {
+          registrationBuilder_.clear();
+        }
+        if (heartbeatBuilder_ != null) {
+          heartbeatBuilder_.clear();
+        }
+        if (stateQueryBuilder_ != null) {
+          stateQueryBuilder_.clear();
+        }
+        if (stateReplyBuilder_ != null) {
+          stateReplyBuilder_.clear();
+        }
+        bodyCase_ = 0;
+        body_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_DeviceMessage_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.DeviceMessage getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.DeviceMessage.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.DeviceMessage build() {
+        org.example.devices.Smarthome.DeviceMessage result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.DeviceMessage buildPartial() {
+        org.example.devices.Smarthome.DeviceMessage result = new org.example.devices.Smarthome.DeviceMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        buildPartialOneofs(result);
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.example.devices.Smarthome.DeviceMessage result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      private void buildPartialOneofs(org.example.devices.Smarthome.DeviceMessage result) {
+        result.bodyCase_ = bodyCase_;
+        result.body_ = this.body_;
+        if (bodyCase_ == 16 &&
+            registrationBuilder_ != null) {
+          result.body_ = registrationBuilder_.build();
+        }
+        if (bodyCase_ == 17 &&
+            heartbeatBuilder_ != null) {
+          result.body_ = heartbeatBuilder_.build();
+        }
+        if (bodyCase_ == 18 &&
+            stateQueryBuilder_ != null) {
+          result.body_ = stateQueryBuilder_.build();
+        }
+        if (bodyCase_ == 19 &&
+            stateReplyBuilder_ != null) {
+          result.body_ = stateReplyBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.Smarthome.DeviceMessage) {
+          return mergeFrom((org.example.devices.Smarthome.DeviceMessage)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.Smarthome.DeviceMessage other) {
+        if (other == org.example.devices.Smarthome.DeviceMessage.getDefaultInstance()) return this;
+        switch (other.getBodyCase()) {
+          case REGISTRATION: {
+            mergeRegistration(other.getRegistration());
+            break;
+          }
+          case HEARTBEAT: {
+            mergeHeartbeat(other.getHeartbeat());
+            break;
+          }
+          case STATE_QUERY: {
+            mergeStateQuery(other.getStateQuery());
+            break;
+          }
+          case STATE_REPLY: {
+            mergeStateReply(other.getStateReply());
+            break;
+          }
+          case BODY_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 130: {
+                input.readMessage(
+                    getRegistrationFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bodyCase_ = 16;
+                break;
+              } // case 130
+              case 138: {
+                input.readMessage(
+                    getHeartbeatFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bodyCase_ = 17;
+                break;
+              } // case 138
+              case 146: {
+                input.readMessage(
+                    getStateQueryFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bodyCase_ = 18;
+                break;
+              } // case 146
+              case 154: {
+                input.readMessage(
+                    getStateReplyFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bodyCase_ = 19;
+                break;
+              } // case 154
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bodyCase_ = 0;
+      private java.lang.Object body_;
+      public BodyCase
+          getBodyCase() {
+        return BodyCase.forNumber(
+            bodyCase_);
+      }
+
+      public Builder clearBody() {
+        bodyCase_ = 0;
+        body_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.Device, org.example.devices.Smarthome.Device.Builder, org.example.devices.Smarthome.DeviceOrBuilder> registrationBuilder_;
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       * @return Whether the registration field is set.
+       */
+      @java.lang.Override
+      public boolean hasRegistration() {
+        return bodyCase_ == 16;
+      }
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       * @return The registration.
+       */
+      @java.lang.Override
+      public org.example.devices.Smarthome.Device getRegistration() {
+        if (registrationBuilder_ == null) {
+          if (bodyCase_ == 16) {
+            return (org.example.devices.Smarthome.Device) body_;
+          }
+          return org.example.devices.Smarthome.Device.getDefaultInstance();
+        } else {
+          if (bodyCase_ == 16) {
+            return registrationBuilder_.getMessage();
+          }
+          return org.example.devices.Smarthome.Device.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       */
+      public Builder setRegistration(org.example.devices.Smarthome.Device value) {
+        if (registrationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          body_ = value;
+          onChanged();
+        } else {
+          registrationBuilder_.setMessage(value);
+        }
+        bodyCase_ = 16;
+        return this;
+      }
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       */
+      public Builder setRegistration(
+          org.example.devices.Smarthome.Device.Builder builderForValue) {
+        if (registrationBuilder_ == null) {
+          body_ = builderForValue.build();
+          onChanged();
+        } else {
+          registrationBuilder_.setMessage(builderForValue.build());
+        }
+        bodyCase_ = 16;
+        return this;
+      }
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       */
+      public Builder mergeRegistration(org.example.devices.Smarthome.Device value) {
+        if (registrationBuilder_ == null) {
+          if (bodyCase_ == 16 &&
+              body_ != org.example.devices.Smarthome.Device.getDefaultInstance()) {
+            body_ = org.example.devices.Smarthome.Device.newBuilder((org.example.devices.Smarthome.Device) body_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            body_ = value;
+          }
+          onChanged();
+        } else {
+          if (bodyCase_ == 16) {
+            registrationBuilder_.mergeFrom(value);
+          } else {
+            registrationBuilder_.setMessage(value);
+          }
+        }
+        bodyCase_ = 16;
+        return this;
+      }
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       */
+      public Builder clearRegistration() {
+        if (registrationBuilder_ == null) {
+          if (bodyCase_ == 16) {
+            bodyCase_ = 0;
+            body_ = null;
+            onChanged();
+          }
+        } else {
+          if (bodyCase_ == 16) {
+            bodyCase_ = 0;
+            body_ = null;
+          }
+          registrationBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       */
+      public org.example.devices.Smarthome.Device.Builder getRegistrationBuilder() {
+        return getRegistrationFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       */
+      @java.lang.Override
+      public org.example.devices.Smarthome.DeviceOrBuilder getRegistrationOrBuilder() {
+        if ((bodyCase_ == 16) && (registrationBuilder_ != null)) {
+          return registrationBuilder_.getMessageOrBuilder();
+        } else {
+          if (bodyCase_ == 16) {
+            return (org.example.devices.Smarthome.Device) body_;
+          }
+          return org.example.devices.Smarthome.Device.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Anúncio ou leitura do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.Device registration = 16;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.Device, org.example.devices.Smarthome.Device.Builder, org.example.devices.Smarthome.DeviceOrBuilder> 
+          getRegistrationFieldBuilder() {
+        if (registrationBuilder_ == null) {
+          if (!(bodyCase_ == 16)) {
+            body_ = org.example.devices.Smarthome.Device.getDefaultInstance();
+          }
+          registrationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.example.devices.Smarthome.Device, org.example.devices.Smarthome.Device.Builder, org.example.devices.Smarthome.DeviceOrBuilder>(
+                  (org.example.devices.Smarthome.Device) body_,
+                  getParentForChildren(),
+                  isClean());
+          body_ = null;
+        }
+        bodyCase_ = 16;
+        onChanged();
+        return registrationBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.Heartbeat, org.example.devices.Smarthome.Heartbeat.Builder, org.example.devices.Smarthome.HeartbeatOrBuilder> heartbeatBuilder_;
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       * @return Whether the heartbeat field is set.
+       */
+      @java.lang.Override
+      public boolean hasHeartbeat() {
+        return bodyCase_ == 17;
+      }
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       * @return The heartbeat.
+       */
+      @java.lang.Override
+      public org.example.devices.Smarthome.Heartbeat getHeartbeat() {
+        if (heartbeatBuilder_ == null) {
+          if (bodyCase_ == 17) {
+            return (org.example.devices.Smarthome.Heartbeat) body_;
+          }
+          return org.example.devices.Smarthome.Heartbeat.getDefaultInstance();
+        } else {
+          if (bodyCase_ == 17) {
+            return heartbeatBuilder_.getMessage();
+          }
+          return org.example.devices.Smarthome.Heartbeat.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       */
+      public Builder setHeartbeat(org.example.devices.Smarthome.Heartbeat value) {
+        if (heartbeatBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          body_ = value;
+          onChanged();
+        } else {
+          heartbeatBuilder_.setMessage(value);
+        }
+        bodyCase_ = 17;
+        return this;
+      }
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       */
+      public Builder setHeartbeat(
+          org.example.devices.Smarthome.Heartbeat.Builder builderForValue) {
+        if (heartbeatBuilder_ == null) {
+          body_ = builderForValue.build();
+          onChanged();
+        } else {
+          heartbeatBuilder_.setMessage(builderForValue.build());
+        }
+        bodyCase_ = 17;
+        return this;
+      }
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       */
+      public Builder mergeHeartbeat(org.example.devices.Smarthome.Heartbeat value) {
+        if (heartbeatBuilder_ == null) {
+          if (bodyCase_ == 17 &&
+              body_ != org.example.devices.Smarthome.Heartbeat.getDefaultInstance()) {
+            body_ = org.example.devices.Smarthome.Heartbeat.newBuilder((org.example.devices.Smarthome.Heartbeat) body_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            body_ = value;
+          }
+          onChanged();
+        } else {
+          if (bodyCase_ == 17) {
+            heartbeatBuilder_.mergeFrom(value);
+          } else {
+            heartbeatBuilder_.setMessage(value);
+          }
+        }
+        bodyCase_ = 17;
+        return this;
+      }
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       */
+      public Builder clearHeartbeat() {
+        if (heartbeatBuilder_ == null) {
+          if (bodyCase_ == 17) {
+            bodyCase_ = 0;
+            body_ = null;
+            onChanged();
+          }
+        } else {
+          if (bodyCase_ == 17) {
+            bodyCase_ = 0;
+            body_ = null;
+          }
+          heartbeatBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       */
+      public org.example.devices.Smarthome.Heartbeat.Builder getHeartbeatBuilder() {
+        return getHeartbeatFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       */
+      @java.lang.Override
+      public org.example.devices.Smarthome.HeartbeatOrBuilder getHeartbeatOrBuilder() {
+        if ((bodyCase_ == 17) && (heartbeatBuilder_ != null)) {
+          return heartbeatBuilder_.getMessageOrBuilder();
+        } else {
+          if (bodyCase_ == 17) {
+            return (org.example.devices.Smarthome.Heartbeat) body_;
+          }
+          return org.example.devices.Smarthome.Heartbeat.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Verificação de saúde do Gateway (ida e volta)
+       * </pre>
+       *
+       * <code>.org.example.devices.Heartbeat heartbeat = 17;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.Heartbeat, org.example.devices.Smarthome.Heartbeat.Builder, org.example.devices.Smarthome.HeartbeatOrBuilder> 
+          getHeartbeatFieldBuilder() {
+        if (heartbeatBuilder_ == null) {
+          if (!(bodyCase_ == 17)) {
+            body_ = org.example.devices.Smarthome.Heartbeat.getDefaultInstance();
+          }
+          heartbeatBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.example.devices.Smarthome.Heartbeat, org.example.devices.Smarthome.Heartbeat.Builder, org.example.devices.Smarthome.HeartbeatOrBuilder>(
+                  (org.example.devices.Smarthome.Heartbeat) body_,
+                  getParentForChildren(),
+                  isClean());
+          body_ = null;
+        }
+        bodyCase_ = 17;
+        onChanged();
+        return heartbeatBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.StateQuery, org.example.devices.Smarthome.StateQuery.Builder, org.example.devices.Smarthome.StateQueryOrBuilder> stateQueryBuilder_;
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       * @return Whether the stateQuery field is set.
+       */
+      @java.lang.Override
+      public boolean hasStateQuery() {
+        return bodyCase_ == 18;
+      }
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       * @return The stateQuery.
+       */
+      @java.lang.Override
+      public org.example.devices.Smarthome.StateQuery getStateQuery() {
+        if (stateQueryBuilder_ == null) {
+          if (bodyCase_ == 18) {
+            return (org.example.devices.Smarthome.StateQuery) body_;
+          }
+          return org.example.devices.Smarthome.StateQuery.getDefaultInstance();
+        } else {
+          if (bodyCase_ == 18) {
+            return stateQueryBuilder_.getMessage();
+          }
+          return org.example.devices.Smarthome.StateQuery.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       */
+      public Builder setStateQuery(org.example.devices.Smarthome.StateQuery value) {
+        if (stateQueryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          body_ = value;
+          onChanged();
+        } else {
+          stateQueryBuilder_.setMessage(value);
+        }
+        bodyCase_ = 18;
+        return this;
+      }
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       */
+      public Builder setStateQuery(
+          org.example.devices.Smarthome.StateQuery.Builder builderForValue) {
+        if (stateQueryBuilder_ == null) {
+          body_ = builderForValue.build();
+          onChanged();
+        } else {
+          stateQueryBuilder_.setMessage(builderForValue.build());
+        }
+        bodyCase_ = 18;
+        return this;
+      }
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       */
+      public Builder mergeStateQuery(org.example.devices.Smarthome.StateQuery value) {
+        if (stateQueryBuilder_ == null) {
+          if (bodyCase_ == 18 &&
+              body_ != org.example.devices.Smarthome.StateQuery.getDefaultInstance()) {
+            body_ = org.example.devices.Smarthome.StateQuery.newBuilder((org.example.devices.Smarthome.StateQuery) body_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            body_ = value;
+          }
+          onChanged();
+        } else {
+          if (bodyCase_ == 18) {
+            stateQueryBuilder_.mergeFrom(value);
+          } else {
+            stateQueryBuilder_.setMessage(value);
+          }
+        }
+        bodyCase_ = 18;
+        return this;
+      }
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       */
+      public Builder clearStateQuery() {
+        if (stateQueryBuilder_ == null) {
+          if (bodyCase_ == 18) {
+            bodyCase_ = 0;
+            body_ = null;
+            onChanged();
+          }
+        } else {
+          if (bodyCase_ == 18) {
+            bodyCase_ = 0;
+            body_ = null;
+          }
+          stateQueryBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       */
+      public org.example.devices.Smarthome.StateQuery.Builder getStateQueryBuilder() {
+        return getStateQueryFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       */
+      @java.lang.Override
+      public org.example.devices.Smarthome.StateQueryOrBuilder getStateQueryOrBuilder() {
+        if ((bodyCase_ == 18) && (stateQueryBuilder_ != null)) {
+          return stateQueryBuilder_.getMessageOrBuilder();
+        } else {
+          if (bodyCase_ == 18) {
+            return (org.example.devices.Smarthome.StateQuery) body_;
+          }
+          return org.example.devices.Smarthome.StateQuery.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Consulta do estado de um dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.StateQuery state_query = 18;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.StateQuery, org.example.devices.Smarthome.StateQuery.Builder, org.example.devices.Smarthome.StateQueryOrBuilder> 
+          getStateQueryFieldBuilder() {
+        if (stateQueryBuilder_ == null) {
+          if (!(bodyCase_ == 18)) {
+            body_ = org.example.devices.Smarthome.StateQuery.getDefaultInstance();
+          }
+          stateQueryBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.example.devices.Smarthome.StateQuery, org.example.devices.Smarthome.StateQuery.Builder, org.example.devices.Smarthome.StateQueryOrBuilder>(
+                  (org.example.devices.Smarthome.StateQuery) body_,
+                  getParentForChildren(),
+                  isClean());
+          body_ = null;
+        }
+        bodyCase_ = 18;
+        onChanged();
+        return stateQueryBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.StateReply, org.example.devices.Smarthome.StateReply.Builder, org.example.devices.Smarthome.StateReplyOrBuilder> stateReplyBuilder_;
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       * @return Whether the stateReply field is set.
+       */
+      @java.lang.Override
+      public boolean hasStateReply() {
+        return bodyCase_ == 19;
+      }
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       * @return The stateReply.
+       */
+      @java.lang.Override
+      public org.example.devices.Smarthome.StateReply getStateReply() {
+        if (stateReplyBuilder_ == null) {
+          if (bodyCase_ == 19) {
+            return (org.example.devices.Smarthome.StateReply) body_;
+          }
+          return org.example.devices.Smarthome.StateReply.getDefaultInstance();
+        } else {
+          if (bodyCase_ == 19) {
+            return stateReplyBuilder_.getMessage();
+          }
+          return org.example.devices.Smarthome.StateReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       */
+      public Builder setStateReply(org.example.devices.Smarthome.StateReply value) {
+        if (stateReplyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          body_ = value;
+          onChanged();
+        } else {
+          stateReplyBuilder_.setMessage(value);
+        }
+        bodyCase_ = 19;
+        return this;
+      }
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       */
+      public Builder setStateReply(
+          org.example.devices.Smarthome.StateReply.Builder builderForValue) {
+        if (stateReplyBuilder_ == null) {
+          body_ = builderForValue.build();
+          onChanged();
+        } else {
+          stateReplyBuilder_.setMessage(builderForValue.build());
+        }
+        bodyCase_ = 19;
+        return this;
+      }
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       */
+      public Builder mergeStateReply(org.example.devices.Smarthome.StateReply value) {
+        if (stateReplyBuilder_ == null) {
+          if (bodyCase_ == 19 &&
+              body_ != org.example.devices.Smarthome.StateReply.getDefaultInstance()) {
+            body_ = org.example.devices.Smarthome.StateReply.newBuilder((org.example.devices.Smarthome.StateReply) body_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            body_ = value;
+          }
+          onChanged();
+        } else {
+          if (bodyCase_ == 19) {
+            stateReplyBuilder_.mergeFrom(value);
+          } else {
+            stateReplyBuilder_.setMessage(value);
+          }
+        }
+        bodyCase_ = 19;
+        return this;
+      }
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       */
+      public Builder clearStateReply() {
+        if (stateReplyBuilder_ == null) {
+          if (bodyCase_ == 19) {
+            bodyCase_ = 0;
+            body_ = null;
+            onChanged();
+          }
+        } else {
+          if (bodyCase_ == 19) {
+            bodyCase_ = 0;
+            body_ = null;
+          }
+          stateReplyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       */
+      public org.example.devices.Smarthome.StateReply.Builder getStateReplyBuilder() {
+        return getStateReplyFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       */
+      @java.lang.Override
+      public org.example.devices.Smarthome.StateReplyOrBuilder getStateReplyOrBuilder() {
+        if ((bodyCase_ == 19) && (stateReplyBuilder_ != null)) {
+          return stateReplyBuilder_.getMessageOrBuilder();
+        } else {
+          if (bodyCase_ == 19) {
+            return (org.example.devices.Smarthome.StateReply) body_;
+          }
+          return org.example.devices.Smarthome.StateReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <pre>
+       * Resposta do Gateway à consulta
+       * </pre>
+       *
+       * <code>.org.example.devices.StateReply state_reply = 19;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.example.devices.Smarthome.StateReply, org.example.devices.Smarthome.StateReply.Builder, org.example.devices.Smarthome.StateReplyOrBuilder> 
+          getStateReplyFieldBuilder() {
+        if (stateReplyBuilder_ == null) {
+          if (!(bodyCase_ == 19)) {
+            body_ = org.example.devices.Smarthome.StateReply.getDefaultInstance();
+          }
+          stateReplyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.example.devices.Smarthome.StateReply, org.example.devices.Smarthome.StateReply.Builder, org.example.devices.Smarthome.StateReplyOrBuilder>(
+                  (org.example.devices.Smarthome.StateReply) body_,
+                  getParentForChildren(),
+                  isClean());
+          body_ = null;
+        }
+        bodyCase_ = 19;
+        onChanged();
+        return stateReplyBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.DeviceMessage)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.DeviceMessage)
+    private static final org.example.devices.Smarthome.DeviceMessage DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.DeviceMessage();
+    }
+
+    public static org.example.devices.Smarthome.DeviceMessage getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeviceMessage>
+        PARSER = new com.google.protobuf.AbstractParser<DeviceMessage>() {
+      @java.lang.Override
+      public DeviceMessage parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeviceMessage> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeviceMessage> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.Smarthome.DeviceMessage getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HeartbeatOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.Heartbeat)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * ID do dispositivo que enviou a verificação
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
+     */
+    java.lang.String getDeviceId();
+    /**
+     * <pre>
+     * ID do dispositivo que enviou a verificação
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
+     */
+    com.google.protobuf.ByteString
+        getDeviceIdBytes();
+  }
+  /**
+   * Protobuf type {@code org.example.devices.Heartbeat}
+   */
+  public static final class Heartbeat extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.Heartbeat)
+      HeartbeatOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Heartbeat.class.getName());
+    }
+    // Use Heartbeat.newBuilder() to construct.
+    private Heartbeat(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Heartbeat() {
+      deviceId_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_Heartbeat_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_Heartbeat_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.Smarthome.Heartbeat.class, org.example.devices.Smarthome.Heartbeat.Builder.class);
+    }
+
+    public static final int DEVICE_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object deviceId_ = "";
+    /**
+     * <pre>
+     * ID do dispositivo que enviou a verificação
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
+     */
+    @java.lang.Override
+    public java.lang.String getDeviceId() {
+      java.lang.Object ref = deviceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        deviceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * ID do dispositivo que enviou a verificação
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDeviceIdBytes() {
+      java.lang.Object ref = deviceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        deviceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, deviceId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, deviceId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.Smarthome.Heartbeat)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.Heartbeat other = (org.example.devices.Smarthome.Heartbeat) obj;
+
+      if (!getDeviceId()
+          .equals(other.getDeviceId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DEVICE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDeviceId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.Smarthome.Heartbeat parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.Smarthome.Heartbeat parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.Heartbeat parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.Smarthome.Heartbeat prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.example.devices.Heartbeat}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.Heartbeat)
+        org.example.devices.Smarthome.HeartbeatOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Heartbeat_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Heartbeat_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.Smarthome.Heartbeat.class, org.example.devices.Smarthome.Heartbeat.Builder.class);
+      }
+
+      // Construct using org.example.devices.Smarthome.Heartbeat.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        deviceId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_Heartbeat_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Heartbeat getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.Heartbeat.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Heartbeat build() {
+        org.example.devices.Smarthome.Heartbeat result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.Heartbeat buildPartial() {
+        org.example.devices.Smarthome.Heartbeat result = new org.example.devices.Smarthome.Heartbeat(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.example.devices.Smarthome.Heartbeat result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.deviceId_ = deviceId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.Smarthome.Heartbeat) {
+          return mergeFrom((org.example.devices.Smarthome.Heartbeat)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.Smarthome.Heartbeat other) {
+        if (other == org.example.devices.Smarthome.Heartbeat.getDefaultInstance()) return this;
+        if (!other.getDeviceId().isEmpty()) {
+          deviceId_ = other.deviceId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                deviceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object deviceId_ = "";
+      /**
+       * <pre>
+       * ID do dispositivo que enviou a verificação
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return The deviceId.
+       */
+      public java.lang.String getDeviceId() {
+        java.lang.Object ref = deviceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          deviceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * ID do dispositivo que enviou a verificação
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return The bytes for deviceId.
+       */
+      public com.google.protobuf.ByteString
+          getDeviceIdBytes() {
+        java.lang.Object ref = deviceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          deviceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * ID do dispositivo que enviou a verificação
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @param value The deviceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeviceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        deviceId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ID do dispositivo que enviou a verificação
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDeviceId() {
+        deviceId_ = getDefaultInstance().getDeviceId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ID do dispositivo que enviou a verificação
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @param value The bytes for deviceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeviceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        deviceId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.Heartbeat)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.Heartbeat)
+    private static final org.example.devices.Smarthome.Heartbeat DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.Heartbeat();
+    }
+
+    public static org.example.devices.Smarthome.Heartbeat getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Heartbeat>
+        PARSER = new com.google.protobuf.AbstractParser<Heartbeat>() {
+      @java.lang.Override
+      public Heartbeat parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Heartbeat> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Heartbeat> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.Smarthome.Heartbeat getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StateQueryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.StateQuery)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * ID do dispositivo consultado
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
+     */
+    java.lang.String getDeviceId();
+    /**
+     * <pre>
+     * ID do dispositivo consultado
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
+     */
+    com.google.protobuf.ByteString
+        getDeviceIdBytes();
+  }
+  /**
+   * Protobuf type {@code org.example.devices.StateQuery}
+   */
+  public static final class StateQuery extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.StateQuery)
+      StateQueryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        StateQuery.class.getName());
+    }
+    // Use StateQuery.newBuilder() to construct.
+    private StateQuery(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private StateQuery() {
+      deviceId_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_StateQuery_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.Smarthome.internal_static_org_example_devices_StateQuery_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.Smarthome.StateQuery.class, org.example.devices.Smarthome.StateQuery.Builder.class);
+    }
+
+    public static final int DEVICE_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object deviceId_ = "";
+    /**
+     * <pre>
+     * ID do dispositivo consultado
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
+     */
+    @java.lang.Override
+    public java.lang.String getDeviceId() {
+      java.lang.Object ref = deviceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        deviceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * ID do dispositivo consultado
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDeviceIdBytes() {
+      java.lang.Object ref = deviceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        deviceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, deviceId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, deviceId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.Smarthome.StateQuery)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.StateQuery other = (org.example.devices.Smarthome.StateQuery) obj;
+
+      if (!getDeviceId()
+          .equals(other.getDeviceId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DEVICE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDeviceId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.Smarthome.StateQuery parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.Smarthome.StateQuery parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.Smarthome.StateQuery parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.Smarthome.StateQuery parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.Smarthome.StateQuery prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.example.devices.StateQuery}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.StateQuery)
+        org.example.devices.Smarthome.StateQueryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_StateQuery_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_StateQuery_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.Smarthome.StateQuery.class, org.example.devices.Smarthome.StateQuery.Builder.class);
+      }
+
+      // Construct using org.example.devices.Smarthome.StateQuery.newBuilder()
+      private Builder() {
+
       }
-      /**
-       * <pre>
-       * Canal (para TVs)
-       * </pre>
-       *
-       * <code>string channel = 6;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearChannel() {
-        channel_ = getDefaultInstance().getChannel();
-        bitField0_ = (bitField0_ & ~0x00000020);
-        onChanged();
-        return this;
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
       }
-      /**
-       * <pre>
-       * Canal (para TVs)
-       * </pre>
-       *
-       * <code>string channel = 6;</code>
-       * @param value The bytes for channel to set.
-       * @return This builder for chaining.
-       */
-      public Builder setChannelBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        channel_ = value;
-        bitField0_ |= 0x00000020;
-        onChanged();
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        deviceId_ = "";
         return this;
       }
 
-      private java.lang.Object volume_ = "";
-      /**
-       * <pre>
-       * Volume (0-100, para TVs)
-       * </pre>
-       *
-       * <code>string volume = 7;</code>
-       * @return The volume.
-       */
-      public java.lang.String getVolume() {
-        java.lang.Object ref = volume_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          volume_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * Volume (0-100, para TVs)
-       * </pre>
-       *
-       * <code>string volume = 7;</code>
-       * @return The bytes for volume.
-       */
-      public com.google.protobuf.ByteString
-          getVolumeBytes() {
-        java.lang.Object ref = volume_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          volume_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.Smarthome.internal_static_org_example_devices_StateQuery_descriptor;
       }
-      /**
-       * <pre>
-       * Volume (0-100, para TVs)
-       * </pre>
-       *
-       * <code>string volume = 7;</code>
-       * @param value The volume to set.
-       * @return This builder for chaining.
-       */
-      public Builder setVolume(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        volume_ = value;
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.StateQuery getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.StateQuery.getDefaultInstance();
       }
-      /**
-       * <pre>
-       * Volume (0-100, para TVs)
-       * </pre>
-       *
-       * <code>string volume = 7;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearVolume() {
-        volume_ = getDefaultInstance().getVolume();
-        bitField0_ = (bitField0_ & ~0x00000040);
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.StateQuery build() {
+        org.example.devices.Smarthome.StateQuery result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-      /**
-       * <pre>
-       * Volume (0-100, para TVs)
-       * </pre>
-       *
-       * <code>string volume = 7;</code>
-       * @param value The bytes for volume to set.
-       * @return This builder for chaining.
-       */
-      public Builder setVolumeBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        volume_ = value;
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public org.example.devices.Smarthome.StateQuery buildPartial() {
+        org.example.devices.Smarthome.StateQuery result = new org.example.devices.Smarthome.StateQuery(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
       }
 
-      private java.lang.Object temperature_ = "";
-      /**
-       * <pre>
-       * Temperatura (para ar-condicionado)
-       * </pre>
-       *
-       * <code>string temperature = 8;</code>
-       * @return The temperature.
-       */
-      public java.lang.String getTemperature() {
-        java.lang.Object ref = temperature_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          temperature_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      private void buildPartial0(org.example.devices.Smarthome.StateQuery result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.deviceId_ = deviceId_;
         }
       }
-      /**
-       * <pre>
-       * Temperatura (para ar-condicionado)
-       * </pre>
-       *
-       * <code>string temperature = 8;</code>
-       * @return The bytes for temperature.
-       */
-      public com.google.protobuf.ByteString
-          getTemperatureBytes() {
-        java.lang.Object ref = temperature_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          temperature_ = b;
-          return b;
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.Smarthome.StateQuery) {
+          return mergeFrom((org.example.devices.Smarthome.StateQuery)other);
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          super.mergeFrom(other);
+          return this;
         }
       }
-      /**
-       * <pre>
-       * Temperatura (para ar-condicionado)
-       * </pre>
-       *
-       * <code>string temperature = 8;</code>
-       * @param value The temperature to set.
-       * @return This builder for chaining.
-       */
-      public Builder setTemperature(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        temperature_ = value;
-        bitField0_ |= 0x00000080;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * Temperatura (para ar-condicionado)
-       * </pre>
-       *
-       * <code>string temperature = 8;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearTemperature() {
-        temperature_ = getDefaultInstance().getTemperature();
-        bitField0_ = (bitField0_ & ~0x00000080);
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * Temperatura (para ar-condicionado)
-       * </pre>
-       *
-       * <code>string temperature = 8;</code>
-       * @param value The bytes for temperature to set.
-       * @return This builder for chaining.
-       */
-      public Builder setTemperatureBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        temperature_ = value;
-        bitField0_ |= 0x00000080;
+
+      public Builder mergeFrom(org.example.devices.Smarthome.StateQuery other) {
+        if (other == org.example.devices.Smarthome.StateQuery.getDefaultInstance()) return this;
+        if (!other.getDeviceId().isEmpty()) {
+          deviceId_ = other.deviceId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
 
-      private java.lang.Object mode_ = "";
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                deviceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object deviceId_ = "";
       /**
        * <pre>
-       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string mode = 9;</code>
-       * @return The mode.
+       * <code>string device_id = 1;</code>
+       * @return The deviceId.
        */
-      public java.lang.String getMode() {
-        java.lang.Object ref = mode_;
+      public java.lang.String getDeviceId() {
+        java.lang.Object ref = deviceId_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          mode_ = s;
+          deviceId_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -3957,20 +13662,20 @@ public final class Smarthome {
       }
       /**
        * <pre>
-       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string mode = 9;</code>
-       * @return The bytes for mode.
+       * <code>string device_id = 1;</code>
+       * @return The bytes for deviceId.
        */
       public com.google.protobuf.ByteString
-          getModeBytes() {
-        java.lang.Object ref = mode_;
+          getDeviceIdBytes() {
+        java.lang.Object ref = deviceId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          mode_ = b;
+          deviceId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -3978,71 +13683,71 @@ public final class Smarthome {
       }
       /**
        * <pre>
-       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string mode = 9;</code>
-       * @param value The mode to set.
+       * <code>string device_id = 1;</code>
+       * @param value The deviceId to set.
        * @return This builder for chaining.
        */
-      public Builder setMode(
+      public Builder setDeviceId(
           java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
-        mode_ = value;
-        bitField0_ |= 0x00000100;
+        deviceId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string mode = 9;</code>
+       * <code>string device_id = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearMode() {
-        mode_ = getDefaultInstance().getMode();
-        bitField0_ = (bitField0_ & ~0x00000100);
+      public Builder clearDeviceId() {
+        deviceId_ = getDefaultInstance().getDeviceId();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Modo (Auto, Cooling, etc., para ar-condicionado)
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string mode = 9;</code>
-       * @param value The bytes for mode to set.
+       * <code>string device_id = 1;</code>
+       * @param value The bytes for deviceId to set.
        * @return This builder for chaining.
        */
-      public Builder setModeBytes(
+      public Builder setDeviceIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
-        mode_ = value;
-        bitField0_ |= 0x00000100;
+        deviceId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.example.devices.Command)
+      // @@protoc_insertion_point(builder_scope:org.example.devices.StateQuery)
     }
 
-    // @@protoc_insertion_point(class_scope:org.example.devices.Command)
-    private static final org.example.devices.Smarthome.Command DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:org.example.devices.StateQuery)
+    private static final org.example.devices.Smarthome.StateQuery DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.example.devices.Smarthome.Command();
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.StateQuery();
     }
 
-    public static org.example.devices.Smarthome.Command getDefaultInstance() {
+    public static org.example.devices.Smarthome.StateQuery getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Command>
-        PARSER = new com.google.protobuf.AbstractParser<Command>() {
+    private static final com.google.protobuf.Parser<StateQuery>
+        PARSER = new com.google.protobuf.AbstractParser<StateQuery>() {
       @java.lang.Override
-      public Command parsePartialFrom(
+      public StateQuery parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4061,77 +13766,83 @@ public final class Smarthome {
       }
     };
 
-    public static com.google.protobuf.Parser<Command> parser() {
+    public static com.google.protobuf.Parser<StateQuery> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Command> getParserForType() {
+    public com.google.protobuf.Parser<StateQuery> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.example.devices.Smarthome.Command getDefaultInstanceForType() {
+    public org.example.devices.Smarthome.StateQuery getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.example.devices.Response)
+  public interface StateReplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.StateReply)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * Status do comando (ex.: "OK", "Erro")
+     * ID do dispositivo consultado
      * </pre>
      *
-     * <code>string status = 1;</code>
-     * @return The status.
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
      */
-    java.lang.String getStatus();
+    java.lang.String getDeviceId();
     /**
      * <pre>
-     * Status do comando (ex.: "OK", "Erro")
+     * ID do dispositivo consultado
      * </pre>
      *
-     * <code>string status = 1;</code>
-     * @return The bytes for status.
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
      */
     com.google.protobuf.ByteString
-        getStatusBytes();
+        getDeviceIdBytes();
 
     /**
      * <pre>
-     * Mensagem adicional
+     * Falso se o Gateway não conhece o dispositivo
      * </pre>
      *
-     * <code>string message = 2;</code>
-     * @return The message.
+     * <code>bool found = 2;</code>
+     * @return The found.
      */
-    java.lang.String getMessage();
+    boolean getFound();
+
     /**
      * <pre>
-     * Mensagem adicional
+     * Estado atual do dispositivo
      * </pre>
      *
-     * <code>string message = 2;</code>
-     * @return The bytes for message.
+     * <code>string state = 3;</code>
+     * @return The state.
+     */
+    java.lang.String getState();
+    /**
+     * <pre>
+     * Estado atual do dispositivo
+     * </pre>
+     *
+     * <code>string state = 3;</code>
+     * @return The bytes for state.
      */
     com.google.protobuf.ByteString
-        getMessageBytes();
+        getStateBytes();
   }
   /**
-   * <pre>
-   * Resposta dos dispositivos ao Gateway
-   * </pre>
-   *
-   * Protobuf type {@code org.example.devices.Response}
+   * Protobuf type {@code org.example.devices.StateReply}
    */
-  public static final class Response extends
+  public static final class StateReply extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.example.devices.Response)
-      ResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:org.example.devices.StateReply)
+      StateReplyOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -4140,118 +13851,133 @@ public final class Smarthome {
         /* minor= */ 29,
         /* patch= */ 3,
         /* suffix= */ "",
-        Response.class.getName());
+        StateReply.class.getName());
     }
-    // Use Response.newBuilder() to construct.
-    private Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use StateReply.newBuilder() to construct.
+    private StateReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Response() {
-      status_ = "";
-      message_ = "";
+    private StateReply() {
+      deviceId_ = "";
+      state_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.example.devices.Smarthome.internal_static_org_example_devices_Response_descriptor;
+      return org.example.devices.Smarthome.internal_static_org_example_devices_StateReply_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.example.devices.Smarthome.internal_static_org_example_devices_Response_fieldAccessorTable
+      return org.example.devices.Smarthome.internal_static_org_example_devices_StateReply_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.example.devices.Smarthome.Response.class, org.example.devices.Smarthome.Response.Builder.class);
+              org.example.devices.Smarthome.StateReply.class, org.example.devices.Smarthome.StateReply.Builder.class);
     }
 
-    public static final int STATUS_FIELD_NUMBER = 1;
+    public static final int DEVICE_ID_FIELD_NUMBER = 1;
     @SuppressWarnings("serial")
-    private volatile java.lang.Object status_ = "";
+    private volatile java.lang.Object deviceId_ = "";
     /**
      * <pre>
-     * Status do comando (ex.: "OK", "Erro")
+     * ID do dispositivo consultado
      * </pre>
      *
-     * <code>string status = 1;</code>
-     * @return The status.
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
      */
     @java.lang.Override
-    public java.lang.String getStatus() {
-      java.lang.Object ref = status_;
+    public java.lang.String getDeviceId() {
+      java.lang.Object ref = deviceId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        status_ = s;
+        deviceId_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * Status do comando (ex.: "OK", "Erro")
+     * ID do dispositivo consultado
      * </pre>
      *
-     * <code>string status = 1;</code>
-     * @return The bytes for status.
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getStatusBytes() {
-      java.lang.Object ref = status_;
+        getDeviceIdBytes() {
+      java.lang.Object ref = deviceId_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        status_ = b;
+        deviceId_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int MESSAGE_FIELD_NUMBER = 2;
+    public static final int FOUND_FIELD_NUMBER = 2;
+    private boolean found_ = false;
+    /**
+     * <pre>
+     * Falso se o Gateway não conhece o dispositivo
+     * </pre>
+     *
+     * <code>bool found = 2;</code>
+     * @return The found.
+     */
+    @java.lang.Override
+    public boolean getFound() {
+      return found_;
+    }
+
+    public static final int STATE_FIELD_NUMBER = 3;
     @SuppressWarnings("serial")
-    private volatile java.lang.Object message_ = "";
+    private volatile java.lang.Object state_ = "";
     /**
      * <pre>
-     * Mensagem adicional
+     * Estado atual do dispositivo
      * </pre>
      *
-     * <code>string message = 2;</code>
-     * @return The message.
+     * <code>string state = 3;</code>
+     * @return The state.
      */
     @java.lang.Override
-    public java.lang.String getMessage() {
-      java.lang.Object ref = message_;
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        message_ = s;
+        state_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * Mensagem adicional
+     * Estado atual do dispositivo
      * </pre>
      *
-     * <code>string message = 2;</code>
-     * @return The bytes for message.
+     * <code>string state = 3;</code>
+     * @return The bytes for state.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getMessageBytes() {
-      java.lang.Object ref = message_;
+        getStateBytes() {
+      java.lang.Object ref = state_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        message_ = b;
+        state_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -4272,11 +13998,14 @@ public final class Smarthome {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(status_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, status_);
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, deviceId_);
       }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, message_);
+      if (found_ != false) {
+        output.writeBool(2, found_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(state_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, state_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -4287,11 +14016,15 @@ public final class Smarthome {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(status_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, status_);
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, deviceId_);
       }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, message_);
+      if (found_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, found_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(state_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, state_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -4303,15 +14036,17 @@ public final class Smarthome {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.example.devices.Smarthome.Response)) {
-        return super.equals(obj);
-      }
-      org.example.devices.Smarthome.Response other = (org.example.devices.Smarthome.Response) obj;
-
-      if (!getStatus()
-          .equals(other.getStatus())) return false;
-      if (!getMessage()
-          .equals(other.getMessage())) return false;
+      if (!(obj instanceof org.example.devices.Smarthome.StateReply)) {
+        return super.equals(obj);
+      }
+      org.example.devices.Smarthome.StateReply other = (org.example.devices.Smarthome.StateReply) obj;
+
+      if (!getDeviceId()
+          .equals(other.getDeviceId())) return false;
+      if (getFound()
+          != other.getFound()) return false;
+      if (!getState()
+          .equals(other.getState())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -4323,53 +14058,56 @@ public final class Smarthome {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + STATUS_FIELD_NUMBER;
-      hash = (53 * hash) + getStatus().hashCode();
-      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
-      hash = (53 * hash) + getMessage().hashCode();
+      hash = (37 * hash) + DEVICE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDeviceId().hashCode();
+      hash = (37 * hash) + FOUND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFound());
+      hash = (37 * hash) + STATE_FIELD_NUMBER;
+      hash = (53 * hash) + getState().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.example.devices.Smarthome.Response parseFrom(
+    public static org.example.devices.Smarthome.StateReply parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(
+    public static org.example.devices.Smarthome.StateReply parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(
+    public static org.example.devices.Smarthome.StateReply parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(
+    public static org.example.devices.Smarthome.StateReply parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(byte[] data)
+    public static org.example.devices.Smarthome.StateReply parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(
+    public static org.example.devices.Smarthome.StateReply parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(java.io.InputStream input)
+    public static org.example.devices.Smarthome.StateReply parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(
+    public static org.example.devices.Smarthome.StateReply parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4377,26 +14115,26 @@ public final class Smarthome {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static org.example.devices.Smarthome.Response parseDelimitedFrom(java.io.InputStream input)
+    public static org.example.devices.Smarthome.StateReply parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static org.example.devices.Smarthome.Response parseDelimitedFrom(
+    public static org.example.devices.Smarthome.StateReply parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(
+    public static org.example.devices.Smarthome.StateReply parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static org.example.devices.Smarthome.Response parseFrom(
+    public static org.example.devices.Smarthome.StateReply parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4409,7 +14147,7 @@ public final class Smarthome {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.example.devices.Smarthome.Response prototype) {
+    public static Builder newBuilder(org.example.devices.Smarthome.StateReply prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4425,30 +14163,26 @@ public final class Smarthome {
       return builder;
     }
     /**
-     * <pre>
-     * Resposta dos dispositivos ao Gateway
-     * </pre>
-     *
-     * Protobuf type {@code org.example.devices.Response}
+     * Protobuf type {@code org.example.devices.StateReply}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.example.devices.Response)
-        org.example.devices.Smarthome.ResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:org.example.devices.StateReply)
+        org.example.devices.Smarthome.StateReplyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.example.devices.Smarthome.internal_static_org_example_devices_Response_descriptor;
+        return org.example.devices.Smarthome.internal_static_org_example_devices_StateReply_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.example.devices.Smarthome.internal_static_org_example_devices_Response_fieldAccessorTable
+        return org.example.devices.Smarthome.internal_static_org_example_devices_StateReply_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.example.devices.Smarthome.Response.class, org.example.devices.Smarthome.Response.Builder.class);
+                org.example.devices.Smarthome.StateReply.class, org.example.devices.Smarthome.StateReply.Builder.class);
       }
 
-      // Construct using org.example.devices.Smarthome.Response.newBuilder()
+      // Construct using org.example.devices.Smarthome.StateReply.newBuilder()
       private Builder() {
 
       }
@@ -4462,25 +14196,26 @@ public final class Smarthome {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        status_ = "";
-        message_ = "";
+        deviceId_ = "";
+        found_ = false;
+        state_ = "";
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.example.devices.Smarthome.internal_static_org_example_devices_Response_descriptor;
+        return org.example.devices.Smarthome.internal_static_org_example_devices_StateReply_descriptor;
       }
 
       @java.lang.Override
-      public org.example.devices.Smarthome.Response getDefaultInstanceForType() {
-        return org.example.devices.Smarthome.Response.getDefaultInstance();
+      public org.example.devices.Smarthome.StateReply getDefaultInstanceForType() {
+        return org.example.devices.Smarthome.StateReply.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.example.devices.Smarthome.Response build() {
-        org.example.devices.Smarthome.Response result = buildPartial();
+      public org.example.devices.Smarthome.StateReply build() {
+        org.example.devices.Smarthome.StateReply result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4488,43 +14223,49 @@ public final class Smarthome {
       }
 
       @java.lang.Override
-      public org.example.devices.Smarthome.Response buildPartial() {
-        org.example.devices.Smarthome.Response result = new org.example.devices.Smarthome.Response(this);
+      public org.example.devices.Smarthome.StateReply buildPartial() {
+        org.example.devices.Smarthome.StateReply result = new org.example.devices.Smarthome.StateReply(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(org.example.devices.Smarthome.Response result) {
+      private void buildPartial0(org.example.devices.Smarthome.StateReply result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.status_ = status_;
+          result.deviceId_ = deviceId_;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.message_ = message_;
+          result.found_ = found_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.state_ = state_;
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.example.devices.Smarthome.Response) {
-          return mergeFrom((org.example.devices.Smarthome.Response)other);
+        if (other instanceof org.example.devices.Smarthome.StateReply) {
+          return mergeFrom((org.example.devices.Smarthome.StateReply)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.example.devices.Smarthome.Response other) {
-        if (other == org.example.devices.Smarthome.Response.getDefaultInstance()) return this;
-        if (!other.getStatus().isEmpty()) {
-          status_ = other.status_;
+      public Builder mergeFrom(org.example.devices.Smarthome.StateReply other) {
+        if (other == org.example.devices.Smarthome.StateReply.getDefaultInstance()) return this;
+        if (!other.getDeviceId().isEmpty()) {
+          deviceId_ = other.deviceId_;
           bitField0_ |= 0x00000001;
           onChanged();
         }
-        if (!other.getMessage().isEmpty()) {
-          message_ = other.message_;
-          bitField0_ |= 0x00000002;
+        if (other.getFound() != false) {
+          setFound(other.getFound());
+        }
+        if (!other.getState().isEmpty()) {
+          state_ = other.state_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
@@ -4554,15 +14295,20 @@ public final class Smarthome {
                 done = true;
                 break;
               case 10: {
-                status_ = input.readStringRequireUtf8();
+                deviceId_ = input.readStringRequireUtf8();
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
-              case 18: {
-                message_ = input.readStringRequireUtf8();
+              case 16: {
+                found_ = input.readBool();
                 bitField0_ |= 0x00000002;
                 break;
-              } // case 18
+              } // case 16
+              case 26: {
+                state_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -4580,22 +14326,22 @@ public final class Smarthome {
       }
       private int bitField0_;
 
-      private java.lang.Object status_ = "";
+      private java.lang.Object deviceId_ = "";
       /**
        * <pre>
-       * Status do comando (ex.: "OK", "Erro")
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string status = 1;</code>
-       * @return The status.
+       * <code>string device_id = 1;</code>
+       * @return The deviceId.
        */
-      public java.lang.String getStatus() {
-        java.lang.Object ref = status_;
+      public java.lang.String getDeviceId() {
+        java.lang.Object ref = deviceId_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          status_ = s;
+          deviceId_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -4603,20 +14349,20 @@ public final class Smarthome {
       }
       /**
        * <pre>
-       * Status do comando (ex.: "OK", "Erro")
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string status = 1;</code>
-       * @return The bytes for status.
+       * <code>string device_id = 1;</code>
+       * @return The bytes for deviceId.
        */
       public com.google.protobuf.ByteString
-          getStatusBytes() {
-        java.lang.Object ref = status_;
+          getDeviceIdBytes() {
+        java.lang.Object ref = deviceId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          status_ = b;
+          deviceId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -4624,70 +14370,114 @@ public final class Smarthome {
       }
       /**
        * <pre>
-       * Status do comando (ex.: "OK", "Erro")
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string status = 1;</code>
-       * @param value The status to set.
+       * <code>string device_id = 1;</code>
+       * @param value The deviceId to set.
        * @return This builder for chaining.
        */
-      public Builder setStatus(
+      public Builder setDeviceId(
           java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
-        status_ = value;
+        deviceId_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Status do comando (ex.: "OK", "Erro")
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string status = 1;</code>
+       * <code>string device_id = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearStatus() {
-        status_ = getDefaultInstance().getStatus();
+      public Builder clearDeviceId() {
+        deviceId_ = getDefaultInstance().getDeviceId();
         bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Status do comando (ex.: "OK", "Erro")
+       * ID do dispositivo consultado
        * </pre>
        *
-       * <code>string status = 1;</code>
-       * @param value The bytes for status to set.
+       * <code>string device_id = 1;</code>
+       * @param value The bytes for deviceId to set.
        * @return This builder for chaining.
        */
-      public Builder setStatusBytes(
+      public Builder setDeviceIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
-        status_ = value;
+        deviceId_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
 
-      private java.lang.Object message_ = "";
+      private boolean found_ ;
       /**
        * <pre>
-       * Mensagem adicional
+       * Falso se o Gateway não conhece o dispositivo
        * </pre>
        *
-       * <code>string message = 2;</code>
-       * @return The message.
+       * <code>bool found = 2;</code>
+       * @return The found.
        */
-      public java.lang.String getMessage() {
-        java.lang.Object ref = message_;
+      @java.lang.Override
+      public boolean getFound() {
+        return found_;
+      }
+      /**
+       * <pre>
+       * Falso se o Gateway não conhece o dispositivo
+       * </pre>
+       *
+       * <code>bool found = 2;</code>
+       * @param value The found to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFound(boolean value) {
+
+        found_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Falso se o Gateway não conhece o dispositivo
+       * </pre>
+       *
+       * <code>bool found = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        found_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object state_ = "";
+      /**
+       * <pre>
+       * Estado atual do dispositivo
+       * </pre>
+       *
+       * <code>string state = 3;</code>
+       * @return The state.
+       */
+      public java.lang.String getState() {
+        java.lang.Object ref = state_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          message_ = s;
+          state_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -4695,20 +14485,20 @@ public final class Smarthome {
       }
       /**
        * <pre>
-       * Mensagem adicional
+       * Estado atual do dispositivo
        * </pre>
        *
-       * <code>string message = 2;</code>
-       * @return The bytes for message.
+       * <code>string state = 3;</code>
+       * @return The bytes for state.
        */
       public com.google.protobuf.ByteString
-          getMessageBytes() {
-        java.lang.Object ref = message_;
+          getStateBytes() {
+        java.lang.Object ref = state_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          message_ = b;
+          state_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -4716,71 +14506,71 @@ public final class Smarthome {
       }
       /**
        * <pre>
-       * Mensagem adicional
+       * Estado atual do dispositivo
        * </pre>
        *
-       * <code>string message = 2;</code>
-       * @param value The message to set.
+       * <code>string state = 3;</code>
+       * @param value The state to set.
        * @return This builder for chaining.
        */
-      public Builder setMessage(
+      public Builder setState(
           java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
-        message_ = value;
-        bitField0_ |= 0x00000002;
+        state_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Mensagem adicional
+       * Estado atual do dispositivo
        * </pre>
        *
-       * <code>string message = 2;</code>
+       * <code>string state = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearMessage() {
-        message_ = getDefaultInstance().getMessage();
-        bitField0_ = (bitField0_ & ~0x00000002);
+      public Builder clearState() {
+        state_ = getDefaultInstance().getState();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * Mensagem adicional
+       * Estado atual do dispositivo
        * </pre>
        *
-       * <code>string message = 2;</code>
-       * @param value The bytes for message to set.
+       * <code>string state = 3;</code>
+       * @param value The bytes for state to set.
        * @return This builder for chaining.
        */
-      public Builder setMessageBytes(
+      public Builder setStateBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
-        message_ = value;
-        bitField0_ |= 0x00000002;
+        state_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.example.devices.Response)
+      // @@protoc_insertion_point(builder_scope:org.example.devices.StateReply)
     }
 
-    // @@protoc_insertion_point(class_scope:org.example.devices.Response)
-    private static final org.example.devices.Smarthome.Response DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:org.example.devices.StateReply)
+    private static final org.example.devices.Smarthome.StateReply DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.example.devices.Smarthome.Response();
+      DEFAULT_INSTANCE = new org.example.devices.Smarthome.StateReply();
     }
 
-    public static org.example.devices.Smarthome.Response getDefaultInstance() {
+    public static org.example.devices.Smarthome.StateReply getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Response>
-        PARSER = new com.google.protobuf.AbstractParser<Response>() {
+    private static final com.google.protobuf.Parser<StateReply>
+        PARSER = new com.google.protobuf.AbstractParser<StateReply>() {
       @java.lang.Override
-      public Response parsePartialFrom(
+      public StateReply parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4799,17 +14589,17 @@ public final class Smarthome {
       }
     };
 
-    public static com.google.protobuf.Parser<Response> parser() {
+    public static com.google.protobuf.Parser<StateReply> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Response> getParserForType() {
+    public com.google.protobuf.Parser<StateReply> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.example.devices.Smarthome.Response getDefaultInstanceForType() {
+    public org.example.devices.Smarthome.StateReply getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -4825,11 +14615,46 @@ public final class Smarthome {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_example_devices_Command_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_CommandBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_CommandBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_CommandResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_CommandResult_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_example_devices_Response_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_example_devices_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_Bucket_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_Bucket_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_DeviceMessage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_DeviceMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_Heartbeat_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_Heartbeat_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_StateQuery_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_StateQuery_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_StateReply_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_StateReply_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -4844,12 +14669,38 @@ public final class Smarthome {
       "\t\022\r\n\005state\030\003 \001(\t\022\r\n\005color\030\004 \001(\t\022\022\n\nbrigh" +
       "tness\030\005 \001(\t\022\017\n\007channel\030\006 \001(\t\022\016\n\006volume\030\007" +
       " \001(\t\022\023\n\013temperature\030\010 \001(\t\022\014\n\004mode\030\t \001(\t\"" +
-      "\242\001\n\007Command\022\021\n\tdevice_id\030\001 \001(\t\022\016\n\006action" +
+      "\237\003\n\007Command\022\021\n\tdevice_id\030\001 \001(\t\022\016\n\006action" +
       "\030\002 \001(\t\022\r\n\005value\030\003 \001(\t\022\r\n\005color\030\004 \001(\t\022\022\n\n" +
       "brightness\030\005 \001(\t\022\017\n\007channel\030\006 \001(\t\022\016\n\006vol" +
       "ume\030\007 \001(\t\022\023\n\013temperature\030\010 \001(\t\022\014\n\004mode\030\t" +
-      " \001(\t\"+\n\010Response\022\016\n\006status\030\001 \001(\t\022\017\n\007mess" +
-      "age\030\002 \001(\tb\006proto3"
+      " \001(\t\022\021\n\tpage_size\030\n \001(\005\022\016\n\006cursor\030\013 \001(\t\022" +
+      "\023\n\013type_filter\030\014 \001(\t\022\021\n\tid_prefix\030\r \001(\t\022" +
+      "\022\n\nrequest_id\030\016 \001(\004\0220\n\005batch\030\017 \001(\0132!.org" +
+      ".example.devices.CommandBatch\022\r\n\005group\030\020" +
+      " \001(\t\022\017\n\007members\030\021 \003(\t\022\r\n\005scene\030\022 \001(\t\022\023\n\013" +
+      "from_millis\030\023 \001(\003\022\021\n\tto_millis\030\024 \001(\003\022\023\n\013" +
+      "step_millis\030\025 \001(\003\"N\n\014CommandBatch\022.\n\010com" +
+      "mands\030\001 \003(\0132\034.org.example.devices.Comman" +
+      "d\022\016\n\006atomic\030\002 \001(\010\"C\n\rCommandResult\022\021\n\tde" +
+      "vice_id\030\001 \001(\t\022\016\n\006status\030\002 \001(\t\022\017\n\007message" +
+      "\030\003 \001(\t\"\345\001\n\010Response\022\016\n\006status\030\001 \001(\t\022\017\n\007m" +
+      "essage\030\002 \001(\t\022,\n\007devices\030\003 \003(\0132\033.org.exam" +
+      "ple.devices.Device\022\023\n\013next_cursor\030\004 \001(\t\022" +
+      "\022\n\nrequest_id\030\005 \001(\004\0223\n\007results\030\006 \003(\0132\".o" +
+      "rg.example.devices.CommandResult\022,\n\007buck" +
+      "ets\030\007 \003(\0132\033.org.example.devices.Bucket\"T" +
+      "\n\006Bucket\022\024\n\014start_millis\030\001 \001(\003\022\013\n\003min\030\002 " +
+      "\001(\001\022\013\n\003max\030\003 \001(\001\022\013\n\003avg\030\004 \001(\001\022\r\n\005count\030\005" +
+      " \001(\003\"\361\001\n\rDeviceMessage\0223\n\014registration\030\020" +
+      " \001(\0132\033.org.example.devices.DeviceH\000\0223\n\th" +
+      "eartbeat\030\021 \001(\0132\036.org.example.devices.Hea" +
+      "rtbeatH\000\0226\n\013state_query\030\022 \001(\0132\037.org.exam" +
+      "ple.devices.StateQueryH\000\0226\n\013state_reply\030" +
+      "\023 \001(\0132\037.org.example.devices.StateReplyH\000" +
+      "B\006\n\004body\"\036\n\tHeartbeat\022\021\n\tdevice_id\030\001 \001(\t" +
+      "\"\037\n\nStateQuery\022\021\n\tdevice_id\030\001 \001(\t\"=\n\nSta" +
+      "teReply\022\021\n\tdevice_id\030\001 \001(\t\022\r\n\005found\030\002 \001(" +
+      "\010\022\r\n\005state\030\003 \001(\tb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -4866,13 +14717,55 @@ public final class Smarthome {
     internal_static_org_example_devices_Command_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_example_devices_Command_descriptor,
-        new java.lang.String[] { "DeviceId", "Action", "Value", "Color", "Brightness", "Channel", "Volume", "Temperature", "Mode", });
-    internal_static_org_example_devices_Response_descriptor =
+        new java.lang.String[] { "DeviceId", "Action", "Value", "Color", "Brightness", "Channel", "Volume", "Temperature", "Mode", "PageSize", "Cursor", "TypeFilter", "IdPrefix", "RequestId", "Batch", "Group", "Members", "Scene", "FromMillis", "ToMillis", "StepMillis", });
+    internal_static_org_example_devices_CommandBatch_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_org_example_devices_CommandBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_CommandBatch_descriptor,
+        new java.lang.String[] { "Commands", "Atomic", });
+    internal_static_org_example_devices_CommandResult_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_org_example_devices_CommandResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_CommandResult_descriptor,
+        new java.lang.String[] { "DeviceId", "Status", "Message", });
+    internal_static_org_example_devices_Response_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_org_example_devices_Response_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_example_devices_Response_descriptor,
-        new java.lang.String[] { "Status", "Message", });
+        new java.lang.String[] { "Status", "Message", "Devices", "NextCursor", "RequestId", "Results", "Buckets", });
+    internal_static_org_example_devices_Bucket_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_org_example_devices_Bucket_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_Bucket_descriptor,
+        new java.lang.String[] { "StartMillis", "Min", "Max", "Avg", "Count", });
+    internal_static_org_example_devices_DeviceMessage_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_org_example_devices_DeviceMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_DeviceMessage_descriptor,
+        new java.lang.String[] { "Registration", "Heartbeat", "StateQuery", "StateReply", "Body", });
+    internal_static_org_example_devices_Heartbeat_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_org_example_devices_Heartbeat_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_Heartbeat_descriptor,
+        new java.lang.String[] { "DeviceId", });
+    internal_static_org_example_devices_StateQuery_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_org_example_devices_StateQuery_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_StateQuery_descriptor,
+        new java.lang.String[] { "DeviceId", });
+    internal_static_org_example_devices_StateReply_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_org_example_devices_StateReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_StateReply_descriptor,
+        new java.lang.String[] { "DeviceId", "Found", "State", });
     descriptor.resolveAllFeaturesImmutable();
   }
 
@@ -6,6 +6,7 @@ import java.net.InetAddress;
 import java.net.MulticastSocket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
 public class TemperatureSensor {
@@ -50,7 +51,7 @@ public class TemperatureSensor {
                 sendTemperaturePacket(socket, group, id, type, temperature);
 
                 // Verifica a saúde do gateway
-                gatewayAvailable = checkGatewayHealth(socket, group);
+                gatewayAvailable = checkGatewayHealth(socket, group, id);
 
                 // Wait for the next interval
                 TimeUnit.SECONDS.sleep(15);
@@ -70,31 +71,23 @@ public class TemperatureSensor {
                 .setState(temperature)
                 .build();
 
-        byte[] data = device.toByteArray();
-        DatagramPacket packet = new DatagramPacket(data, data.length, group, MULTICAST_PORT);
-        socket.send(packet);
+        send(socket, group, Smarthome.DeviceMessage.newBuilder().setRegistration(device).build());
         System.out.println("Temperature sent: " + temperature);
     }
 
-    private static boolean checkGatewayHealth(MulticastSocket socket, InetAddress group) {
+    private static boolean checkGatewayHealth(MulticastSocket socket, InetAddress group, String id) {
         try {
             // Send a health check message
-            String healthCheckMessage = "HEALTH_CHECK";
-            DatagramPacket healthCheckPacket = new DatagramPacket(
-                    healthCheckMessage.getBytes(), healthCheckMessage.length(), group, MULTICAST_PORT
-            );
-            socket.send(healthCheckPacket);
+            send(socket, group, Smarthome.DeviceMessage.newBuilder()
+                    .setHeartbeat(Smarthome.Heartbeat.newBuilder().setDeviceId(id))
+                    .build());
 
             // Set socket timeout for receiving the response
             socket.setSoTimeout(TIMEOUT_MS);
 
             // Listen for a response
-            byte[] buffer = new byte[1024];
-            DatagramPacket responsePacket = new DatagramPacket(buffer, buffer.length);
-            socket.receive(responsePacket);
-
-            String response = new String(responsePacket.getData(), 0, responsePacket.getLength());
-            if ("HEALTH_OK".equals(response)) {
+            Smarthome.DeviceMessage response = receive(socket);
+            if (response.hasHeartbeat()) {
                 System.out.println("Gateway is reachable.");
                 return true;
             }
@@ -109,21 +102,15 @@ public class TemperatureSensor {
 
     private static String getSensorTemperature(MulticastSocket socket, InetAddress group, String id) {
         try {
-            // Send a health check message
-            String statusSensorMessage = "STATUSSENSOR_" + id;
-            DatagramPacket healthCheckPacket = new DatagramPacket(
-                    statusSensorMessage.getBytes(), statusSensorMessage.length(), group, MULTICAST_PORT
-            );
-            socket.send(healthCheckPacket);
+            // Ask the gateway for the temperature it holds for this sensor
+            send(socket, group, Smarthome.DeviceMessage.newBuilder()
+                    .setStateQuery(Smarthome.StateQuery.newBuilder().setDeviceId(id))
+                    .build());
 
             // Listen for a response
-            byte[] buffer = new byte[1024];
-            DatagramPacket responsePacket = new DatagramPacket(buffer, buffer.length);
-            socket.receive(responsePacket);
-
-            String response = new String(responsePacket.getData(), 0, responsePacket.getLength());
-            if (response != null) {
-                return response;
+            Smarthome.DeviceMessage response = receive(socket);
+            if (response.hasStateReply() && response.getStateReply().getFound()) {
+                return response.getStateReply().getState();
             }
         } catch (IOException e) {
             System.err.println("STATUS_SENSOR error: " + e.getMessage());
@@ -131,4 +118,16 @@ public class TemperatureSensor {
 
         return null;
     }
+
+    private static void send(MulticastSocket socket, InetAddress group, Smarthome.DeviceMessage message) throws IOException {
+        byte[] data = message.toByteArray();
+        socket.send(new DatagramPacket(data, data.length, group, MULTICAST_PORT));
+    }
+
+    private static Smarthome.DeviceMessage receive(MulticastSocket socket) throws IOException {
+        byte[] buffer = new byte[1024];
+        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        socket.receive(packet);
+        return Smarthome.DeviceMessage.parseFrom(ByteBuffer.wrap(packet.getData(), 0, packet.getLength()));
+    }
 }
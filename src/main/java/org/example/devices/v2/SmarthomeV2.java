@@ -0,0 +1,5168 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: proto/smarthome_v2.proto
+// Protobuf Java Version: 4.29.3
+
+package org.example.devices.v2;
+
+public final class SmarthomeV2 {
+  private SmarthomeV2() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 29,
+      /* patch= */ 3,
+      /* suffix= */ "",
+      SmarthomeV2.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * <pre>
+   * Tipo do dispositivo
+   * </pre>
+   *
+   * Protobuf enum {@code org.example.devices.v2.DeviceType}
+   */
+  public enum DeviceType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>DEVICE_TYPE_UNSPECIFIED = 0;</code>
+     */
+    DEVICE_TYPE_UNSPECIFIED(0),
+    /**
+     * <code>DEVICE_TYPE_LAMP = 1;</code>
+     */
+    DEVICE_TYPE_LAMP(1),
+    /**
+     * <code>DEVICE_TYPE_TV = 2;</code>
+     */
+    DEVICE_TYPE_TV(2),
+    /**
+     * <code>DEVICE_TYPE_AIR_CONDITIONER = 3;</code>
+     */
+    DEVICE_TYPE_AIR_CONDITIONER(3),
+    /**
+     * <code>DEVICE_TYPE_TEMPERATURE_SENSOR = 4;</code>
+     */
+    DEVICE_TYPE_TEMPERATURE_SENSOR(4),
+    UNRECOGNIZED(-1),
+    ;
+
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        DeviceType.class.getName());
+    }
+    /**
+     * <code>DEVICE_TYPE_UNSPECIFIED = 0;</code>
+     */
+    public static final int DEVICE_TYPE_UNSPECIFIED_VALUE = 0;
+    /**
+     * <code>DEVICE_TYPE_LAMP = 1;</code>
+     */
+    public static final int DEVICE_TYPE_LAMP_VALUE = 1;
+    /**
+     * <code>DEVICE_TYPE_TV = 2;</code>
+     */
+    public static final int DEVICE_TYPE_TV_VALUE = 2;
+    /**
+     * <code>DEVICE_TYPE_AIR_CONDITIONER = 3;</code>
+     */
+    public static final int DEVICE_TYPE_AIR_CONDITIONER_VALUE = 3;
+    /**
+     * <code>DEVICE_TYPE_TEMPERATURE_SENSOR = 4;</code>
+     */
+    public static final int DEVICE_TYPE_TEMPERATURE_SENSOR_VALUE = 4;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static DeviceType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static DeviceType forNumber(int value) {
+      switch (value) {
+        case 0: return DEVICE_TYPE_UNSPECIFIED;
+        case 1: return DEVICE_TYPE_LAMP;
+        case 2: return DEVICE_TYPE_TV;
+        case 3: return DEVICE_TYPE_AIR_CONDITIONER;
+        case 4: return DEVICE_TYPE_TEMPERATURE_SENSOR;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<DeviceType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        DeviceType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<DeviceType>() {
+            public DeviceType findValueByNumber(int number) {
+              return DeviceType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.example.devices.v2.SmarthomeV2.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final DeviceType[] VALUES = values();
+
+    public static DeviceType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private DeviceType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:org.example.devices.v2.DeviceType)
+  }
+
+  /**
+   * <pre>
+   * Estado de energia do dispositivo
+   * </pre>
+   *
+   * Protobuf enum {@code org.example.devices.v2.PowerState}
+   */
+  public enum PowerState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>POWER_STATE_UNSPECIFIED = 0;</code>
+     */
+    POWER_STATE_UNSPECIFIED(0),
+    /**
+     * <code>POWER_STATE_ON = 1;</code>
+     */
+    POWER_STATE_ON(1),
+    /**
+     * <code>POWER_STATE_OFF = 2;</code>
+     */
+    POWER_STATE_OFF(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        PowerState.class.getName());
+    }
+    /**
+     * <code>POWER_STATE_UNSPECIFIED = 0;</code>
+     */
+    public static final int POWER_STATE_UNSPECIFIED_VALUE = 0;
+    /**
+     * <code>POWER_STATE_ON = 1;</code>
+     */
+    public static final int POWER_STATE_ON_VALUE = 1;
+    /**
+     * <code>POWER_STATE_OFF = 2;</code>
+     */
+    public static final int POWER_STATE_OFF_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static PowerState valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static PowerState forNumber(int value) {
+      switch (value) {
+        case 0: return POWER_STATE_UNSPECIFIED;
+        case 1: return POWER_STATE_ON;
+        case 2: return POWER_STATE_OFF;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<PowerState>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        PowerState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<PowerState>() {
+            public PowerState findValueByNumber(int number) {
+              return PowerState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.example.devices.v2.SmarthomeV2.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final PowerState[] VALUES = values();
+
+    public static PowerState valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private PowerState(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:org.example.devices.v2.PowerState)
+  }
+
+  /**
+   * <pre>
+   * Modo do ar-condicionado
+   * </pre>
+   *
+   * Protobuf enum {@code org.example.devices.v2.Mode}
+   */
+  public enum Mode
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>MODE_UNSPECIFIED = 0;</code>
+     */
+    MODE_UNSPECIFIED(0),
+    /**
+     * <code>MODE_AUTO = 1;</code>
+     */
+    MODE_AUTO(1),
+    /**
+     * <code>MODE_COOLING = 2;</code>
+     */
+    MODE_COOLING(2),
+    /**
+     * <code>MODE_DRY = 3;</code>
+     */
+    MODE_DRY(3),
+    /**
+     * <code>MODE_FAN = 4;</code>
+     */
+    MODE_FAN(4),
+    /**
+     * <code>MODE_HEATING = 5;</code>
+     */
+    MODE_HEATING(5),
+    UNRECOGNIZED(-1),
+    ;
+
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Mode.class.getName());
+    }
+    /**
+     * <code>MODE_UNSPECIFIED = 0;</code>
+     */
+    public static final int MODE_UNSPECIFIED_VALUE = 0;
+    /**
+     * <code>MODE_AUTO = 1;</code>
+     */
+    public static final int MODE_AUTO_VALUE = 1;
+    /**
+     * <code>MODE_COOLING = 2;</code>
+     */
+    public static final int MODE_COOLING_VALUE = 2;
+    /**
+     * <code>MODE_DRY = 3;</code>
+     */
+    public static final int MODE_DRY_VALUE = 3;
+    /**
+     * <code>MODE_FAN = 4;</code>
+     */
+    public static final int MODE_FAN_VALUE = 4;
+    /**
+     * <code>MODE_HEATING = 5;</code>
+     */
+    public static final int MODE_HEATING_VALUE = 5;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Mode valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Mode forNumber(int value) {
+      switch (value) {
+        case 0: return MODE_UNSPECIFIED;
+        case 1: return MODE_AUTO;
+        case 2: return MODE_COOLING;
+        case 3: return MODE_DRY;
+        case 4: return MODE_FAN;
+        case 5: return MODE_HEATING;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Mode>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Mode> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Mode>() {
+            public Mode findValueByNumber(int number) {
+              return Mode.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.example.devices.v2.SmarthomeV2.getDescriptor().getEnumTypes().get(2);
+    }
+
+    private static final Mode[] VALUES = values();
+
+    public static Mode valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Mode(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:org.example.devices.v2.Mode)
+  }
+
+  /**
+   * <pre>
+   * Ação de um comando
+   * </pre>
+   *
+   * Protobuf enum {@code org.example.devices.v2.Action}
+   */
+  public enum Action
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * Apenas altera os atributos informados
+     * </pre>
+     *
+     * <code>ACTION_UNSPECIFIED = 0;</code>
+     */
+    ACTION_UNSPECIFIED(0),
+    /**
+     * <code>ACTION_LIST_DEVICES = 1;</code>
+     */
+    ACTION_LIST_DEVICES(1),
+    /**
+     * <code>ACTION_STATUS = 2;</code>
+     */
+    ACTION_STATUS(2),
+    /**
+     * <code>ACTION_ON = 3;</code>
+     */
+    ACTION_ON(3),
+    /**
+     * <code>ACTION_OFF = 4;</code>
+     */
+    ACTION_OFF(4),
+    UNRECOGNIZED(-1),
+    ;
+
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Action.class.getName());
+    }
+    /**
+     * <pre>
+     * Apenas altera os atributos informados
+     * </pre>
+     *
+     * <code>ACTION_UNSPECIFIED = 0;</code>
+     */
+    public static final int ACTION_UNSPECIFIED_VALUE = 0;
+    /**
+     * <code>ACTION_LIST_DEVICES = 1;</code>
+     */
+    public static final int ACTION_LIST_DEVICES_VALUE = 1;
+    /**
+     * <code>ACTION_STATUS = 2;</code>
+     */
+    public static final int ACTION_STATUS_VALUE = 2;
+    /**
+     * <code>ACTION_ON = 3;</code>
+     */
+    public static final int ACTION_ON_VALUE = 3;
+    /**
+     * <code>ACTION_OFF = 4;</code>
+     */
+    public static final int ACTION_OFF_VALUE = 4;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Action valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Action forNumber(int value) {
+      switch (value) {
+        case 0: return ACTION_UNSPECIFIED;
+        case 1: return ACTION_LIST_DEVICES;
+        case 2: return ACTION_STATUS;
+        case 3: return ACTION_ON;
+        case 4: return ACTION_OFF;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Action>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Action> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Action>() {
+            public Action findValueByNumber(int number) {
+              return Action.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.example.devices.v2.SmarthomeV2.getDescriptor().getEnumTypes().get(3);
+    }
+
+    private static final Action[] VALUES = values();
+
+    public static Action valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Action(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:org.example.devices.v2.Action)
+  }
+
+  public interface DeviceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.v2.Device)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * ID do dispositivo
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <pre>
+     * ID do dispositivo
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <pre>
+     * Tipo do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <pre>
+     * Tipo do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+     * @return The type.
+     */
+    org.example.devices.v2.SmarthomeV2.DeviceType getType();
+
+    /**
+     * <pre>
+     * Estado do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.PowerState state = 3;</code>
+     * @return The enum numeric value on the wire for state.
+     */
+    int getStateValue();
+    /**
+     * <pre>
+     * Estado do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.PowerState state = 3;</code>
+     * @return The state.
+     */
+    org.example.devices.v2.SmarthomeV2.PowerState getState();
+
+    /**
+     * <pre>
+     * Cor (para lâmpadas)
+     * </pre>
+     *
+     * <code>string color = 4;</code>
+     * @return The color.
+     */
+    java.lang.String getColor();
+    /**
+     * <pre>
+     * Cor (para lâmpadas)
+     * </pre>
+     *
+     * <code>string color = 4;</code>
+     * @return The bytes for color.
+     */
+    com.google.protobuf.ByteString
+        getColorBytes();
+
+    /**
+     * <pre>
+     * Brilho 0-100 (para lâmpadas)
+     * </pre>
+     *
+     * <code>optional sint32 brightness = 5;</code>
+     * @return Whether the brightness field is set.
+     */
+    boolean hasBrightness();
+    /**
+     * <pre>
+     * Brilho 0-100 (para lâmpadas)
+     * </pre>
+     *
+     * <code>optional sint32 brightness = 5;</code>
+     * @return The brightness.
+     */
+    int getBrightness();
+
+    /**
+     * <pre>
+     * Canal (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 channel = 6;</code>
+     * @return Whether the channel field is set.
+     */
+    boolean hasChannel();
+    /**
+     * <pre>
+     * Canal (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 channel = 6;</code>
+     * @return The channel.
+     */
+    int getChannel();
+
+    /**
+     * <pre>
+     * Volume 0-100 (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 volume = 7;</code>
+     * @return Whether the volume field is set.
+     */
+    boolean hasVolume();
+    /**
+     * <pre>
+     * Volume 0-100 (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 volume = 7;</code>
+     * @return The volume.
+     */
+    int getVolume();
+
+    /**
+     * <pre>
+     * Temperatura em °C (ar-condicionado e sensores)
+     * </pre>
+     *
+     * <code>optional float temperature = 8;</code>
+     * @return Whether the temperature field is set.
+     */
+    boolean hasTemperature();
+    /**
+     * <pre>
+     * Temperatura em °C (ar-condicionado e sensores)
+     * </pre>
+     *
+     * <code>optional float temperature = 8;</code>
+     * @return The temperature.
+     */
+    float getTemperature();
+
+    /**
+     * <pre>
+     * Modo (para ar-condicionado)
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Mode mode = 9;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    int getModeValue();
+    /**
+     * <pre>
+     * Modo (para ar-condicionado)
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Mode mode = 9;</code>
+     * @return The mode.
+     */
+    org.example.devices.v2.SmarthomeV2.Mode getMode();
+  }
+  /**
+   * <pre>
+   * Mensagem representando um dispositivo
+   * </pre>
+   *
+   * Protobuf type {@code org.example.devices.v2.Device}
+   */
+  public static final class Device extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.v2.Device)
+      DeviceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Device.class.getName());
+    }
+    // Use Device.newBuilder() to construct.
+    private Device(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Device() {
+      id_ = "";
+      type_ = 0;
+      state_ = 0;
+      color_ = "";
+      mode_ = 0;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Device_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Device_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.v2.SmarthomeV2.Device.class, org.example.devices.v2.SmarthomeV2.Device.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <pre>
+     * ID do dispositivo
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * ID do dispositivo
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 2;
+    private int type_ = 0;
+    /**
+     * <pre>
+     * Tipo do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <pre>
+     * Tipo do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+     * @return The type.
+     */
+    @java.lang.Override public org.example.devices.v2.SmarthomeV2.DeviceType getType() {
+      org.example.devices.v2.SmarthomeV2.DeviceType result = org.example.devices.v2.SmarthomeV2.DeviceType.forNumber(type_);
+      return result == null ? org.example.devices.v2.SmarthomeV2.DeviceType.UNRECOGNIZED : result;
+    }
+
+    public static final int STATE_FIELD_NUMBER = 3;
+    private int state_ = 0;
+    /**
+     * <pre>
+     * Estado do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.PowerState state = 3;</code>
+     * @return The enum numeric value on the wire for state.
+     */
+    @java.lang.Override public int getStateValue() {
+      return state_;
+    }
+    /**
+     * <pre>
+     * Estado do dispositivo
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.PowerState state = 3;</code>
+     * @return The state.
+     */
+    @java.lang.Override public org.example.devices.v2.SmarthomeV2.PowerState getState() {
+      org.example.devices.v2.SmarthomeV2.PowerState result = org.example.devices.v2.SmarthomeV2.PowerState.forNumber(state_);
+      return result == null ? org.example.devices.v2.SmarthomeV2.PowerState.UNRECOGNIZED : result;
+    }
+
+    public static final int COLOR_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object color_ = "";
+    /**
+     * <pre>
+     * Cor (para lâmpadas)
+     * </pre>
+     *
+     * <code>string color = 4;</code>
+     * @return The color.
+     */
+    @java.lang.Override
+    public java.lang.String getColor() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        color_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Cor (para lâmpadas)
+     * </pre>
+     *
+     * <code>string color = 4;</code>
+     * @return The bytes for color.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getColorBytes() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        color_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BRIGHTNESS_FIELD_NUMBER = 5;
+    private int brightness_ = 0;
+    /**
+     * <pre>
+     * Brilho 0-100 (para lâmpadas)
+     * </pre>
+     *
+     * <code>optional sint32 brightness = 5;</code>
+     * @return Whether the brightness field is set.
+     */
+    @java.lang.Override
+    public boolean hasBrightness() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Brilho 0-100 (para lâmpadas)
+     * </pre>
+     *
+     * <code>optional sint32 brightness = 5;</code>
+     * @return The brightness.
+     */
+    @java.lang.Override
+    public int getBrightness() {
+      return brightness_;
+    }
+
+    public static final int CHANNEL_FIELD_NUMBER = 6;
+    private int channel_ = 0;
+    /**
+     * <pre>
+     * Canal (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 channel = 6;</code>
+     * @return Whether the channel field is set.
+     */
+    @java.lang.Override
+    public boolean hasChannel() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Canal (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 channel = 6;</code>
+     * @return The channel.
+     */
+    @java.lang.Override
+    public int getChannel() {
+      return channel_;
+    }
+
+    public static final int VOLUME_FIELD_NUMBER = 7;
+    private int volume_ = 0;
+    /**
+     * <pre>
+     * Volume 0-100 (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 volume = 7;</code>
+     * @return Whether the volume field is set.
+     */
+    @java.lang.Override
+    public boolean hasVolume() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * Volume 0-100 (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 volume = 7;</code>
+     * @return The volume.
+     */
+    @java.lang.Override
+    public int getVolume() {
+      return volume_;
+    }
+
+    public static final int TEMPERATURE_FIELD_NUMBER = 8;
+    private float temperature_ = 0F;
+    /**
+     * <pre>
+     * Temperatura em °C (ar-condicionado e sensores)
+     * </pre>
+     *
+     * <code>optional float temperature = 8;</code>
+     * @return Whether the temperature field is set.
+     */
+    @java.lang.Override
+    public boolean hasTemperature() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * Temperatura em °C (ar-condicionado e sensores)
+     * </pre>
+     *
+     * <code>optional float temperature = 8;</code>
+     * @return The temperature.
+     */
+    @java.lang.Override
+    public float getTemperature() {
+      return temperature_;
+    }
+
+    public static final int MODE_FIELD_NUMBER = 9;
+    private int mode_ = 0;
+    /**
+     * <pre>
+     * Modo (para ar-condicionado)
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Mode mode = 9;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    @java.lang.Override public int getModeValue() {
+      return mode_;
+    }
+    /**
+     * <pre>
+     * Modo (para ar-condicionado)
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Mode mode = 9;</code>
+     * @return The mode.
+     */
+    @java.lang.Override public org.example.devices.v2.SmarthomeV2.Mode getMode() {
+      org.example.devices.v2.SmarthomeV2.Mode result = org.example.devices.v2.SmarthomeV2.Mode.forNumber(mode_);
+      return result == null ? org.example.devices.v2.SmarthomeV2.Mode.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(id_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      }
+      if (type_ != org.example.devices.v2.SmarthomeV2.DeviceType.DEVICE_TYPE_UNSPECIFIED.getNumber()) {
+        output.writeEnum(2, type_);
+      }
+      if (state_ != org.example.devices.v2.SmarthomeV2.PowerState.POWER_STATE_UNSPECIFIED.getNumber()) {
+        output.writeEnum(3, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(color_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, color_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeSInt32(5, brightness_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeSInt32(6, channel_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeSInt32(7, volume_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeFloat(8, temperature_);
+      }
+      if (mode_ != org.example.devices.v2.SmarthomeV2.Mode.MODE_UNSPECIFIED.getNumber()) {
+        output.writeEnum(9, mode_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(id_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      }
+      if (type_ != org.example.devices.v2.SmarthomeV2.DeviceType.DEVICE_TYPE_UNSPECIFIED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, type_);
+      }
+      if (state_ != org.example.devices.v2.SmarthomeV2.PowerState.POWER_STATE_UNSPECIFIED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(color_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, color_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(5, brightness_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(6, channel_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(7, volume_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(8, temperature_);
+      }
+      if (mode_ != org.example.devices.v2.SmarthomeV2.Mode.MODE_UNSPECIFIED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(9, mode_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.v2.SmarthomeV2.Device)) {
+        return super.equals(obj);
+      }
+      org.example.devices.v2.SmarthomeV2.Device other = (org.example.devices.v2.SmarthomeV2.Device) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (type_ != other.type_) return false;
+      if (state_ != other.state_) return false;
+      if (!getColor()
+          .equals(other.getColor())) return false;
+      if (hasBrightness() != other.hasBrightness()) return false;
+      if (hasBrightness()) {
+        if (getBrightness()
+            != other.getBrightness()) return false;
+      }
+      if (hasChannel() != other.hasChannel()) return false;
+      if (hasChannel()) {
+        if (getChannel()
+            != other.getChannel()) return false;
+      }
+      if (hasVolume() != other.hasVolume()) return false;
+      if (hasVolume()) {
+        if (getVolume()
+            != other.getVolume()) return false;
+      }
+      if (hasTemperature() != other.hasTemperature()) return false;
+      if (hasTemperature()) {
+        if (java.lang.Float.floatToIntBits(getTemperature())
+            != java.lang.Float.floatToIntBits(
+                other.getTemperature())) return false;
+      }
+      if (mode_ != other.mode_) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      hash = (37 * hash) + STATE_FIELD_NUMBER;
+      hash = (53 * hash) + state_;
+      hash = (37 * hash) + COLOR_FIELD_NUMBER;
+      hash = (53 * hash) + getColor().hashCode();
+      if (hasBrightness()) {
+        hash = (37 * hash) + BRIGHTNESS_FIELD_NUMBER;
+        hash = (53 * hash) + getBrightness();
+      }
+      if (hasChannel()) {
+        hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
+        hash = (53 * hash) + getChannel();
+      }
+      if (hasVolume()) {
+        hash = (37 * hash) + VOLUME_FIELD_NUMBER;
+        hash = (53 * hash) + getVolume();
+      }
+      if (hasTemperature()) {
+        hash = (37 * hash) + TEMPERATURE_FIELD_NUMBER;
+        hash = (53 * hash) + java.lang.Float.floatToIntBits(
+            getTemperature());
+      }
+      hash = (37 * hash) + MODE_FIELD_NUMBER;
+      hash = (53 * hash) + mode_;
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Device parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Device parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Device parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.v2.SmarthomeV2.Device prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Mensagem representando um dispositivo
+     * </pre>
+     *
+     * Protobuf type {@code org.example.devices.v2.Device}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.v2.Device)
+        org.example.devices.v2.SmarthomeV2.DeviceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Device_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Device_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.v2.SmarthomeV2.Device.class, org.example.devices.v2.SmarthomeV2.Device.Builder.class);
+      }
+
+      // Construct using org.example.devices.v2.SmarthomeV2.Device.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        type_ = 0;
+        state_ = 0;
+        color_ = "";
+        brightness_ = 0;
+        channel_ = 0;
+        volume_ = 0;
+        temperature_ = 0F;
+        mode_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Device_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Device getDefaultInstanceForType() {
+        return org.example.devices.v2.SmarthomeV2.Device.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Device build() {
+        org.example.devices.v2.SmarthomeV2.Device result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Device buildPartial() {
+        org.example.devices.v2.SmarthomeV2.Device result = new org.example.devices.v2.SmarthomeV2.Device(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.example.devices.v2.SmarthomeV2.Device result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.state_ = state_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.color_ = color_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.brightness_ = brightness_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.channel_ = channel_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.volume_ = volume_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.temperature_ = temperature_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.mode_ = mode_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.v2.SmarthomeV2.Device) {
+          return mergeFrom((org.example.devices.v2.SmarthomeV2.Device)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.v2.SmarthomeV2.Device other) {
+        if (other == org.example.devices.v2.SmarthomeV2.Device.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (other.state_ != 0) {
+          setStateValue(other.getStateValue());
+        }
+        if (!other.getColor().isEmpty()) {
+          color_ = other.color_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasBrightness()) {
+          setBrightness(other.getBrightness());
+        }
+        if (other.hasChannel()) {
+          setChannel(other.getChannel());
+        }
+        if (other.hasVolume()) {
+          setVolume(other.getVolume());
+        }
+        if (other.hasTemperature()) {
+          setTemperature(other.getTemperature());
+        }
+        if (other.mode_ != 0) {
+          setModeValue(other.getModeValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                type_ = input.readEnum();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                state_ = input.readEnum();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                color_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                brightness_ = input.readSInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                channel_ = input.readSInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                volume_ = input.readSInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 69: {
+                temperature_ = input.readFloat();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 69
+              case 72: {
+                mode_ = input.readEnum();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <pre>
+       * ID do dispositivo
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * ID do dispositivo
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * ID do dispositivo
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ID do dispositivo
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ID do dispositivo
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int type_ = 0;
+      /**
+       * <pre>
+       * Tipo do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <pre>
+       * Tipo do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        type_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Tipo do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.DeviceType getType() {
+        org.example.devices.v2.SmarthomeV2.DeviceType result = org.example.devices.v2.SmarthomeV2.DeviceType.forNumber(type_);
+        return result == null ? org.example.devices.v2.SmarthomeV2.DeviceType.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * Tipo do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(org.example.devices.v2.SmarthomeV2.DeviceType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Tipo do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.DeviceType type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int state_ = 0;
+      /**
+       * <pre>
+       * Estado do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.PowerState state = 3;</code>
+       * @return The enum numeric value on the wire for state.
+       */
+      @java.lang.Override public int getStateValue() {
+        return state_;
+      }
+      /**
+       * <pre>
+       * Estado do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.PowerState state = 3;</code>
+       * @param value The enum numeric value on the wire for state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateValue(int value) {
+        state_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Estado do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.PowerState state = 3;</code>
+       * @return The state.
+       */
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.PowerState getState() {
+        org.example.devices.v2.SmarthomeV2.PowerState result = org.example.devices.v2.SmarthomeV2.PowerState.forNumber(state_);
+        return result == null ? org.example.devices.v2.SmarthomeV2.PowerState.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * Estado do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.PowerState state = 3;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setState(org.example.devices.v2.SmarthomeV2.PowerState value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        state_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Estado do dispositivo
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.PowerState state = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearState() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        state_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object color_ = "";
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @return The color.
+       */
+      public java.lang.String getColor() {
+        java.lang.Object ref = color_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          color_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @return The bytes for color.
+       */
+      public com.google.protobuf.ByteString
+          getColorBytes() {
+        java.lang.Object ref = color_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          color_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @param value The color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        color_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearColor() {
+        color_ = getDefaultInstance().getColor();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @param value The bytes for color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        color_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private int brightness_ ;
+      /**
+       * <pre>
+       * Brilho 0-100 (para lâmpadas)
+       * </pre>
+       *
+       * <code>optional sint32 brightness = 5;</code>
+       * @return Whether the brightness field is set.
+       */
+      @java.lang.Override
+      public boolean hasBrightness() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * Brilho 0-100 (para lâmpadas)
+       * </pre>
+       *
+       * <code>optional sint32 brightness = 5;</code>
+       * @return The brightness.
+       */
+      @java.lang.Override
+      public int getBrightness() {
+        return brightness_;
+      }
+      /**
+       * <pre>
+       * Brilho 0-100 (para lâmpadas)
+       * </pre>
+       *
+       * <code>optional sint32 brightness = 5;</code>
+       * @param value The brightness to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBrightness(int value) {
+
+        brightness_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Brilho 0-100 (para lâmpadas)
+       * </pre>
+       *
+       * <code>optional sint32 brightness = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBrightness() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        brightness_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int channel_ ;
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 channel = 6;</code>
+       * @return Whether the channel field is set.
+       */
+      @java.lang.Override
+      public boolean hasChannel() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 channel = 6;</code>
+       * @return The channel.
+       */
+      @java.lang.Override
+      public int getChannel() {
+        return channel_;
+      }
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 channel = 6;</code>
+       * @param value The channel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChannel(int value) {
+
+        channel_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 channel = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChannel() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        channel_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int volume_ ;
+      /**
+       * <pre>
+       * Volume 0-100 (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 volume = 7;</code>
+       * @return Whether the volume field is set.
+       */
+      @java.lang.Override
+      public boolean hasVolume() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * Volume 0-100 (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 volume = 7;</code>
+       * @return The volume.
+       */
+      @java.lang.Override
+      public int getVolume() {
+        return volume_;
+      }
+      /**
+       * <pre>
+       * Volume 0-100 (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 volume = 7;</code>
+       * @param value The volume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVolume(int value) {
+
+        volume_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Volume 0-100 (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 volume = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVolume() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        volume_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private float temperature_ ;
+      /**
+       * <pre>
+       * Temperatura em °C (ar-condicionado e sensores)
+       * </pre>
+       *
+       * <code>optional float temperature = 8;</code>
+       * @return Whether the temperature field is set.
+       */
+      @java.lang.Override
+      public boolean hasTemperature() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <pre>
+       * Temperatura em °C (ar-condicionado e sensores)
+       * </pre>
+       *
+       * <code>optional float temperature = 8;</code>
+       * @return The temperature.
+       */
+      @java.lang.Override
+      public float getTemperature() {
+        return temperature_;
+      }
+      /**
+       * <pre>
+       * Temperatura em °C (ar-condicionado e sensores)
+       * </pre>
+       *
+       * <code>optional float temperature = 8;</code>
+       * @param value The temperature to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTemperature(float value) {
+
+        temperature_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Temperatura em °C (ar-condicionado e sensores)
+       * </pre>
+       *
+       * <code>optional float temperature = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTemperature() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        temperature_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private int mode_ = 0;
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @return The enum numeric value on the wire for mode.
+       */
+      @java.lang.Override public int getModeValue() {
+        return mode_;
+      }
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @param value The enum numeric value on the wire for mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModeValue(int value) {
+        mode_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @return The mode.
+       */
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Mode getMode() {
+        org.example.devices.v2.SmarthomeV2.Mode result = org.example.devices.v2.SmarthomeV2.Mode.forNumber(mode_);
+        return result == null ? org.example.devices.v2.SmarthomeV2.Mode.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @param value The mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMode(org.example.devices.v2.SmarthomeV2.Mode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000100;
+        mode_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMode() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        mode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.v2.Device)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.v2.Device)
+    private static final org.example.devices.v2.SmarthomeV2.Device DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.v2.SmarthomeV2.Device();
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Device getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Device>
+        PARSER = new com.google.protobuf.AbstractParser<Device>() {
+      @java.lang.Override
+      public Device parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Device> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Device> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.v2.SmarthomeV2.Device getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CommandOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.v2.Command)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * ID do dispositivo alvo
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
+     */
+    java.lang.String getDeviceId();
+    /**
+     * <pre>
+     * ID do dispositivo alvo
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
+     */
+    com.google.protobuf.ByteString
+        getDeviceIdBytes();
+
+    /**
+     * <pre>
+     * Ação
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Action action = 2;</code>
+     * @return The enum numeric value on the wire for action.
+     */
+    int getActionValue();
+    /**
+     * <pre>
+     * Ação
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Action action = 2;</code>
+     * @return The action.
+     */
+    org.example.devices.v2.SmarthomeV2.Action getAction();
+
+    /**
+     * <pre>
+     * Cor (para lâmpadas)
+     * </pre>
+     *
+     * <code>string color = 4;</code>
+     * @return The color.
+     */
+    java.lang.String getColor();
+    /**
+     * <pre>
+     * Cor (para lâmpadas)
+     * </pre>
+     *
+     * <code>string color = 4;</code>
+     * @return The bytes for color.
+     */
+    com.google.protobuf.ByteString
+        getColorBytes();
+
+    /**
+     * <pre>
+     * Brilho 0-100 (para lâmpadas)
+     * </pre>
+     *
+     * <code>optional sint32 brightness = 5;</code>
+     * @return Whether the brightness field is set.
+     */
+    boolean hasBrightness();
+    /**
+     * <pre>
+     * Brilho 0-100 (para lâmpadas)
+     * </pre>
+     *
+     * <code>optional sint32 brightness = 5;</code>
+     * @return The brightness.
+     */
+    int getBrightness();
+
+    /**
+     * <pre>
+     * Canal (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 channel = 6;</code>
+     * @return Whether the channel field is set.
+     */
+    boolean hasChannel();
+    /**
+     * <pre>
+     * Canal (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 channel = 6;</code>
+     * @return The channel.
+     */
+    int getChannel();
+
+    /**
+     * <pre>
+     * Volume 0-100 (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 volume = 7;</code>
+     * @return Whether the volume field is set.
+     */
+    boolean hasVolume();
+    /**
+     * <pre>
+     * Volume 0-100 (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 volume = 7;</code>
+     * @return The volume.
+     */
+    int getVolume();
+
+    /**
+     * <pre>
+     * Temperatura em °C (para ar-condicionado)
+     * </pre>
+     *
+     * <code>optional float temperature = 8;</code>
+     * @return Whether the temperature field is set.
+     */
+    boolean hasTemperature();
+    /**
+     * <pre>
+     * Temperatura em °C (para ar-condicionado)
+     * </pre>
+     *
+     * <code>optional float temperature = 8;</code>
+     * @return The temperature.
+     */
+    float getTemperature();
+
+    /**
+     * <pre>
+     * Modo (para ar-condicionado)
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Mode mode = 9;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    int getModeValue();
+    /**
+     * <pre>
+     * Modo (para ar-condicionado)
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Mode mode = 9;</code>
+     * @return The mode.
+     */
+    org.example.devices.v2.SmarthomeV2.Mode getMode();
+  }
+  /**
+   * <pre>
+   * Comando enviado do cliente ao Gateway
+   * </pre>
+   *
+   * Protobuf type {@code org.example.devices.v2.Command}
+   */
+  public static final class Command extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.v2.Command)
+      CommandOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Command.class.getName());
+    }
+    // Use Command.newBuilder() to construct.
+    private Command(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Command() {
+      deviceId_ = "";
+      action_ = 0;
+      color_ = "";
+      mode_ = 0;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Command_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Command_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.v2.SmarthomeV2.Command.class, org.example.devices.v2.SmarthomeV2.Command.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DEVICE_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object deviceId_ = "";
+    /**
+     * <pre>
+     * ID do dispositivo alvo
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The deviceId.
+     */
+    @java.lang.Override
+    public java.lang.String getDeviceId() {
+      java.lang.Object ref = deviceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        deviceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * ID do dispositivo alvo
+     * </pre>
+     *
+     * <code>string device_id = 1;</code>
+     * @return The bytes for deviceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDeviceIdBytes() {
+      java.lang.Object ref = deviceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        deviceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ACTION_FIELD_NUMBER = 2;
+    private int action_ = 0;
+    /**
+     * <pre>
+     * Ação
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Action action = 2;</code>
+     * @return The enum numeric value on the wire for action.
+     */
+    @java.lang.Override public int getActionValue() {
+      return action_;
+    }
+    /**
+     * <pre>
+     * Ação
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Action action = 2;</code>
+     * @return The action.
+     */
+    @java.lang.Override public org.example.devices.v2.SmarthomeV2.Action getAction() {
+      org.example.devices.v2.SmarthomeV2.Action result = org.example.devices.v2.SmarthomeV2.Action.forNumber(action_);
+      return result == null ? org.example.devices.v2.SmarthomeV2.Action.UNRECOGNIZED : result;
+    }
+
+    public static final int COLOR_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object color_ = "";
+    /**
+     * <pre>
+     * Cor (para lâmpadas)
+     * </pre>
+     *
+     * <code>string color = 4;</code>
+     * @return The color.
+     */
+    @java.lang.Override
+    public java.lang.String getColor() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        color_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Cor (para lâmpadas)
+     * </pre>
+     *
+     * <code>string color = 4;</code>
+     * @return The bytes for color.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getColorBytes() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        color_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BRIGHTNESS_FIELD_NUMBER = 5;
+    private int brightness_ = 0;
+    /**
+     * <pre>
+     * Brilho 0-100 (para lâmpadas)
+     * </pre>
+     *
+     * <code>optional sint32 brightness = 5;</code>
+     * @return Whether the brightness field is set.
+     */
+    @java.lang.Override
+    public boolean hasBrightness() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Brilho 0-100 (para lâmpadas)
+     * </pre>
+     *
+     * <code>optional sint32 brightness = 5;</code>
+     * @return The brightness.
+     */
+    @java.lang.Override
+    public int getBrightness() {
+      return brightness_;
+    }
+
+    public static final int CHANNEL_FIELD_NUMBER = 6;
+    private int channel_ = 0;
+    /**
+     * <pre>
+     * Canal (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 channel = 6;</code>
+     * @return Whether the channel field is set.
+     */
+    @java.lang.Override
+    public boolean hasChannel() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Canal (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 channel = 6;</code>
+     * @return The channel.
+     */
+    @java.lang.Override
+    public int getChannel() {
+      return channel_;
+    }
+
+    public static final int VOLUME_FIELD_NUMBER = 7;
+    private int volume_ = 0;
+    /**
+     * <pre>
+     * Volume 0-100 (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 volume = 7;</code>
+     * @return Whether the volume field is set.
+     */
+    @java.lang.Override
+    public boolean hasVolume() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * Volume 0-100 (para TVs)
+     * </pre>
+     *
+     * <code>optional sint32 volume = 7;</code>
+     * @return The volume.
+     */
+    @java.lang.Override
+    public int getVolume() {
+      return volume_;
+    }
+
+    public static final int TEMPERATURE_FIELD_NUMBER = 8;
+    private float temperature_ = 0F;
+    /**
+     * <pre>
+     * Temperatura em °C (para ar-condicionado)
+     * </pre>
+     *
+     * <code>optional float temperature = 8;</code>
+     * @return Whether the temperature field is set.
+     */
+    @java.lang.Override
+    public boolean hasTemperature() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * Temperatura em °C (para ar-condicionado)
+     * </pre>
+     *
+     * <code>optional float temperature = 8;</code>
+     * @return The temperature.
+     */
+    @java.lang.Override
+    public float getTemperature() {
+      return temperature_;
+    }
+
+    public static final int MODE_FIELD_NUMBER = 9;
+    private int mode_ = 0;
+    /**
+     * <pre>
+     * Modo (para ar-condicionado)
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Mode mode = 9;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    @java.lang.Override public int getModeValue() {
+      return mode_;
+    }
+    /**
+     * <pre>
+     * Modo (para ar-condicionado)
+     * </pre>
+     *
+     * <code>.org.example.devices.v2.Mode mode = 9;</code>
+     * @return The mode.
+     */
+    @java.lang.Override public org.example.devices.v2.SmarthomeV2.Mode getMode() {
+      org.example.devices.v2.SmarthomeV2.Mode result = org.example.devices.v2.SmarthomeV2.Mode.forNumber(mode_);
+      return result == null ? org.example.devices.v2.SmarthomeV2.Mode.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, deviceId_);
+      }
+      if (action_ != org.example.devices.v2.SmarthomeV2.Action.ACTION_UNSPECIFIED.getNumber()) {
+        output.writeEnum(2, action_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(color_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, color_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeSInt32(5, brightness_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeSInt32(6, channel_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeSInt32(7, volume_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeFloat(8, temperature_);
+      }
+      if (mode_ != org.example.devices.v2.SmarthomeV2.Mode.MODE_UNSPECIFIED.getNumber()) {
+        output.writeEnum(9, mode_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(deviceId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, deviceId_);
+      }
+      if (action_ != org.example.devices.v2.SmarthomeV2.Action.ACTION_UNSPECIFIED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, action_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(color_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, color_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(5, brightness_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(6, channel_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(7, volume_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(8, temperature_);
+      }
+      if (mode_ != org.example.devices.v2.SmarthomeV2.Mode.MODE_UNSPECIFIED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(9, mode_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.v2.SmarthomeV2.Command)) {
+        return super.equals(obj);
+      }
+      org.example.devices.v2.SmarthomeV2.Command other = (org.example.devices.v2.SmarthomeV2.Command) obj;
+
+      if (!getDeviceId()
+          .equals(other.getDeviceId())) return false;
+      if (action_ != other.action_) return false;
+      if (!getColor()
+          .equals(other.getColor())) return false;
+      if (hasBrightness() != other.hasBrightness()) return false;
+      if (hasBrightness()) {
+        if (getBrightness()
+            != other.getBrightness()) return false;
+      }
+      if (hasChannel() != other.hasChannel()) return false;
+      if (hasChannel()) {
+        if (getChannel()
+            != other.getChannel()) return false;
+      }
+      if (hasVolume() != other.hasVolume()) return false;
+      if (hasVolume()) {
+        if (getVolume()
+            != other.getVolume()) return false;
+      }
+      if (hasTemperature() != other.hasTemperature()) return false;
+      if (hasTemperature()) {
+        if (java.lang.Float.floatToIntBits(getTemperature())
+            != java.lang.Float.floatToIntBits(
+                other.getTemperature())) return false;
+      }
+      if (mode_ != other.mode_) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DEVICE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDeviceId().hashCode();
+      hash = (37 * hash) + ACTION_FIELD_NUMBER;
+      hash = (53 * hash) + action_;
+      hash = (37 * hash) + COLOR_FIELD_NUMBER;
+      hash = (53 * hash) + getColor().hashCode();
+      if (hasBrightness()) {
+        hash = (37 * hash) + BRIGHTNESS_FIELD_NUMBER;
+        hash = (53 * hash) + getBrightness();
+      }
+      if (hasChannel()) {
+        hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
+        hash = (53 * hash) + getChannel();
+      }
+      if (hasVolume()) {
+        hash = (37 * hash) + VOLUME_FIELD_NUMBER;
+        hash = (53 * hash) + getVolume();
+      }
+      if (hasTemperature()) {
+        hash = (37 * hash) + TEMPERATURE_FIELD_NUMBER;
+        hash = (53 * hash) + java.lang.Float.floatToIntBits(
+            getTemperature());
+      }
+      hash = (37 * hash) + MODE_FIELD_NUMBER;
+      hash = (53 * hash) + mode_;
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Command parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Command parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Command parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.v2.SmarthomeV2.Command prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Comando enviado do cliente ao Gateway
+     * </pre>
+     *
+     * Protobuf type {@code org.example.devices.v2.Command}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.v2.Command)
+        org.example.devices.v2.SmarthomeV2.CommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Command_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Command_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.v2.SmarthomeV2.Command.class, org.example.devices.v2.SmarthomeV2.Command.Builder.class);
+      }
+
+      // Construct using org.example.devices.v2.SmarthomeV2.Command.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        deviceId_ = "";
+        action_ = 0;
+        color_ = "";
+        brightness_ = 0;
+        channel_ = 0;
+        volume_ = 0;
+        temperature_ = 0F;
+        mode_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Command_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Command getDefaultInstanceForType() {
+        return org.example.devices.v2.SmarthomeV2.Command.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Command build() {
+        org.example.devices.v2.SmarthomeV2.Command result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Command buildPartial() {
+        org.example.devices.v2.SmarthomeV2.Command result = new org.example.devices.v2.SmarthomeV2.Command(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.example.devices.v2.SmarthomeV2.Command result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.deviceId_ = deviceId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.action_ = action_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.color_ = color_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.brightness_ = brightness_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.channel_ = channel_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.volume_ = volume_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.temperature_ = temperature_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.mode_ = mode_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.v2.SmarthomeV2.Command) {
+          return mergeFrom((org.example.devices.v2.SmarthomeV2.Command)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.v2.SmarthomeV2.Command other) {
+        if (other == org.example.devices.v2.SmarthomeV2.Command.getDefaultInstance()) return this;
+        if (!other.getDeviceId().isEmpty()) {
+          deviceId_ = other.deviceId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.action_ != 0) {
+          setActionValue(other.getActionValue());
+        }
+        if (!other.getColor().isEmpty()) {
+          color_ = other.color_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasBrightness()) {
+          setBrightness(other.getBrightness());
+        }
+        if (other.hasChannel()) {
+          setChannel(other.getChannel());
+        }
+        if (other.hasVolume()) {
+          setVolume(other.getVolume());
+        }
+        if (other.hasTemperature()) {
+          setTemperature(other.getTemperature());
+        }
+        if (other.mode_ != 0) {
+          setModeValue(other.getModeValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                deviceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                action_ = input.readEnum();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 34: {
+                color_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 34
+              case 40: {
+                brightness_ = input.readSInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 40
+              case 48: {
+                channel_ = input.readSInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 48
+              case 56: {
+                volume_ = input.readSInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 56
+              case 69: {
+                temperature_ = input.readFloat();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 69
+              case 72: {
+                mode_ = input.readEnum();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 72
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object deviceId_ = "";
+      /**
+       * <pre>
+       * ID do dispositivo alvo
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return The deviceId.
+       */
+      public java.lang.String getDeviceId() {
+        java.lang.Object ref = deviceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          deviceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * ID do dispositivo alvo
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return The bytes for deviceId.
+       */
+      public com.google.protobuf.ByteString
+          getDeviceIdBytes() {
+        java.lang.Object ref = deviceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          deviceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * ID do dispositivo alvo
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @param value The deviceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeviceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        deviceId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ID do dispositivo alvo
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDeviceId() {
+        deviceId_ = getDefaultInstance().getDeviceId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ID do dispositivo alvo
+       * </pre>
+       *
+       * <code>string device_id = 1;</code>
+       * @param value The bytes for deviceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeviceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        deviceId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int action_ = 0;
+      /**
+       * <pre>
+       * Ação
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Action action = 2;</code>
+       * @return The enum numeric value on the wire for action.
+       */
+      @java.lang.Override public int getActionValue() {
+        return action_;
+      }
+      /**
+       * <pre>
+       * Ação
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Action action = 2;</code>
+       * @param value The enum numeric value on the wire for action to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActionValue(int value) {
+        action_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Ação
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Action action = 2;</code>
+       * @return The action.
+       */
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Action getAction() {
+        org.example.devices.v2.SmarthomeV2.Action result = org.example.devices.v2.SmarthomeV2.Action.forNumber(action_);
+        return result == null ? org.example.devices.v2.SmarthomeV2.Action.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * Ação
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Action action = 2;</code>
+       * @param value The action to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAction(org.example.devices.v2.SmarthomeV2.Action value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        action_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Ação
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Action action = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAction() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        action_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object color_ = "";
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @return The color.
+       */
+      public java.lang.String getColor() {
+        java.lang.Object ref = color_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          color_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @return The bytes for color.
+       */
+      public com.google.protobuf.ByteString
+          getColorBytes() {
+        java.lang.Object ref = color_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          color_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @param value The color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        color_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearColor() {
+        color_ = getDefaultInstance().getColor();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Cor (para lâmpadas)
+       * </pre>
+       *
+       * <code>string color = 4;</code>
+       * @param value The bytes for color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        color_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private int brightness_ ;
+      /**
+       * <pre>
+       * Brilho 0-100 (para lâmpadas)
+       * </pre>
+       *
+       * <code>optional sint32 brightness = 5;</code>
+       * @return Whether the brightness field is set.
+       */
+      @java.lang.Override
+      public boolean hasBrightness() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * Brilho 0-100 (para lâmpadas)
+       * </pre>
+       *
+       * <code>optional sint32 brightness = 5;</code>
+       * @return The brightness.
+       */
+      @java.lang.Override
+      public int getBrightness() {
+        return brightness_;
+      }
+      /**
+       * <pre>
+       * Brilho 0-100 (para lâmpadas)
+       * </pre>
+       *
+       * <code>optional sint32 brightness = 5;</code>
+       * @param value The brightness to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBrightness(int value) {
+
+        brightness_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Brilho 0-100 (para lâmpadas)
+       * </pre>
+       *
+       * <code>optional sint32 brightness = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBrightness() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        brightness_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int channel_ ;
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 channel = 6;</code>
+       * @return Whether the channel field is set.
+       */
+      @java.lang.Override
+      public boolean hasChannel() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 channel = 6;</code>
+       * @return The channel.
+       */
+      @java.lang.Override
+      public int getChannel() {
+        return channel_;
+      }
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 channel = 6;</code>
+       * @param value The channel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChannel(int value) {
+
+        channel_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Canal (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 channel = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChannel() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        channel_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int volume_ ;
+      /**
+       * <pre>
+       * Volume 0-100 (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 volume = 7;</code>
+       * @return Whether the volume field is set.
+       */
+      @java.lang.Override
+      public boolean hasVolume() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * Volume 0-100 (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 volume = 7;</code>
+       * @return The volume.
+       */
+      @java.lang.Override
+      public int getVolume() {
+        return volume_;
+      }
+      /**
+       * <pre>
+       * Volume 0-100 (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 volume = 7;</code>
+       * @param value The volume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVolume(int value) {
+
+        volume_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Volume 0-100 (para TVs)
+       * </pre>
+       *
+       * <code>optional sint32 volume = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVolume() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        volume_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private float temperature_ ;
+      /**
+       * <pre>
+       * Temperatura em °C (para ar-condicionado)
+       * </pre>
+       *
+       * <code>optional float temperature = 8;</code>
+       * @return Whether the temperature field is set.
+       */
+      @java.lang.Override
+      public boolean hasTemperature() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * Temperatura em °C (para ar-condicionado)
+       * </pre>
+       *
+       * <code>optional float temperature = 8;</code>
+       * @return The temperature.
+       */
+      @java.lang.Override
+      public float getTemperature() {
+        return temperature_;
+      }
+      /**
+       * <pre>
+       * Temperatura em °C (para ar-condicionado)
+       * </pre>
+       *
+       * <code>optional float temperature = 8;</code>
+       * @param value The temperature to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTemperature(float value) {
+
+        temperature_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Temperatura em °C (para ar-condicionado)
+       * </pre>
+       *
+       * <code>optional float temperature = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTemperature() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        temperature_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private int mode_ = 0;
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @return The enum numeric value on the wire for mode.
+       */
+      @java.lang.Override public int getModeValue() {
+        return mode_;
+      }
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @param value The enum numeric value on the wire for mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModeValue(int value) {
+        mode_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @return The mode.
+       */
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Mode getMode() {
+        org.example.devices.v2.SmarthomeV2.Mode result = org.example.devices.v2.SmarthomeV2.Mode.forNumber(mode_);
+        return result == null ? org.example.devices.v2.SmarthomeV2.Mode.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @param value The mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMode(org.example.devices.v2.SmarthomeV2.Mode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000080;
+        mode_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Modo (para ar-condicionado)
+       * </pre>
+       *
+       * <code>.org.example.devices.v2.Mode mode = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMode() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        mode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.v2.Command)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.v2.Command)
+    private static final org.example.devices.v2.SmarthomeV2.Command DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.v2.SmarthomeV2.Command();
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Command getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Command>
+        PARSER = new com.google.protobuf.AbstractParser<Command>() {
+      @java.lang.Override
+      public Command parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Command> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Command> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.v2.SmarthomeV2.Command getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.example.devices.v2.Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Status do comando (ex.: "OK", "Error")
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The status.
+     */
+    java.lang.String getStatus();
+    /**
+     * <pre>
+     * Status do comando (ex.: "OK", "Error")
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The bytes for status.
+     */
+    com.google.protobuf.ByteString
+        getStatusBytes();
+
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 2;</code>
+     * @return The message.
+     */
+    java.lang.String getMessage();
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    java.util.List<org.example.devices.v2.SmarthomeV2.Device> 
+        getDevicesList();
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    org.example.devices.v2.SmarthomeV2.Device getDevices(int index);
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    int getDevicesCount();
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    java.util.List<? extends org.example.devices.v2.SmarthomeV2.DeviceOrBuilder> 
+        getDevicesOrBuilderList();
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    org.example.devices.v2.SmarthomeV2.DeviceOrBuilder getDevicesOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Resposta do Gateway ao cliente
+   * </pre>
+   *
+   * Protobuf type {@code org.example.devices.v2.Response}
+   */
+  public static final class Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.example.devices.v2.Response)
+      ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Response.class.getName());
+    }
+    // Use Response.newBuilder() to construct.
+    private Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Response() {
+      status_ = "";
+      message_ = "";
+      devices_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.example.devices.v2.SmarthomeV2.Response.class, org.example.devices.v2.SmarthomeV2.Response.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object status_ = "";
+    /**
+     * <pre>
+     * Status do comando (ex.: "OK", "Error")
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Status do comando (ex.: "OK", "Error")
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The bytes for status.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object message_ = "";
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 2;</code>
+     * @return The message.
+     */
+    @java.lang.Override
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Mensagem adicional
+     * </pre>
+     *
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DEVICES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.example.devices.v2.SmarthomeV2.Device> devices_;
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.example.devices.v2.SmarthomeV2.Device> getDevicesList() {
+      return devices_;
+    }
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.example.devices.v2.SmarthomeV2.DeviceOrBuilder> 
+        getDevicesOrBuilderList() {
+      return devices_;
+    }
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public int getDevicesCount() {
+      return devices_.size();
+    }
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.v2.SmarthomeV2.Device getDevices(int index) {
+      return devices_.get(index);
+    }
+    /**
+     * <pre>
+     * Dispositivos (para LIST_DEVICES e STATUS)
+     * </pre>
+     *
+     * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+     */
+    @java.lang.Override
+    public org.example.devices.v2.SmarthomeV2.DeviceOrBuilder getDevicesOrBuilder(
+        int index) {
+      return devices_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(status_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, message_);
+      }
+      for (int i = 0; i < devices_.size(); i++) {
+        output.writeMessage(3, devices_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(status_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, message_);
+      }
+      for (int i = 0; i < devices_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, devices_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.example.devices.v2.SmarthomeV2.Response)) {
+        return super.equals(obj);
+      }
+      org.example.devices.v2.SmarthomeV2.Response other = (org.example.devices.v2.SmarthomeV2.Response) obj;
+
+      if (!getStatus()
+          .equals(other.getStatus())) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (!getDevicesList()
+          .equals(other.getDevicesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatus().hashCode();
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      if (getDevicesCount() > 0) {
+        hash = (37 * hash) + DEVICES_FIELD_NUMBER;
+        hash = (53 * hash) + getDevicesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.example.devices.v2.SmarthomeV2.Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.example.devices.v2.SmarthomeV2.Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Resposta do Gateway ao cliente
+     * </pre>
+     *
+     * Protobuf type {@code org.example.devices.v2.Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.example.devices.v2.Response)
+        org.example.devices.v2.SmarthomeV2.ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.example.devices.v2.SmarthomeV2.Response.class, org.example.devices.v2.SmarthomeV2.Response.Builder.class);
+      }
+
+      // Construct using org.example.devices.v2.SmarthomeV2.Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = "";
+        message_ = "";
+        if (devicesBuilder_ == null) {
+          devices_ = java.util.Collections.emptyList();
+        } else {
+          devices_ = null;
+          devicesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.example.devices.v2.SmarthomeV2.internal_static_org_example_devices_v2_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Response getDefaultInstanceForType() {
+        return org.example.devices.v2.SmarthomeV2.Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Response build() {
+        org.example.devices.v2.SmarthomeV2.Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.example.devices.v2.SmarthomeV2.Response buildPartial() {
+        org.example.devices.v2.SmarthomeV2.Response result = new org.example.devices.v2.SmarthomeV2.Response(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.example.devices.v2.SmarthomeV2.Response result) {
+        if (devicesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            devices_ = java.util.Collections.unmodifiableList(devices_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.devices_ = devices_;
+        } else {
+          result.devices_ = devicesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.example.devices.v2.SmarthomeV2.Response result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = status_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.message_ = message_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.example.devices.v2.SmarthomeV2.Response) {
+          return mergeFrom((org.example.devices.v2.SmarthomeV2.Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.example.devices.v2.SmarthomeV2.Response other) {
+        if (other == org.example.devices.v2.SmarthomeV2.Response.getDefaultInstance()) return this;
+        if (!other.getStatus().isEmpty()) {
+          status_ = other.status_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (devicesBuilder_ == null) {
+          if (!other.devices_.isEmpty()) {
+            if (devices_.isEmpty()) {
+              devices_ = other.devices_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureDevicesIsMutable();
+              devices_.addAll(other.devices_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.devices_.isEmpty()) {
+            if (devicesBuilder_.isEmpty()) {
+              devicesBuilder_.dispose();
+              devicesBuilder_ = null;
+              devices_ = other.devices_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              devicesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDevicesFieldBuilder() : null;
+            } else {
+              devicesBuilder_.addAllMessages(other.devices_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                status_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                message_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                org.example.devices.v2.SmarthomeV2.Device m =
+                    input.readMessage(
+                        org.example.devices.v2.SmarthomeV2.Device.parser(),
+                        extensionRegistry);
+                if (devicesBuilder_ == null) {
+                  ensureDevicesIsMutable();
+                  devices_.add(m);
+                } else {
+                  devicesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object status_ = "";
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Error")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return The status.
+       */
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          status_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Error")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return The bytes for status.
+       */
+      public com.google.protobuf.ByteString
+          getStatusBytes() {
+        java.lang.Object ref = status_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          status_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Error")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        status_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Error")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        status_ = getDefaultInstance().getStatus();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Status do comando (ex.: "OK", "Error")
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @param value The bytes for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        status_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @return The message.
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        message_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
+        message_ = getDefaultInstance().getMessage();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mensagem adicional
+       * </pre>
+       *
+       * <code>string message = 2;</code>
+       * @param value The bytes for message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        message_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.example.devices.v2.SmarthomeV2.Device> devices_ =
+        java.util.Collections.emptyList();
+      private void ensureDevicesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          devices_ = new java.util.ArrayList<org.example.devices.v2.SmarthomeV2.Device>(devices_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.v2.SmarthomeV2.Device, org.example.devices.v2.SmarthomeV2.Device.Builder, org.example.devices.v2.SmarthomeV2.DeviceOrBuilder> devicesBuilder_;
+
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public java.util.List<org.example.devices.v2.SmarthomeV2.Device> getDevicesList() {
+        if (devicesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(devices_);
+        } else {
+          return devicesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public int getDevicesCount() {
+        if (devicesBuilder_ == null) {
+          return devices_.size();
+        } else {
+          return devicesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public org.example.devices.v2.SmarthomeV2.Device getDevices(int index) {
+        if (devicesBuilder_ == null) {
+          return devices_.get(index);
+        } else {
+          return devicesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder setDevices(
+          int index, org.example.devices.v2.SmarthomeV2.Device value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.set(index, value);
+          onChanged();
+        } else {
+          devicesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder setDevices(
+          int index, org.example.devices.v2.SmarthomeV2.Device.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder addDevices(org.example.devices.v2.SmarthomeV2.Device value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.add(value);
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder addDevices(
+          int index, org.example.devices.v2.SmarthomeV2.Device value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.add(index, value);
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder addDevices(
+          org.example.devices.v2.SmarthomeV2.Device.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.add(builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder addDevices(
+          int index, org.example.devices.v2.SmarthomeV2.Device.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder addAllDevices(
+          java.lang.Iterable<? extends org.example.devices.v2.SmarthomeV2.Device> values) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, devices_);
+          onChanged();
+        } else {
+          devicesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder clearDevices() {
+        if (devicesBuilder_ == null) {
+          devices_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          devicesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public Builder removeDevices(int index) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.remove(index);
+          onChanged();
+        } else {
+          devicesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public org.example.devices.v2.SmarthomeV2.Device.Builder getDevicesBuilder(
+          int index) {
+        return getDevicesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public org.example.devices.v2.SmarthomeV2.DeviceOrBuilder getDevicesOrBuilder(
+          int index) {
+        if (devicesBuilder_ == null) {
+          return devices_.get(index);  } else {
+          return devicesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public java.util.List<? extends org.example.devices.v2.SmarthomeV2.DeviceOrBuilder> 
+           getDevicesOrBuilderList() {
+        if (devicesBuilder_ != null) {
+          return devicesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(devices_);
+        }
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public org.example.devices.v2.SmarthomeV2.Device.Builder addDevicesBuilder() {
+        return getDevicesFieldBuilder().addBuilder(
+            org.example.devices.v2.SmarthomeV2.Device.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public org.example.devices.v2.SmarthomeV2.Device.Builder addDevicesBuilder(
+          int index) {
+        return getDevicesFieldBuilder().addBuilder(
+            index, org.example.devices.v2.SmarthomeV2.Device.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Dispositivos (para LIST_DEVICES e STATUS)
+       * </pre>
+       *
+       * <code>repeated .org.example.devices.v2.Device devices = 3;</code>
+       */
+      public java.util.List<org.example.devices.v2.SmarthomeV2.Device.Builder> 
+           getDevicesBuilderList() {
+        return getDevicesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.example.devices.v2.SmarthomeV2.Device, org.example.devices.v2.SmarthomeV2.Device.Builder, org.example.devices.v2.SmarthomeV2.DeviceOrBuilder> 
+          getDevicesFieldBuilder() {
+        if (devicesBuilder_ == null) {
+          devicesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.example.devices.v2.SmarthomeV2.Device, org.example.devices.v2.SmarthomeV2.Device.Builder, org.example.devices.v2.SmarthomeV2.DeviceOrBuilder>(
+                  devices_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          devices_ = null;
+        }
+        return devicesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.example.devices.v2.Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.example.devices.v2.Response)
+    private static final org.example.devices.v2.SmarthomeV2.Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.example.devices.v2.SmarthomeV2.Response();
+    }
+
+    public static org.example.devices.v2.SmarthomeV2.Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Response>
+        PARSER = new com.google.protobuf.AbstractParser<Response>() {
+      @java.lang.Override
+      public Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.example.devices.v2.SmarthomeV2.Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_v2_Device_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_v2_Device_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_v2_Command_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_v2_Command_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_example_devices_v2_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_example_devices_v2_Response_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\030proto/smarthome_v2.proto\022\026org.example." +
+      "devices.v2\"\310\002\n\006Device\022\n\n\002id\030\001 \001(\t\0220\n\004typ" +
+      "e\030\002 \001(\0162\".org.example.devices.v2.DeviceT" +
+      "ype\0221\n\005state\030\003 \001(\0162\".org.example.devices" +
+      ".v2.PowerState\022\r\n\005color\030\004 \001(\t\022\027\n\nbrightn" +
+      "ess\030\005 \001(\021H\000\210\001\001\022\024\n\007channel\030\006 \001(\021H\001\210\001\001\022\023\n\006" +
+      "volume\030\007 \001(\021H\002\210\001\001\022\030\n\013temperature\030\010 \001(\002H\003" +
+      "\210\001\001\022*\n\004mode\030\t \001(\0162\034.org.example.devices." +
+      "v2.ModeB\r\n\013_brightnessB\n\n\010_channelB\t\n\007_v" +
+      "olumeB\016\n\014_temperature\"\233\002\n\007Command\022\021\n\tdev" +
+      "ice_id\030\001 \001(\t\022.\n\006action\030\002 \001(\0162\036.org.examp" +
+      "le.devices.v2.Action\022\r\n\005color\030\004 \001(\t\022\027\n\nb" +
+      "rightness\030\005 \001(\021H\000\210\001\001\022\024\n\007channel\030\006 \001(\021H\001\210" +
+      "\001\001\022\023\n\006volume\030\007 \001(\021H\002\210\001\001\022\030\n\013temperature\030\010" +
+      " \001(\002H\003\210\001\001\022*\n\004mode\030\t \001(\0162\034.org.example.de" +
+      "vices.v2.ModeB\r\n\013_brightnessB\n\n\010_channel" +
+      "B\t\n\007_volumeB\016\n\014_temperature\"\\\n\010Response\022" +
+      "\016\n\006status\030\001 \001(\t\022\017\n\007message\030\002 \001(\t\022/\n\007devi" +
+      "ces\030\003 \003(\0132\036.org.example.devices.v2.Devic" +
+      "e*\230\001\n\nDeviceType\022\033\n\027DEVICE_TYPE_UNSPECIF" +
+      "IED\020\000\022\024\n\020DEVICE_TYPE_LAMP\020\001\022\022\n\016DEVICE_TY" +
+      "PE_TV\020\002\022\037\n\033DEVICE_TYPE_AIR_CONDITIONER\020\003" +
+      "\022\"\n\036DEVICE_TYPE_TEMPERATURE_SENSOR\020\004*R\n\n" +
+      "PowerState\022\033\n\027POWER_STATE_UNSPECIFIED\020\000\022" +
+      "\022\n\016POWER_STATE_ON\020\001\022\023\n\017POWER_STATE_OFF\020\002" +
+      "*k\n\004Mode\022\024\n\020MODE_UNSPECIFIED\020\000\022\r\n\tMODE_A" +
+      "UTO\020\001\022\020\n\014MODE_COOLING\020\002\022\014\n\010MODE_DRY\020\003\022\014\n" +
+      "\010MODE_FAN\020\004\022\020\n\014MODE_HEATING\020\005*k\n\006Action\022" +
+      "\026\n\022ACTION_UNSPECIFIED\020\000\022\027\n\023ACTION_LIST_D" +
+      "EVICES\020\001\022\021\n\rACTION_STATUS\020\002\022\r\n\tACTION_ON" +
+      "\020\003\022\016\n\nACTION_OFF\020\004b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_org_example_devices_v2_Device_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_org_example_devices_v2_Device_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_v2_Device_descriptor,
+        new java.lang.String[] { "Id", "Type", "State", "Color", "Brightness", "Channel", "Volume", "Temperature", "Mode", });
+    internal_static_org_example_devices_v2_Command_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_org_example_devices_v2_Command_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_v2_Command_descriptor,
+        new java.lang.String[] { "DeviceId", "Action", "Color", "Brightness", "Channel", "Volume", "Temperature", "Mode", });
+    internal_static_org_example_devices_v2_Response_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_org_example_devices_v2_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_example_devices_v2_Response_descriptor,
+        new java.lang.String[] { "Status", "Message", "Devices", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,33 @@
+package org.example.gateway;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One client command handled, from dispatch to a built response, including any wait for durability.
+ */
+@Name("org.example.gateway.Command")
+@Label("Command")
+@Category({"Smart Home", "TCP"})
+@Description("Client command handled by the gateway")
+class CommandEvent extends jdk.jfr.Event {
+    @Label("Device Id")
+    String deviceId;
+
+    @Label("Action")
+    String action;
+
+    @Label("Request Id")
+    long requestId;
+
+    @Label("Status")
+    String status;
+
+    @Label("Payload Size")
+    @Description("Size of the encoded command")
+    @DataAmount
+    int payloadSize;
+}
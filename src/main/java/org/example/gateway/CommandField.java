@@ -0,0 +1,80 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Device attributes a command can set, with how each is read from the
+ * command, stored on the device and read back for display.
+ */
+public enum CommandField {
+    COLOR(Smarthome.Command::getColor, Smarthome.Device::getColor,
+            (device, value) -> device.setColor("Color: " + value)),
+    BRIGHTNESS(Smarthome.Command::getBrightness, Smarthome.Device::getBrightness,
+            (device, value) -> device.setBrightness("Brightness: " + value + "%")),
+    CHANNEL(Smarthome.Command::getChannel, Smarthome.Device::getChannel,
+            (device, value) -> device.setChannel("Channel: " + value)),
+    VOLUME(Smarthome.Command::getVolume, Smarthome.Device::getVolume,
+            (device, value) -> device.setVolume("Volume: " + value + "%")),
+    TEMPERATURE(Smarthome.Command::getTemperature, Smarthome.Device::getTemperature,
+            (device, value) -> device.setTemperature("Temperature: " + value + "°C")),
+    MODE(Smarthome.Command::getMode, Smarthome.Device::getMode,
+            (device, value) -> device.setMode("Mode: " + value));
+
+    private static final CommandField[] VALUES = values();
+
+    private final Function<Smarthome.Command, String> commandValue;
+    private final Function<Smarthome.Device, String> deviceValue;
+    private final BiConsumer<Smarthome.Device.Builder, String> setter;
+
+    CommandField(Function<Smarthome.Command, String> commandValue, Function<Smarthome.Device, String> deviceValue,
+                 BiConsumer<Smarthome.Device.Builder, String> setter) {
+        this.commandValue = commandValue;
+        this.deviceValue = deviceValue;
+        this.setter = setter;
+    }
+
+    /**
+     * @return the value the command sets, or an empty string if it leaves this field alone
+     */
+    public String value(Smarthome.Command command) {
+        return commandValue.apply(command);
+    }
+
+    /**
+     * @return the device's attribute as stored, e.g. "Brightness: 80%"
+     */
+    public String value(Smarthome.Device device) {
+        return deviceValue.apply(device);
+    }
+
+    void apply(Smarthome.Device.Builder device, String value) {
+        setter.accept(device, value);
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * @return the bits of the fields {@code command} sets
+     */
+    static int present(Smarthome.Command command) {
+        int present = 0;
+        for (CommandField field : VALUES) {
+            if (!field.value(command).isEmpty()) {
+                present |= field.bit();
+            }
+        }
+        return present;
+    }
+
+    /**
+     * @return the first field in {@code bits}, or null if there is none
+     */
+    static CommandField first(int bits) {
+        return bits == 0 ? null : VALUES[Integer.numberOfTrailingZeros(bits)];
+    }
+}
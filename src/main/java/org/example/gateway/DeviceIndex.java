@@ -0,0 +1,112 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Sorted secondary indexes over the registry for paged listing:
+ * all device ids in order, and the ids of each device type.
+ * A page starts with a seek to the cursor or id prefix, so its cost
+ * depends on the page size, not on the number of devices; only the devices
+ * on the page are read from the registry.
+ * Devices already registered when the index is created are only indexed
+ * on the first page request, from their ids and types alone, so devices in
+ * a mapped snapshot are not parsed to build the index.
+ */
+class DeviceIndex implements DeviceRegistry.Listener {
+    record Page(List<Smarthome.Device> devices, String nextCursor) {
+    }
+
+    private final DeviceRegistry devices;
+    private final ConcurrentSkipListSet<String> ids = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, ConcurrentSkipListSet<String>> idsByType = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    DeviceIndex(DeviceRegistry devices) {
+        this.devices = devices;
+        devices.addListener(this);
+    }
+
+    @Override
+    public void deviceChanged(Smarthome.Device previous, Smarthome.Device current) {
+        String type = typeKey(current.getType());
+        if (previous != null && !typeKey(previous.getType()).equals(type)) {
+            NavigableSet<String> oldIds = idsByType.get(typeKey(previous.getType()));
+            if (oldIds != null) {
+                oldIds.remove(previous.getId());
+            }
+        }
+        idsByType.computeIfAbsent(type, key -> new ConcurrentSkipListSet<>()).add(current.getId());
+        ids.add(current.getId());
+    }
+
+    /**
+     * Returns up to {@code pageSize} devices with ids after {@code cursor}, in id order.
+     *
+     * @param typeFilter only devices of this type (case-insensitive), or empty for all types
+     * @param idPrefix   only devices whose id starts with this prefix, or empty for all ids
+     * @param cursor     the next cursor of the previous page, or empty for the first page
+     */
+    Page page(String typeFilter, String idPrefix, String cursor, int pageSize) {
+        if (!loaded) {
+            load();
+        }
+        // Seek to whichever comes later: the end of the previous page or the start of the prefix range
+        boolean afterCursor = !cursor.isEmpty() && cursor.compareTo(idPrefix) >= 0;
+        String from = afterCursor ? cursor : idPrefix;
+
+        Iterator<String> candidates;
+        if (typeFilter.isEmpty()) {
+            candidates = ids.tailSet(from, !afterCursor).iterator();
+        } else {
+            NavigableSet<String> typeIds = idsByType.get(typeKey(typeFilter));
+            if (typeIds == null) {
+                return new Page(List.of(), "");
+            }
+            candidates = typeIds.tailSet(from, !afterCursor).iterator();
+        }
+
+        List<Smarthome.Device> page = new ArrayList<>(pageSize);
+        while (candidates.hasNext()) {
+            String id = candidates.next();
+            if (!id.startsWith(idPrefix)) {
+                break;
+            }
+            Smarthome.Device device = devices.get(id);
+            if (device == null || (!typeFilter.isEmpty() && !typeFilter.equalsIgnoreCase(device.getType()))) {
+                // Changed type since the type index was read
+                continue;
+            }
+            if (page.size() == pageSize) {
+                // One more match exists, so hand out a cursor for the next page
+                return new Page(page, page.get(pageSize - 1).getId());
+            }
+            page.add(device);
+        }
+        return new Page(page, "");
+    }
+
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        devices.forEachIdAndType((id, type) -> {
+            // A device changed since the index was created is already indexed under its newer type
+            if (ids.add(id)) {
+                idsByType.computeIfAbsent(typeKey(type), key -> new ConcurrentSkipListSet<>()).add(id);
+            }
+        });
+        loaded = true;
+    }
+
+    private static String typeKey(String type) {
+        return type.toLowerCase(Locale.ROOT);
+    }
+}
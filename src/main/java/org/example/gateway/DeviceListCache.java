@@ -0,0 +1,118 @@
+package org.example.gateway;
+
+import com.google.protobuf.CodedOutputStream;
+import org.example.devices.Smarthome;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the LIST_DEVICES response ready to send.
+ * Each device's line is rendered once, when that device changes, and the
+ * assembled Response is encoded once per registry version. Until the next
+ * change every LIST_DEVICES call gets the same length-delimited bytes.
+ * Devices already registered when the cache is created are only rendered
+ * on the first LIST_DEVICES, so a restart from a large snapshot stays cheap.
+ */
+class DeviceListCache implements DeviceRegistry.Listener {
+    private record Snapshot(long version, Smarthome.Response response, byte[] delimited) {
+    }
+
+    private final DeviceRegistry devices;
+    private final ConcurrentHashMap<String, String> fragments = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+    private volatile boolean loaded;
+
+    DeviceListCache(DeviceRegistry devices) {
+        this.devices = devices;
+        devices.addListener(this);
+    }
+
+    @Override
+    public void deviceChanged(Smarthome.Device previous, Smarthome.Device current) {
+        if (current.equals(previous)) {
+            return;
+        }
+        fragments.put(current.getId(), render(current));
+        version.incrementAndGet();
+    }
+
+    Smarthome.Response response() {
+        return current().response();
+    }
+
+    /**
+     * The LIST_DEVICES response, already framed with its varint length prefix.
+     * Callers must not modify the returned array.
+     */
+    byte[] delimitedResponse() {
+        return current().delimited();
+    }
+
+    private Snapshot current() {
+        if (!loaded) {
+            load();
+        }
+        Snapshot cached = snapshot;
+        long currentVersion = version.get();
+        if (cached != null && cached.version() == currentVersion) {
+            return cached;
+        }
+
+        Snapshot rebuilt = build(currentVersion);
+        // A newer change may have landed while building; it will rebuild on the next call
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        // A device changed since the cache was created already has a newer fragment
+        for (Smarthome.Device device : devices.values()) {
+            fragments.computeIfAbsent(device.getId(), id -> render(device));
+        }
+        version.incrementAndGet();
+        loaded = true;
+    }
+
+    private Snapshot build(long snapshotVersion) {
+        Smarthome.Response.Builder response = Smarthome.Response.newBuilder().setStatus("OK");
+        if (fragments.isEmpty()) {
+            response.setMessage("No devices connected.");
+        } else {
+            StringBuilder deviceList = new StringBuilder(fragments.size() * 64);
+            for (String fragment : fragments.values()) {
+                deviceList.append(fragment);
+            }
+            response.setMessage(deviceList.toString());
+        }
+
+        Smarthome.Response built = response.build();
+        int size = built.getSerializedSize();
+        byte[] delimited = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+        CodedOutputStream output = CodedOutputStream.newInstance(delimited);
+        try {
+            output.writeUInt32NoTag(size);
+            built.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Snapshot(snapshotVersion, built, delimited);
+    }
+
+    private static String render(Smarthome.Device device) {
+        StringBuilder line = new StringBuilder(64);
+        line.append("\n")
+                .append("ID: ").append(device.getId())
+                .append(", Type: ").append(device.getType())
+                .append(", State: ").append(device.getState());
+        DeviceTypes.describe(device, line);
+        return line.toString();
+    }
+}
@@ -0,0 +1,354 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SequencedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe store of the devices known to the gateway.
+ * Updates to a single device are atomic and only lock that device's hash bin,
+ * so writers on different devices never wait for each other. Writers also
+ * share the read side of one of a fixed set of striped locks, whose write
+ * side lets {@link #updateAll} keep every other writer off its devices.
+ * <p>
+ * The registry may sit on top of a read-only {@link FlatSnapshot}. Devices
+ * only in the snapshot are parsed from it on each read and copied into the
+ * map the first time they change, so a restart does not have to load them.
+ */
+public class DeviceRegistry {
+    private static final int LOCK_STRIPES = 256;
+
+    /**
+     * Notified of every change to a device. Runs while the device is locked
+     * against other writers, so calls for one device arrive in the order the
+     * changes were made; listeners must be quick and must not update the registry.
+     */
+    public interface Listener {
+        /**
+         * @param previous the device before the change, or null if it was just registered
+         * @param current  the device after the change
+         */
+        void deviceChanged(Smarthome.Device previous, Smarthome.Device current);
+
+        /**
+         * Called once for an {@link #updateAll} batch, after every device in it has been replaced.
+         * Listeners that must not see part of a batch on its own, such as the log, override it.
+         */
+        default void devicesChanged(List<Smarthome.Device> previous, List<Smarthome.Device> current) {
+            for (int i = 0; i < current.size(); i++) {
+                deviceChanged(previous.get(i), current.get(i));
+            }
+        }
+    }
+
+    private final ConcurrentHashMap<String, Smarthome.Device> devices = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile FlatSnapshot base = FlatSnapshot.EMPTY;
+    // Devices in the map that are not in the base snapshot
+    private final AtomicInteger added = new AtomicInteger();
+    private final StampedLock[] stripes = new StampedLock[LOCK_STRIPES];
+
+    public DeviceRegistry() {
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new StampedLock();
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Serves devices that are not in the map from {@code snapshot}.
+     * Must be called before the registry is first used.
+     */
+    void setBase(FlatSnapshot snapshot) {
+        base = snapshot;
+    }
+
+    public Smarthome.Device get(String id) {
+        Smarthome.Device device = devices.get(id);
+        return device != null ? device : base.get(id);
+    }
+
+    public boolean contains(String id) {
+        return devices.containsKey(id) || base.contains(id);
+    }
+
+    /**
+     * Registers {@code device}, or replaces the registered device with the same id.
+     *
+     * @throws IllegalArgumentException if the device has no id
+     */
+    public void put(Smarthome.Device device) {
+        if (device.getId().isEmpty()) {
+            throw new IllegalArgumentException("Device id must not be empty");
+        }
+        RegistryMutationEvent event = new RegistryMutationEvent();
+        event.begin();
+        StampedLock stripe = stripes[stripe(device.getId())];
+        long stamp = stripe.readLock();
+        try {
+            devices.compute(device.getId(), (id, previous) -> {
+                if (previous == null) {
+                    previous = materialize(id);
+                }
+                notifyListeners(previous, device);
+                return device;
+            });
+        } finally {
+            stripe.unlockRead(stamp);
+        }
+        commit(event, "put", device.getId(), device);
+    }
+
+    /**
+     * Looks up a device that is not in the map yet; runs with its bin locked.
+     */
+    private Smarthome.Device materialize(String id) {
+        Smarthome.Device stored = base.get(id);
+        if (stored == null) {
+            added.incrementAndGet();
+        }
+        return stored;
+    }
+
+    /**
+     * Atomically replaces the device with the result of {@code updater}.
+     * The updater may run while other devices are being updated, but never
+     * concurrently with another update of the same device.
+     *
+     * @return the updated device, or null if the device is not registered
+     */
+    public Smarthome.Device update(String id, UnaryOperator<Smarthome.Device> updater) {
+        RegistryMutationEvent event = new RegistryMutationEvent();
+        event.begin();
+        StampedLock stripe = stripes[stripe(id)];
+        long stamp = stripe.readLock();
+        Smarthome.Device result;
+        try {
+            result = devices.compute(id, (key, current) -> {
+                if (current == null && (current = base.get(key)) == null) {
+                    return null;
+                }
+                Smarthome.Device updated = updater.apply(current);
+                notifyListeners(current, updated);
+                return updated;
+            });
+        } finally {
+            stripe.unlockRead(stamp);
+        }
+        commit(event, "update", id, result);
+        return result;
+    }
+
+    /**
+     * Replaces the device only if it is still {@code expected}.
+     */
+    public boolean compareAndSet(String id, Smarthome.Device expected, Smarthome.Device replacement) {
+        RegistryMutationEvent event = new RegistryMutationEvent();
+        event.begin();
+        boolean[] replaced = new boolean[1];
+        StampedLock stripe = stripes[stripe(id)];
+        long stamp = stripe.readLock();
+        try {
+            devices.compute(id, (key, current) -> {
+                if (current == null && (current = base.get(key)) == null) {
+                    return null;
+                }
+                if (!current.equals(expected)) {
+                    return current;
+                }
+                replaced[0] = true;
+                notifyListeners(current, replacement);
+                return replacement;
+            });
+        } finally {
+            stripe.unlockRead(stamp);
+        }
+        commit(event, "compareAndSet", id, replaced[0] ? replacement : null);
+        return replaced[0];
+    }
+
+    /**
+     * Records a mutation for Flight Recorder; {@code stored} is null if nothing was written.
+     */
+    private static void commit(RegistryMutationEvent event, String operation, String id, Smarthome.Device stored) {
+        if (event.shouldCommit()) {
+            event.deviceId = id;
+            event.operation = operation;
+            event.changed = stored != null;
+            event.payloadSize = stored != null ? stored.getSerializedSize() : 0;
+            event.commit();
+        }
+    }
+
+    /**
+     * Applies every update or none of them. The lock stripes of all the
+     * devices are taken exclusively, in stripe order so two batches cannot
+     * deadlock, which keeps other writers off the devices while they are
+     * read, their replacements computed and swapped in. Listeners are told
+     * about the whole batch at once, after the last swap, through
+     * {@link Listener#devicesChanged}. Readers may briefly see a partly
+     * swapped batch; listeners never do.
+     *
+     * @return the updated devices in the order of {@code updates}, or null if
+     * any device is not registered, in which case nothing was changed
+     */
+    public List<Smarthome.Device> updateAll(SequencedMap<String, UnaryOperator<Smarthome.Device>> updates) {
+        int[] order = updates.keySet().stream().mapToInt(DeviceRegistry::stripe).sorted().distinct().toArray();
+        long[] stamps = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            stamps[i] = stripes[order[i]].writeLock();
+        }
+        try {
+            List<String> ids = new ArrayList<>(updates.size());
+            List<Smarthome.Device> previous = new ArrayList<>(updates.size());
+            List<Smarthome.Device> replacements = new ArrayList<>(updates.size());
+            for (Map.Entry<String, UnaryOperator<Smarthome.Device>> update : updates.entrySet()) {
+                Smarthome.Device current = get(update.getKey());
+                if (current == null) {
+                    return null;
+                }
+                ids.add(update.getKey());
+                previous.add(current);
+                replacements.add(update.getValue().apply(current));
+            }
+
+            for (int i = 0; i < ids.size(); i++) {
+                RegistryMutationEvent event = new RegistryMutationEvent();
+                event.begin();
+                Smarthome.Device replacement = replacements.get(i);
+                // No other writer holds this stripe, so the device is still the one read above
+                devices.compute(ids.get(i), (id, current) -> {
+                    if (current == null) {
+                        materialize(id);
+                    }
+                    return replacement;
+                });
+                commit(event, "updateAll", ids.get(i), replacement);
+            }
+            for (Listener listener : listeners) {
+                listener.devicesChanged(previous, replacements);
+            }
+            return replacements;
+        } finally {
+            for (int i = order.length - 1; i >= 0; i--) {
+                stripes[order[i]].unlockWrite(stamps[i]);
+            }
+        }
+    }
+
+    private static int stripe(String id) {
+        int hash = id.hashCode();
+        return (hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1);
+    }
+
+    private void notifyListeners(Smarthome.Device previous, Smarthome.Device current) {
+        if (previous == current) {
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.deviceChanged(previous, current);
+        }
+    }
+
+    /**
+     * Every device: those in the map, then those only in the base snapshot.
+     * Like the map's own views, iteration is weakly consistent.
+     */
+    public Collection<Smarthome.Device> values() {
+        FlatSnapshot snapshot = base;
+        if (snapshot.size() == 0) {
+            return devices.values();
+        }
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Smarthome.Device> iterator() {
+                Iterator<Smarthome.Device> changed = devices.values().iterator();
+                return new Iterator<>() {
+                    private int index;
+                    private Smarthome.Device next;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (next == null) {
+                            if (changed.hasNext()) {
+                                next = changed.next();
+                            } else if (index < snapshot.size()) {
+                                Smarthome.Device stored = snapshot.device(index++);
+                                if (!devices.containsKey(stored.getId())) {
+                                    next = stored;
+                                }
+                            } else {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public Smarthome.Device next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Smarthome.Device device = next;
+                        next = null;
+                        return device;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return DeviceRegistry.this.size();
+            }
+        };
+    }
+
+    /**
+     * Calls {@code consumer} with the id and type of every device. Devices
+     * only in the base snapshot are not parsed; just their type is read.
+     * Like {@link #values()}, iteration is weakly consistent.
+     */
+    void forEachIdAndType(BiConsumer<String, String> consumer) {
+        for (Smarthome.Device device : devices.values()) {
+            consumer.accept(device.getId(), device.getType());
+        }
+        FlatSnapshot snapshot = base;
+        for (int i = 0; i < snapshot.size(); i++) {
+            String id = snapshot.id(i);
+            if (!devices.containsKey(id)) {
+                consumer.accept(id, snapshot.type(i));
+            }
+        }
+    }
+
+    public int size() {
+        return base.size() + added.get();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public String toString() {
+        // Listing the snapshot would parse every device in it
+        int stored = base.size();
+        return stored == 0 ? devices.toString() : devices + " and " + stored + " devices in the snapshot";
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.example.devices.v2.SmarthomeV2;
+
+import java.util.List;
+
+/**
+ * A kind of device the gateway knows how to command.
+ * <p>
+ * Implementations are found with {@link java.util.ServiceLoader}: list the
+ * class in {@code META-INF/services/org.example.gateway.DeviceTypeHandler}
+ * and give it a public no-argument constructor. A device whose type equals
+ * a handler's code uses that handler; otherwise the handlers are asked in
+ * the order they are listed, through {@link #matches}. Devices no handler
+ * claims accept every field.
+ */
+public interface DeviceTypeHandler {
+    /**
+     * The device type this handler serves, e.g. "lamp".
+     */
+    String code();
+
+    /**
+     * Fields a command to this type may set, in the order they are shown in
+     * device listings. A command setting any other field is rejected.
+     */
+    List<CommandField> fields();
+
+    /**
+     * Whether a device whose type is not exactly {@link #code()} is of this type.
+     * By default, when its id starts with the code, as in "lamp1".
+     */
+    default boolean matches(Smarthome.Device device) {
+        return device.getId().startsWith(code());
+    }
+
+    /**
+     * How v2 clients see devices of this type.
+     */
+    default SmarthomeV2.DeviceType v2Type() {
+        return SmarthomeV2.DeviceType.DEVICE_TYPE_UNSPECIFIED;
+    }
+
+    /**
+     * The v1 attribute holding the temperature {@code device} measures, such as a
+     * sensor's state, or null if devices of this type measure none.
+     */
+    default String reading(Smarthome.Device device) {
+        return null;
+    }
+
+    /**
+     * The v1 attribute holding the temperature {@code device} is set to, or null
+     * if devices of this type have no setpoint.
+     */
+    default String setpoint(Smarthome.Device device) {
+        return null;
+    }
+}
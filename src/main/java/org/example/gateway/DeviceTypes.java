@@ -0,0 +1,157 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.example.devices.v2.SmarthomeV2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * The device types loaded from {@link DeviceTypeHandler} services, with what
+ * each one's commands may change precomputed: the accepted fields as an
+ * array in display order and as a bit mask over {@link CommandField}s.
+ * A device's type is resolved to an index into the loaded types, one map
+ * lookup on its type string in the common case; a command resolves it once
+ * with {@link #typeOf} and passes the index to {@link #rejection} and
+ * {@link #apply}.
+ */
+final class DeviceTypes {
+    private record DeviceType(String code, DeviceTypeHandler handler, CommandField[] fields, int accepted) {
+        static DeviceType of(DeviceTypeHandler handler) {
+            CommandField[] fields = handler.fields().toArray(CommandField[]::new);
+            int accepted = 0;
+            for (CommandField field : fields) {
+                accepted |= field.bit();
+            }
+            return new DeviceType(handler.code().intern(), handler, fields, accepted);
+        }
+    }
+
+    private static final DeviceType[] types;
+    // Index of the type of devices no handler claims, after the loaded ones
+    private static final int GENERIC;
+    private static final Map<String, Integer> byCode = new HashMap<>();
+
+    static {
+        List<DeviceType> loaded = new ArrayList<>();
+        for (DeviceTypeHandler handler : ServiceLoader.load(DeviceTypeHandler.class)) {
+            DeviceType type = DeviceType.of(handler);
+            if (byCode.putIfAbsent(type.code(), loaded.size()) == null) {
+                loaded.add(type);
+            }
+        }
+        GENERIC = loaded.size();
+        // Devices no handler claims keep the old behaviour of accepting every field
+        loaded.add(new DeviceType("", new DeviceTypeHandler() {
+            @Override
+            public String code() {
+                return "";
+            }
+
+            @Override
+            public List<CommandField> fields() {
+                return List.of();
+            }
+        }, new CommandField[0], -1));
+        types = loaded.toArray(DeviceType[]::new);
+    }
+
+    private DeviceTypes() {
+    }
+
+    /**
+     * @return the codes of the loaded types, in lookup order
+     */
+    static List<String> codes() {
+        return Arrays.stream(types, 0, GENERIC).map(DeviceType::code).toList();
+    }
+
+    /**
+     * Applies {@code command} to {@code device}: the action becomes the state and
+     * every field the device's type accepts is set. Other fields are ignored.
+     *
+     * @param type the device's type, from {@link #typeOf}
+     */
+    static Smarthome.Device apply(int type, Smarthome.Device device, Smarthome.Command command) {
+        Smarthome.Device.Builder builder = device.toBuilder();
+        if (!command.getAction().isEmpty()) {
+            builder.setState(command.getAction());
+        }
+        CommandField[] fields = type == GENERIC ? CommandField.values() : types[type].fields();
+        for (CommandField field : fields) {
+            String value = field.value(command);
+            if (!value.isEmpty()) {
+                field.apply(builder, value);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param type the device's type, from {@link #typeOf}
+     * @return why {@code device} cannot take {@code command}, or null if it can
+     */
+    static String rejection(int type, Smarthome.Device device, Smarthome.Command command) {
+        DeviceType deviceType = types[type];
+        CommandField rejected = CommandField.first(CommandField.present(command) & ~deviceType.accepted());
+        if (rejected == null) {
+            return null;
+        }
+        return "Device " + device.getId() + " (" + deviceType.code() + ") does not accept "
+                + rejected.name().toLowerCase(Locale.ROOT) + ".";
+    }
+
+    /**
+     * Appends ", value" for each field of the device's type, in display order.
+     *
+     * @return false if the type shows no fields
+     */
+    static boolean describe(Smarthome.Device device, StringBuilder line) {
+        CommandField[] fields = types[typeOf(device)].fields();
+        for (CommandField field : fields) {
+            line.append(", ").append(field.value(device));
+        }
+        return fields.length > 0;
+    }
+
+    static SmarthomeV2.DeviceType v2Type(Smarthome.Device device) {
+        return types[typeOf(device)].handler().v2Type();
+    }
+
+    /**
+     * @return the temperature {@code device} measures, or null if its type measures none or it holds no number
+     */
+    static Double reading(Smarthome.Device device) {
+        String reading = types[typeOf(device)].handler().reading(device);
+        return reading == null ? null : SchemaTranslator.parseDouble(reading);
+    }
+
+    /**
+     * @return the temperature {@code device} is set to, or null if its type has no setpoint or it holds no number
+     */
+    static Double setpoint(Smarthome.Device device) {
+        String setpoint = types[typeOf(device)].handler().setpoint(device);
+        return setpoint == null ? null : SchemaTranslator.parseDouble(setpoint);
+    }
+
+    /**
+     * @return the index of {@code device}'s type; the handlers are only asked when its type string is no handler's code
+     */
+    static int typeOf(Smarthome.Device device) {
+        Integer type = byCode.get(device.getType());
+        if (type != null) {
+            return type;
+        }
+        for (int i = 0; i < GENERIC; i++) {
+            if (types[i].handler().matches(device)) {
+                return i;
+            }
+        }
+        return GENERIC;
+    }
+}
@@ -0,0 +1,200 @@
+package org.example.gateway;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import org.example.devices.Smarthome;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Read-only device snapshot laid out to be used straight from a memory map.
+ * <pre>
+ * header  int magic, int count, long arena offset
+ * index   count entries of {int id offset, int id length, int record offset, int record length},
+ *         sorted by the unsigned UTF-8 bytes of the id
+ * arena   id bytes and serialized Device records, addressed relative to the arena start
+ * </pre>
+ * Opening a snapshot only maps the file and checks the header. A lookup is a
+ * binary search over the index, and a Device is parsed from its record only
+ * when it is asked for, so the cost of a restart does not grow with the
+ * number of devices. Offsets are ints, so a snapshot is limited to 2 GB.
+ */
+final class FlatSnapshot {
+    static final FlatSnapshot EMPTY = new FlatSnapshot(ByteBuffer.allocate(0), 0, 0);
+
+    private static final int MAGIC = 0x53484631; // "SHF1"
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 16;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int arena;
+
+    private FlatSnapshot(ByteBuffer buffer, int count, int arena) {
+        this.buffer = buffer;
+        this.count = count;
+        this.arena = arena;
+    }
+
+    static FlatSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a flat snapshot: " + file);
+            }
+            int count = buffer.getInt(4);
+            long arena = buffer.getLong(8);
+            if (count < 0 || arena != HEADER_SIZE + (long) count * ENTRY_SIZE || arena > buffer.capacity()) {
+                throw new IOException("Corrupt flat snapshot header: " + file);
+            }
+            return new FlatSnapshot(buffer, count, (int) arena);
+        }
+    }
+
+    /**
+     * Writes {@code records}, keyed by UTF-8 id and holding serialized devices, in the flat layout.
+     * The map must be ordered by unsigned byte comparison of the keys.
+     */
+    static void write(Path file, SortedMap<byte[], byte[]> records) throws IOException {
+        long arenaSize = 0;
+        for (Map.Entry<byte[], byte[]> record : records.entrySet()) {
+            arenaSize += record.getKey().length + record.getValue().length;
+        }
+        long arena = HEADER_SIZE + (long) records.size() * ENTRY_SIZE;
+        if (arena + arenaSize > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot exceeds 2 GB: " + (arena + arenaSize) + " bytes");
+        }
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            output.writeInt(MAGIC);
+            output.writeInt(records.size());
+            output.writeLong(arena);
+
+            int offset = 0;
+            for (Map.Entry<byte[], byte[]> record : records.entrySet()) {
+                output.writeInt(offset);
+                output.writeInt(record.getKey().length);
+                output.writeInt(offset + record.getKey().length);
+                output.writeInt(record.getValue().length);
+                offset += record.getKey().length + record.getValue().length;
+            }
+            for (Map.Entry<byte[], byte[]> record : records.entrySet()) {
+                output.write(record.getKey());
+                output.write(record.getValue());
+            }
+            output.flush();
+            channel.force(true);
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    boolean contains(String id) {
+        return find(id.getBytes(StandardCharsets.UTF_8)) >= 0;
+    }
+
+    /**
+     * @return the device stored under {@code id}, parsed from the snapshot, or null
+     */
+    Smarthome.Device get(String id) {
+        if (count == 0) {
+            return null;
+        }
+        int index = find(id.getBytes(StandardCharsets.UTF_8));
+        return index < 0 ? null : device(index);
+    }
+
+    Smarthome.Device device(int index) {
+        try {
+            return Smarthome.Device.parseFrom(record(index));
+        } catch (InvalidProtocolBufferException e) {
+            throw new UncheckedIOException("Corrupt snapshot record " + index, e);
+        }
+    }
+
+    byte[] idBytes(int index) {
+        int entry = HEADER_SIZE + index * ENTRY_SIZE;
+        byte[] id = new byte[buffer.getInt(entry + 4)];
+        buffer.get(arena + buffer.getInt(entry), id);
+        return id;
+    }
+
+    String id(int index) {
+        return new String(idBytes(index), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The type of the device at {@code index}, read from its record without parsing the other fields.
+     */
+    String type(int index) {
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(record(index));
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if (WireFormat.getTagFieldNumber(tag) == Smarthome.Device.TYPE_FIELD_NUMBER) {
+                    return input.readStringRequireUtf8();
+                }
+                input.skipField(tag);
+            }
+            return "";
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt snapshot record " + index, e);
+        }
+    }
+
+    /**
+     * The serialized device at {@code index}, as a read-only view of the mapped file.
+     */
+    ByteBuffer record(int index) {
+        int entry = HEADER_SIZE + index * ENTRY_SIZE;
+        return buffer.slice(arena + buffer.getInt(entry + 8), buffer.getInt(entry + 12));
+    }
+
+    private int find(byte[] id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareId(middle, id);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private int compareId(int index, byte[] id) {
+        int entry = HEADER_SIZE + index * ENTRY_SIZE;
+        int offset = arena + buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        int common = Math.min(length, id.length);
+        for (int i = 0; i < common; i++) {
+            int comparison = Byte.compareUnsigned(buffer.get(offset + i), id[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return length - id.length;
+    }
+}
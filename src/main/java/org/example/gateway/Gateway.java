@@ -1,221 +1,592 @@
 package org.example.gateway;
 
+import com.google.protobuf.CodedOutputStream;
 import org.example.devices.Smarthome;
+import org.example.devices.v2.SmarthomeV2;
+import org.example.logging.Log;
+import org.example.metrics.PrometheusExporter;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.net.DatagramPacket;
-import java.net.InetAddress;
-import java.net.MulticastSocket;
+import java.io.UncheckedIOException;
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 public class Gateway {
+    private static final Log log = Log.get("gateway");
     private static final int TCP_PORT = 6000;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String DEVICE_NOT_FOUND = "Device not found.";
+    // Actions that do not change a device and so cannot be part of a BATCH
+    private static final Set<String> NON_DEVICE_ACTIONS = Set.of("LIST_DEVICES", "LIST_PAGE", "STATUS", "WATCH", "BATCH",
+            "DEFINE_GROUP", "DEFINE_SCENE", "APPLY_SCENE", "QUERY_RANGE", "METRICS");
+    // Distinct devices a WATCH client may have pending before the oldest change is dropped
+    private static final int WATCH_CAPACITY = Integer.getInteger("gateway.watch.capacity", 1024);
+    // Typed v2 protocol for new clients; v1 clients keep using TCP_PORT
+    private static final int TCP_V2_PORT = Integer.getInteger("gateway.v2.port", 6002);
     private static final int MULTICAST_PORT = 6001;
     private static final String MULTICAST_GROUP = "230.0.0.1";
+    // TCP front end: "threaded" (virtual thread per connection) or "nio" (single selector thread)
+    private static final String SERVER_MODE = System.getProperty("gateway.server", "threaded");
+    // Multicast decode workers and the per-worker queue capacity (power of two)
+    private static final int MULTICAST_WORKERS = Integer.getInteger("gateway.multicast.workers",
+            Runtime.getRuntime().availableProcessors());
+    private static final int MULTICAST_QUEUE_CAPACITY = Integer.getInteger("gateway.multicast.queue", 1024);
+    // Commands with a request_id a single connection may have in flight before the gateway stops reading
+    static final int PIPELINE_DEPTH = Integer.getInteger("gateway.pipeline.depth", 256);
+    // Snapshot and write-ahead log directory; empty keeps the registry in memory only
+    private static final String DATA_DIR = System.getProperty("gateway.data.dir", "data");
+    private static final WriteAheadLog.FsyncPolicy WAL_FSYNC = WriteAheadLog.FsyncPolicy.valueOf(
+            System.getProperty("gateway.wal.fsync", "interval").toUpperCase(Locale.ROOT));
+    private static final long WAL_FSYNC_MILLIS = Long.getLong("gateway.wal.fsync.millis", 1000);
+    // A WAL segment is closed and compacted into the snapshot when it reaches this size or age
+    private static final long WAL_SEGMENT_BYTES = Long.getLong("gateway.wal.segment.bytes", 64L << 20);
+    private static final long SNAPSHOT_SECONDS = Long.getLong("gateway.snapshot.seconds", 300);
+    // Raw sensor readings older than this are dropped; minute, hour and day rollups outlive them
+    private static final long HISTORY_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(
+            Long.getLong("gateway.history.retention.hours", 24));
+    // Prometheus text dump: a file rewritten periodically and/or http://127.0.0.1:<port>/metrics; empty or 0 disables
+    private static final String METRICS_FILE = System.getProperty("gateway.metrics.file", "");
+    private static final long METRICS_FILE_SECONDS = Long.getLong("gateway.metrics.file.seconds", 15);
+    private static final int METRICS_PORT = Integer.getInteger("gateway.metrics.port", 0);
+    // Switches each air conditioner's mode from its <id>_sensor readings; the band is in degrees around the setpoint
+    private static final boolean THERMOSTAT = Boolean.parseBoolean(System.getProperty("gateway.thermostat", "true"));
+    private static final double THERMOSTAT_BAND = Double.parseDouble(System.getProperty("gateway.thermostat.band", "1"));
 
-    private static Map<String, Smarthome.Device> devices = new HashMap<>();
+    private static final DeviceRegistry devices = new DeviceRegistry();
+    // Recovers the registry before any other listener is attached
+    private static final RegistryStore store = openStore();
+    private static final DeviceListCache listCache = new DeviceListCache(devices);
+    private static final DeviceIndex deviceIndex = new DeviceIndex(devices);
+    private static final WatchHub watchHub = new WatchHub(devices, WATCH_CAPACITY);
+    private static final SceneStore scenes = new SceneStore();
+    private static final SensorHistory sensorHistory = new SensorHistory(HISTORY_RETENTION_MILLIS);
+    private static final Thermostat thermostat = new Thermostat(devices, THERMOSTAT_BAND);
+    private static final MulticastListener multicastListener = new MulticastListener(
+            MULTICAST_GROUP, MULTICAST_PORT, devices, sensorHistory, MULTICAST_WORKERS, MULTICAST_QUEUE_CAPACITY);
+    private static final GatewayMetrics metrics = new GatewayMetrics(devices, multicastListener, thermostat);
 
     public static void main(String[] args) {
-        System.out.println("Gateway started...");
+        log.info("Gateway started...");
+        if (store != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(store::close));
+        }
+
+        log.info("Device types: {}", DeviceTypes.codes());
+        if (THERMOSTAT) {
+            thermostat.start();
+        }
+        startMetricsExport();
 
         // Start multicast listener
-        new Thread(Gateway::startMulticastListener).start();
+        new Thread(multicastListener::start).start();
+
+        // Start v2 TCP server
+        new Thread(() -> startTCPServer(TCP_V2_PORT, Gateway::handleV2Client)).start();
 
         // Start TCP server
-        startTCPServer();
+        if ("nio".equalsIgnoreCase(SERVER_MODE)) {
+            new NioGatewayServer(TCP_PORT, watchHub).start();
+        } else {
+            startTCPServer(TCP_PORT, Gateway::handleClient);
+        }
+    }
+
+    private static void startMetricsExport() {
+        if (!METRICS_FILE.isEmpty()) {
+            PrometheusExporter.writeFile(metrics.registry(), Path.of(METRICS_FILE), METRICS_FILE_SECONDS);
+        }
+        if (METRICS_PORT > 0) {
+            try {
+                PrometheusExporter.serve(metrics.registry(), METRICS_PORT);
+                log.info("Gateway: metrics at http://127.0.0.1:{}/metrics", METRICS_PORT);
+            } catch (IOException e) {
+                log.error("Cannot serve metrics on port {}: {}", METRICS_PORT, e.getMessage());
+            }
+        }
+    }
+
+    static DeviceRegistry registry() {
+        return devices;
+    }
+
+    private static RegistryStore openStore() {
+        if (DATA_DIR.isEmpty()) {
+            return null;
+        }
+        try {
+            return RegistryStore.open(Path.of(DATA_DIR), devices, WAL_FSYNC, WAL_FSYNC_MILLIS,
+                    WAL_SEGMENT_BYTES, SNAPSHOT_SECONDS);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open device store in " + DATA_DIR, e);
+        }
+    }
+
+    /**
+     * Waits until the changes made so far are durable, as far as the fsync policy promises.
+     *
+     * @return why they may not be durable, or null if they are
+     */
+    private static String awaitDurable() {
+        if (store != null) {
+            try {
+                store.awaitDurable();
+            } catch (IOException e) {
+                return "Applied but not persisted: " + e.getMessage();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether handling {@code command} can block until the write-ahead log is forced to disk.
+     */
+    static boolean awaitsDurability(Smarthome.Command command) {
+        if (store == null || WAL_FSYNC != WriteAheadLog.FsyncPolicy.ALWAYS) {
+            return false;
+        }
+        return switch (command.getAction().toUpperCase(Locale.ROOT)) {
+            case "LIST_DEVICES", "LIST_PAGE", "STATUS", "WATCH", "DEFINE_GROUP", "DEFINE_SCENE", "QUERY_RANGE",
+                 "METRICS" -> false;
+            default -> true;
+        };
     }
 
-    private static void startMulticastListener() {
-        try (MulticastSocket socket = new MulticastSocket(MULTICAST_PORT)) {
-            socket.joinGroup(InetAddress.getByName(MULTICAST_GROUP));
-            System.out.println("Gateway: Listening for multicast messages...");
+    private static void startTCPServer(int port, Consumer<Socket> clientHandler) {
+        // One virtual thread per connection: a slow or idle client no longer blocks the accept loop
+        try (ServerSocket serverSocket = new ServerSocket(port);
+             ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor()) {
+            log.info("Gateway: TCP server started on port {}", port);
 
             while (true) {
-                byte[] buffer = new byte[1024];
-                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
-                socket.receive(packet);
-
-                System.out.println("Received multicast packet from: " + packet.getAddress());
-                String message = new String(packet.getData(), 0, packet.getLength());
-
-                try {
-                    if ("HEALTH_CHECK".equals(message)) {
-                        System.out.println("Received health check request. Sending response...");
-                        InetAddress address = packet.getAddress();
-                        int port = packet.getPort();
-
-                        String response = "HEALTH_OK";
-                        DatagramPacket responsePacket = new DatagramPacket(
-                                response.getBytes(), response.length(), address, port
-                        );
-                        socket.send(responsePacket);
-                    }else if (message.startsWith("STATUSSENSOR")) {
-                        System.out.println("Received status sensor request. Sending response...");
-                        InetAddress address = packet.getAddress();
-                        int port = packet.getPort();
-
-                        String[] parts = message.split("_", 2);
-                        String sensorId = parts[1];
-
-                        Smarthome.Device device = devices.get(sensorId);
-                        String response = device.getState();
-                        DatagramPacket responsePacket = new DatagramPacket(
-                                response.getBytes(), response.length(), address, port
-                        );
-                        socket.send(responsePacket);
-
-                    }else{
-                        byte[] data = Arrays.copyOf(packet.getData(), packet.getLength());
-                        System.out.println("Received data length: " + data.length);
-
-                        // Deserialize the data
-                        Smarthome.Device device = Smarthome.Device.parseFrom(data);
-
-                        // Log the device details
-                        System.out.println("Device Registered: ID=" + device.getId() + ", Type=" + device.getType() + ", State=" + device.getState());
-
-                        // Add device to the map
-                        devices.put(device.getId(), device);
-                        System.out.println("Devices Map: " + devices);
-                    }
-                } catch (Exception e) {
-                    System.err.println("Multicast error: " + e.getMessage());
-                    e.printStackTrace();
-                }
+                Socket clientSocket = serverSocket.accept();
+                connections.submit(() -> clientHandler.accept(clientSocket));
             }
         } catch (IOException e) {
-            System.err.println("Multicast socket error: " + e.getMessage());
-            e.printStackTrace();
+            log.error("TCP server error: {}", e.getMessage());
         }
     }
 
-    private static void startTCPServer() {
-        try (ServerSocket serverSocket = new ServerSocket(TCP_PORT)) {
-            System.out.println("Gateway: TCP server started on port " + TCP_PORT);
+    private static void handleClient(Socket clientSocket) {
+        try (clientSocket;
+             InputStream input = clientSocket.getInputStream();
+             OutputStream output = clientSocket.getOutputStream();
+             ExecutorService pipeline = Executors.newVirtualThreadPerTaskExecutor()) {
 
-            while (true) {
-                try (Socket clientSocket = serverSocket.accept();
-                     InputStream input = clientSocket.getInputStream();
-                     OutputStream output = clientSocket.getOutputStream()) {
+            log.info("Client connected: {}", clientSocket.getRemoteSocketAddress());
+            // Larger responses go out in several writes; don't let Nagle hold back the last one
+            clientSocket.setTcpNoDelay(true);
+            // Pipelined responses are written by their own threads as they finish
+            ReentrantLock writeLock = new ReentrantLock();
+            Semaphore inFlight = new Semaphore(PIPELINE_DEPTH);
 
-                    System.out.println("Client connected: " + clientSocket.getRemoteSocketAddress());
+            while (!clientSocket.isClosed()) {
+                Smarthome.Command command = Smarthome.Command.parseDelimitedFrom(input);
+                if (command == null) {
+                    break;
+                }
 
-                    while (!clientSocket.isClosed()) {
-                        Smarthome.Command command = Smarthome.Command.parseDelimitedFrom(input);
-                        if (command == null) {
-                            break;
-                        }
+                if ("WATCH".equalsIgnoreCase(command.getAction())) {
+                    // The connection now only streams changes until the client closes it
+                    inFlight.acquireUninterruptibly(PIPELINE_DEPTH);
+                    streamWatch(command, input, output);
+                    break;
+                }
 
-                        Smarthome.Response.Builder response = Smarthome.Response.newBuilder();
-                        handleCommand(command, response);
-                        response.build().writeDelimitedTo(output);
-                    }
+                if (command.getRequestId() != 0) {
+                    inFlight.acquireUninterruptibly();
+                    pipeline.submit(() -> {
+                        try {
+                            writeResponse(output, writeLock, command, respond(command), null);
+                        } catch (IOException e) {
+                            log.warn("Client error: {}", e.getMessage());
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                    continue;
                 }
+
+                byte[] cached = cachedResponse(command);
+                writeResponse(output, writeLock, command, cached == null ? respond(command) : null, cached);
             }
         } catch (IOException e) {
-            System.err.println("TCP server error: " + e.getMessage());
+            log.warn("Client error: {}", e.getMessage());
         }
     }
 
-    private static void handleCommand(Smarthome.Command command, Smarthome.Response.Builder response) {
-        if ("LIST_DEVICES".equalsIgnoreCase(command.getAction())) {
-            if (devices.isEmpty()) {
-                response.setStatus("OK")
-                        .setMessage("No devices connected.");
+    /**
+     * Writes one length-delimited response, or the already framed {@code cached} bytes, under the connection's write lock.
+     */
+    private static void writeResponse(OutputStream output, ReentrantLock writeLock, Smarthome.Command command,
+                                      Smarthome.Response response, byte[] cached) throws IOException {
+        ResponseWriteEvent event = new ResponseWriteEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            if (cached != null) {
+                output.write(cached);
             } else {
-                StringBuilder deviceList = new StringBuilder();
-                for (Smarthome.Device device : devices.values()) {
-                    deviceList.append("\n")
-                            .append("ID: ").append(device.getId())
-                            .append(", Type: ").append(device.getType())
-                            .append(", State: ").append(device.getState());
-                    if(device.getId().startsWith("lamp")){
-                        deviceList.append(", ").append(device.getColor())
-                                .append(", ").append(device.getBrightness());
-                    }
-                    if(device.getId().startsWith("tv")){
-                        deviceList.append(", ").append(device.getChannel())
-                                .append(", ").append(device.getVolume());
-                    }
-                    if(device.getId().startsWith("air")){
-                        deviceList.append(", ").append(device.getTemperature())
-                                .append(", ").append(device.getMode());
-                    }
+                response.writeDelimitedTo(output);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        if (event.shouldCommit()) {
+            event.action = command.getAction();
+            event.requestId = command.getRequestId();
+            event.payloadSize = cached != null
+                    ? cached.length
+                    : CodedOutputStream.computeUInt32SizeNoTag(response.getSerializedSize()) + response.getSerializedSize();
+            event.commit();
+        }
+    }
+
+    private static void streamWatch(Smarthome.Command command, InputStream input, OutputStream output) throws IOException {
+        WatchSubscription subscription = watchHub.subscribe(command, null);
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try {
+                WatchHub.acknowledgement(subscription).writeDelimitedTo(output);
+                WatchSubscription.Batch batch;
+                while ((batch = subscription.take(WatchHub.MAX_BATCH)) != null) {
+                    WatchHub.update(batch).writeDelimitedTo(output);
                 }
-                response.setStatus("OK").setMessage(deviceList.toString());
+            } catch (IOException e) {
+                log.warn("Watch stream error: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                watchHub.unsubscribe(subscription);
             }
-        } else if ("STATUS".equalsIgnoreCase(command.getAction())) {
-            if (devices.containsKey(command.getDeviceId())) {
-                StringBuilder deviceList = new StringBuilder();
-                Smarthome.Device device = devices.get(command.getDeviceId());
-                deviceList.append("ID: ").append(device.getId())
-                        .append(", Type: ").append(device.getType())
-                        .append(", State: ").append(device.getState());
-                if(device.getId().startsWith("lamp")){
-                    deviceList.append(", ").append(device.getColor())
-                            .append(", ").append(device.getBrightness()).append("\n");
+        });
+
+        try {
+            // Nothing more is expected from the client; reading only detects the disconnect
+            while (input.read() != -1) {
+                // Ignore
+            }
+        } finally {
+            watchHub.unsubscribe(subscription);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void handleV2Client(Socket clientSocket) {
+        try (clientSocket;
+             InputStream input = clientSocket.getInputStream();
+             OutputStream output = clientSocket.getOutputStream()) {
+
+            log.info("v2 client connected: {}", clientSocket.getRemoteSocketAddress());
+
+            while (!clientSocket.isClosed()) {
+                SmarthomeV2.Command command = SmarthomeV2.Command.parseDelimitedFrom(input);
+                if (command == null) {
+                    break;
                 }
-                if(device.getId().startsWith("tv")){
-                    deviceList.append(", ").append(device.getChannel())
-                            .append(", ").append(device.getVolume()).append("\n");
+                handleV2Command(command).writeDelimitedTo(output);
+            }
+        } catch (IOException e) {
+            log.warn("Client error: {}", e.getMessage());
+        }
+    }
+
+    static SmarthomeV2.Response handleV2Command(SmarthomeV2.Command command) {
+        SmarthomeV2.Response.Builder response = SmarthomeV2.Response.newBuilder();
+        switch (command.getAction()) {
+            case ACTION_LIST_DEVICES -> {
+                for (Smarthome.Device device : devices.values()) {
+                    response.addDevices(SchemaTranslator.toV2(device));
                 }
-                if(device.getId().startsWith("air")){
-                    deviceList.append(", ").append(device.getTemperature())
-                            .append(", ").append(device.getMode()).append("\n");
+                response.setStatus("OK");
+            }
+            case ACTION_STATUS -> {
+                Smarthome.Device device = devices.get(command.getDeviceId());
+                if (device != null) {
+                    response.setStatus("OK").addDevices(SchemaTranslator.toV2(device));
+                } else {
+                    response.setStatus("Error").setMessage("Device not found: " + command.getDeviceId());
                 }
-                response.setStatus("OK").setMessage(deviceList.toString());
-            } else {
-                response.setStatus("Error")
-                        .setMessage("Device not found: " + command.getDeviceId());
             }
-        } else {
-            // Handle specific commands based on action
-            Smarthome.Device device = devices.get(command.getDeviceId());
-            if (device != null) {
-                Smarthome.Device.Builder deviceBuilder = device.toBuilder();
+            default -> {
+                Smarthome.Response.Builder v1Response = Smarthome.Response.newBuilder();
+                handleCommand(SchemaTranslator.toV1(command), v1Response);
+                return SchemaTranslator.toV2(v1Response.build());
+            }
+        }
+        return response.build();
+    }
+
+    /**
+     * Returns the length-delimited response for commands served from a cache, or null.
+     * The returned bytes are shared and must only be written out. Commands carrying a
+     * request_id are never served from here, since the cached bytes cannot echo it.
+     */
+    static byte[] cachedResponse(Smarthome.Command command) {
+        if (command.getRequestId() == 0 && "LIST_DEVICES".equalsIgnoreCase(command.getAction())) {
+            CommandEvent event = new CommandEvent();
+            event.begin();
+            long start = System.nanoTime();
+            byte[] cached = listCache.delimitedResponse();
+            metrics.recordCommand(command, false, System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.deviceId = command.getDeviceId();
+                event.action = command.getAction();
+                event.requestId = command.getRequestId();
+                event.status = "OK";
+                event.payloadSize = command.getSerializedSize();
+                event.commit();
+            }
+            return cached;
+        }
+        return null;
+    }
 
-                if (!command.getColor().isEmpty()) {
-                    deviceBuilder.setColor("Color: " + command.getColor());
+    /**
+     * Handles one command and returns its response, echoing the command's request_id.
+     */
+    static Smarthome.Response respond(Smarthome.Command command) {
+        Smarthome.Response.Builder response = Smarthome.Response.newBuilder();
+        handleCommand(command, response);
+        return response.setRequestId(command.getRequestId()).build();
+    }
+
+    static void handleCommand(Smarthome.Command command, Smarthome.Response.Builder response) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            executeCommand(command, response);
+        } finally {
+            metrics.recordCommand(command, "Error".equals(response.getStatus()), System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.deviceId = command.getDeviceId();
+                event.action = command.getAction();
+                event.requestId = command.getRequestId();
+                event.status = response.getStatus();
+                event.payloadSize = command.getSerializedSize();
+                event.commit();
+            }
+        }
+    }
+
+    private static void executeCommand(Smarthome.Command command, Smarthome.Response.Builder response) {
+        // toUpperCase returns the same string when the action is already upper case
+        switch (command.getAction().toUpperCase(Locale.ROOT)) {
+            case "LIST_DEVICES" -> response.mergeFrom(listCache.response());
+            case "LIST_PAGE" -> {
+                int pageSize = command.getPageSize() > 0
+                        ? Math.min(command.getPageSize(), MAX_PAGE_SIZE)
+                        : DEFAULT_PAGE_SIZE;
+                DeviceIndex.Page page = deviceIndex.page(
+                        command.getTypeFilter(), command.getIdPrefix(), command.getCursor(), pageSize);
+                response.setStatus("OK")
+                        .addAllDevices(page.devices())
+                        .setNextCursor(page.nextCursor());
+            }
+            case "STATUS" -> {
+                Smarthome.Device device = devices.get(command.getDeviceId());
+                if (device != null) {
+                    StringBuilder deviceList = new StringBuilder();
+                    deviceList.append("ID: ").append(device.getId())
+                            .append(", Type: ").append(device.getType())
+                            .append(", State: ").append(device.getState());
+                    if (DeviceTypes.describe(device, deviceList)) {
+                        deviceList.append("\n");
+                    }
+                    response.setStatus("OK").setMessage(deviceList.toString());
+                } else {
+                    response.setStatus("Error")
+                            .setMessage("Device not found: " + command.getDeviceId());
                 }
-                if (!command.getAction().isEmpty()) {
-                    deviceBuilder.setState(command.getAction());
+            }
+            case "BATCH" -> {
+                handleBatch(command.getBatch(), response);
+                failIfNotDurable(response);
+            }
+            case "DEFINE_GROUP" -> {
+                if (command.getGroup().isEmpty()) {
+                    response.setStatus("Error").setMessage("Group name required.");
+                    return;
+                }
+                scenes.defineGroup(command.getGroup(), command.getMembersList());
+                response.setStatus("OK")
+                        .setMessage("Group " + command.getGroup() + " has " + command.getMembersCount() + " members.");
+            }
+            case "DEFINE_SCENE" -> {
+                String invalid = invalidBatchCommand(command.getBatch());
+                if (command.getScene().isEmpty()) {
+                    response.setStatus("Error").setMessage("Scene name required.");
+                } else if (invalid != null) {
+                    response.setStatus("Error").setMessage(invalid);
+                } else {
+                    scenes.defineScene(command.getScene(), command.getBatch());
+                    response.setStatus("OK").setMessage(
+                            "Scene " + command.getScene() + " has " + command.getBatch().getCommandsCount() + " commands.");
                 }
-                if (!command.getBrightness().isEmpty()) {
-                    deviceBuilder.setBrightness("Brightness: " + command.getBrightness() + "%");
+            }
+            case "APPLY_SCENE" -> {
+                Smarthome.CommandBatch batch = scenes.expand(command.getScene());
+                if (batch != null) {
+                    handleBatch(batch, response);
+                    failIfNotDurable(response);
+                } else {
+                    response.setStatus("Error").setMessage("Scene not found: " + command.getScene());
                 }
-                if (!command.getChannel().isEmpty()) {
-                    deviceBuilder.setChannel("Channel: " + command.getChannel());
+            }
+            case "QUERY_RANGE" -> sensorHistory.query(command, response);
+            case "METRICS" -> response.setStatus("OK").setMessage(metrics.registry().prometheus());
+            default -> {
+                String error = executeDeviceCommand(command);
+                if (error == null) {
+                    error = awaitDurable();
                 }
-                if (!command.getVolume().isEmpty()) {
-                    deviceBuilder.setVolume("Volume: " + command.getVolume() + "%");
+                if (error == null) {
+                    response.setStatus("OK").setMessage("Command executed.");
+                } else {
+                    response.setStatus("Error").setMessage(error);
                 }
-                if (!command.getTemperature().isEmpty()) {
-                    String sensorId = command.getDeviceId() + "_sensor";
-                    deviceBuilder.setTemperature("Temperature: " + command.getTemperature() + "°C");
+            }
+        }
+    }
 
-                    if (devices.containsKey(sensorId)) {
-                        Smarthome.Device sensor = devices.get(sensorId);
-                        Smarthome.Device.Builder sensorBuilder = sensor.toBuilder();
-                        sensorBuilder.setState(command.getTemperature());
-                        devices.put(sensorId, sensorBuilder.build());
+    private static void failIfNotDurable(Smarthome.Response.Builder response) {
+        String error = awaitDurable();
+        if (error != null) {
+            response.setStatus("Error").setMessage(error);
+        }
+    }
 
-                    }
-                }
-                if (!command.getMode().isEmpty()) {
-                    deviceBuilder.setMode("Mode: " + command.getMode());
+    /**
+     * Applies one device command to the registry.
+     *
+     * @return why the command was not applied, or null if it was
+     */
+    private static String executeDeviceCommand(Smarthome.Command command) {
+        Smarthome.Device device = devices.get(command.getDeviceId());
+        if (device == null) {
+            return DEVICE_NOT_FOUND;
+        }
+        int type = DeviceTypes.typeOf(device);
+        String rejection = DeviceTypes.rejection(type, device, command);
+        if (rejection != null) {
+            return rejection;
+        }
+        Smarthome.Device updated = devices.update(command.getDeviceId(),
+                current -> DeviceTypes.apply(type, current, command));
+        return updated == null ? DEVICE_NOT_FOUND : null;
+    }
+
+    /**
+     * @return why {@code batch} cannot be stored as a scene, or null if it can
+     */
+    private static String invalidBatchCommand(Smarthome.CommandBatch batch) {
+        for (Smarthome.Command item : batch.getCommandsList()) {
+            if (NON_DEVICE_ACTIONS.contains(item.getAction().toUpperCase(Locale.ROOT))) {
+                return "Not allowed in a batch: " + item.getAction();
+            }
+            if (item.getDeviceId().isEmpty() && item.getGroup().isEmpty()) {
+                return "Scene command needs a device_id or a group.";
+            }
+        }
+        return null;
+    }
+
+    private static void handleBatch(Smarthome.CommandBatch batch, Smarthome.Response.Builder response) {
+        for (Smarthome.Command item : batch.getCommandsList()) {
+            if (NON_DEVICE_ACTIONS.contains(item.getAction().toUpperCase(Locale.ROOT))) {
+                response.setStatus("Error").setMessage("Not allowed in a batch: " + item.getAction());
+                return;
+            }
+        }
+        if (batch.getAtomic()) {
+            handleAtomicBatch(batch, response);
+            return;
+        }
+
+        int executed = 0;
+        for (Smarthome.Command item : batch.getCommandsList()) {
+            String error = executeDeviceCommand(item);
+            response.addResults(error == null ? result(item, "OK", "Command executed.") : result(item, "Error", error));
+            if (error == null) {
+                executed++;
+            }
+        }
+        response.setStatus("OK").setMessage(executed + " of " + batch.getCommandsCount() + " commands executed.");
+    }
+
+    private static void handleAtomicBatch(Smarthome.CommandBatch batch, Smarthome.Response.Builder response) {
+        // A device's type never changes, so it is resolved once here, and a command its
+        // type rejects can be turned down before anything is applied
+        SequencedMap<String, UnaryOperator<Smarthome.Device>> updates = new LinkedHashMap<>();
+        for (Smarthome.Command item : batch.getCommandsList()) {
+            Smarthome.Device device = devices.get(item.getDeviceId());
+            if (device == null) {
+                rejectMissingDevices(batch, response);
+                return;
+            }
+            int type = DeviceTypes.typeOf(device);
+            String rejection = DeviceTypes.rejection(type, device, item);
+            if (rejection != null) {
+                for (Smarthome.Command other : batch.getCommandsList()) {
+                    response.addResults(other == item
+                            ? result(other, "Error", rejection)
+                            : result(other, "Error", "Not applied: batch rejected."));
                 }
+                response.setStatus("Error").setMessage("Batch not applied.");
+                return;
+            }
+            // One composed update per device, so repeated ids see each other's changes in order
+            updates.merge(item.getDeviceId(), current -> DeviceTypes.apply(type, current, item), Gateway::andThen);
+        }
 
-                devices.put(command.getDeviceId(), deviceBuilder.build());
-                response.setStatus("OK").setMessage("Command executed.");
-            } else {
-                response.setStatus("Error").setMessage("Device not found.");
+        if (devices.updateAll(updates) != null) {
+            for (Smarthome.Command item : batch.getCommandsList()) {
+                response.addResults(result(item, "OK", "Command executed."));
             }
+            response.setStatus("OK").setMessage(batch.getCommandsCount() + " commands executed.");
+        } else {
+            rejectMissingDevices(batch, response);
         }
     }
+
+    private static void rejectMissingDevices(Smarthome.CommandBatch batch, Smarthome.Response.Builder response) {
+        for (Smarthome.Command item : batch.getCommandsList()) {
+            response.addResults(devices.contains(item.getDeviceId())
+                    ? result(item, "Error", "Not applied: batch rejected.")
+                    : result(item, "Error", DEVICE_NOT_FOUND));
+        }
+        response.setStatus("Error").setMessage("Batch not applied.");
+    }
+
+    private static UnaryOperator<Smarthome.Device> andThen(UnaryOperator<Smarthome.Device> first,
+                                                           UnaryOperator<Smarthome.Device> second) {
+        return device -> second.apply(first.apply(device));
+    }
+
+    private static Smarthome.CommandResult result(Smarthome.Command item, String status, String message) {
+        return Smarthome.CommandResult.newBuilder()
+                .setDeviceId(item.getDeviceId())
+                .setStatus(status)
+                .setMessage(message)
+                .build();
+    }
 }
@@ -0,0 +1,66 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.example.metrics.LatencyHistogram;
+import org.example.metrics.MetricsRegistry;
+
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The gateway's metrics: packets received, dropped and queued, devices,
+ * and the count, errors and latency of handled commands per action.
+ * Device commands are labelled by what they change (ON, OFF, COLOR,
+ * TEMPERATURE, ...) rather than by their free-form action text, so the
+ * number of label values stays small.
+ */
+class GatewayMetrics {
+    // Actions reported under their own name; other commands are labelled by what they set
+    private static final Set<String> NAMED_ACTIONS = Set.of("LIST_DEVICES", "LIST_PAGE", "STATUS", "WATCH", "BATCH",
+            "DEFINE_GROUP", "DEFINE_SCENE", "APPLY_SCENE", "QUERY_RANGE", "METRICS", "ON", "OFF");
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final MetricsRegistry.Family<LongAdder> commands;
+    private final MetricsRegistry.Family<LongAdder> errors;
+    private final MetricsRegistry.Family<LatencyHistogram> latency;
+
+    GatewayMetrics(DeviceRegistry devices, MulticastListener multicast, Thermostat thermostat) {
+        registry.gauge("gateway_devices", "Registered devices.", devices::size);
+        registry.counter("gateway_packets_received_total", "Multicast datagrams received.", multicast::receivedPackets);
+        registry.counter("gateway_packets_dropped_total",
+                "Multicast datagrams dropped because a worker queue was full.", multicast::droppedPackets);
+        registry.gauge("gateway_packets_queued", "Multicast datagrams waiting in worker queues.", multicast::queuedPackets);
+        registry.counter("gateway_thermostat_mode_changes_total",
+                "Air conditioner modes switched by the thermostat.", thermostat::modeChanges);
+        commands = registry.counter("gateway_commands_total", "Commands handled.", "action");
+        errors = registry.counter("gateway_command_errors_total", "Commands answered with an Error status.", "action");
+        latency = registry.latency("gateway_command_duration_seconds", "Time to handle a command.", "action");
+    }
+
+    MetricsRegistry registry() {
+        return registry;
+    }
+
+    void recordCommand(Smarthome.Command command, boolean error, long nanos) {
+        String action = action(command);
+        commands.labels(action).increment();
+        if (error) {
+            errors.labels(action).increment();
+        }
+        latency.labels(action).record(nanos);
+    }
+
+    static String action(Smarthome.Command command) {
+        String action = command.getAction();
+        for (String named : NAMED_ACTIONS) {
+            if (named.equalsIgnoreCase(action)) {
+                return named;
+            }
+        }
+        CommandField field = CommandField.first(CommandField.present(command));
+        if (field != null) {
+            return field.name();
+        }
+        return action.isEmpty() ? "NONE" : "OTHER";
+    }
+}
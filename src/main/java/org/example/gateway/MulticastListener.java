@@ -0,0 +1,177 @@
+package org.example.gateway;
+
+import org.example.logging.Log;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Receive stage for device multicast traffic.
+ * This thread only pulls datagrams off a {@link DatagramChannel} and hands
+ * them to a {@link PacketWorker}, chosen by device id, through that worker's
+ * bounded {@link PacketQueue}. Decoding and registry updates happen on the
+ * workers, so a slow update no longer lets the kernel socket buffer overflow.
+ * When a worker's queue is full the packet is dropped and counted.
+ */
+class MulticastListener {
+    private static final Log log = Log.get("multicast");
+    private static final int MAX_DATAGRAM_SIZE = 1024;
+    private static final int RECEIVE_BUFFER_SIZE = 4 << 20;
+    // Protobuf tag of Device.id: field 1, length-delimited
+    private static final byte DEVICE_ID_TAG = (1 << 3) | 2;
+
+    private final String group;
+    private final int port;
+    private final DeviceRegistry devices;
+    private final SensorHistory history;
+    private final PacketQueue[] queues;
+
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(MAX_DATAGRAM_SIZE);
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    MulticastListener(String group, int port, DeviceRegistry devices, SensorHistory history,
+                      int workers, int queueCapacity) {
+        this.group = group;
+        this.port = port;
+        this.devices = devices;
+        this.history = history;
+        this.queues = new PacketQueue[workers];
+        for (int i = 0; i < workers; i++) {
+            queues[i] = new PacketQueue(queueCapacity, MAX_DATAGRAM_SIZE);
+        }
+    }
+
+    void start() {
+        try (DatagramChannel channel = DatagramChannel.open(StandardProtocolFamily.INET)) {
+            channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, RECEIVE_BUFFER_SIZE);
+            channel.bind(new InetSocketAddress(port));
+            channel.join(InetAddress.getByName(group), multicastInterface());
+
+            for (int i = 0; i < queues.length; i++) {
+                PacketWorker worker = new PacketWorker(channel, devices, history, queues[i], MAX_DATAGRAM_SIZE);
+                new Thread(worker, "multicast-worker-" + i).start();
+            }
+            log.info("Gateway: Listening for multicast messages with {} workers...", queues.length);
+
+            while (true) {
+                receiveBuffer.clear();
+                SocketAddress sender = channel.receive(receiveBuffer);
+                receiveBuffer.flip();
+                received.increment();
+
+                PacketReceiveEvent event = new PacketReceiveEvent();
+                event.begin();
+                int payloadSize = receiveBuffer.remaining();
+                int worker = partition(receiveBuffer);
+                boolean queued = queues[worker].offer(receiveBuffer, sender);
+                if (!queued) {
+                    dropped.increment();
+                }
+                if (event.shouldCommit()) {
+                    event.payloadSize = payloadSize;
+                    event.worker = worker;
+                    event.dropped = !queued;
+                    event.commit();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Multicast socket error: {}", e.getMessage(), e);
+        }
+    }
+
+    long receivedPackets() {
+        return received.sum();
+    }
+
+    long droppedPackets() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of packets currently waiting in worker queues.
+     */
+    long queuedPackets() {
+        long queued = 0;
+        for (PacketQueue queue : queues) {
+            queued += queue.size();
+        }
+        return queued;
+    }
+
+    /**
+     * Picks the worker for a packet by hashing the raw bytes of its device id,
+     * so reports and state queries for one device always share a worker.
+     * Envelope bodies and bare Devices both carry the id in field 1.
+     */
+    private int partition(ByteBuffer packet) {
+        int position = packet.position();
+        int limit = packet.limit();
+        int from;
+        int to;
+
+        if (PacketWorker.isEnvelope(packet)) {
+            // Skip the oneof tag and the body length to reach the body's first field
+            position = skipVarint(packet, skipVarint(packet, position, limit), limit);
+        }
+
+        if (PacketWorker.matches(packet, PacketWorker.STATUS_SENSOR_PREFIX, false)) {
+            from = position + PacketWorker.STATUS_SENSOR_PREFIX.length;
+            to = limit;
+        } else if (limit - position > 2 && packet.get(position) == DEVICE_ID_TAG) {
+            int length = packet.get(position + 1);
+            from = position + 2;
+            if (length < 0) {
+                // Two-byte varint length; ids are never longer than a datagram
+                length = (length & 0x7F) | (packet.get(position + 2) << 7);
+                from++;
+            }
+            to = Math.min(from + length, limit);
+        } else {
+            return 0;
+        }
+
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + packet.get(i);
+        }
+        return Math.floorMod(hash ^ (hash >>> 16), queues.length);
+    }
+
+    private static int skipVarint(ByteBuffer packet, int position, int limit) {
+        while (position < limit && packet.get(position++) < 0) {
+            // Continuation bit set; keep going
+        }
+        return position;
+    }
+
+    private static NetworkInterface multicastInterface() throws SocketException {
+        NetworkInterface fallback = null;
+        Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+        while (interfaces.hasMoreElements()) {
+            NetworkInterface candidate = interfaces.nextElement();
+            if (!candidate.isUp() || !candidate.supportsMulticast()) {
+                continue;
+            }
+            if (!candidate.isLoopback()) {
+                return candidate;
+            }
+            fallback = candidate;
+        }
+        if (fallback == null) {
+            throw new SocketException("No multicast-capable network interface");
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,402 @@
+package org.example.gateway;
+
+import com.google.protobuf.CodedOutputStream;
+import org.example.devices.Smarthome;
+import org.example.logging.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Single-threaded, non-blocking TCP front end for the gateway.
+ * Speaks the same varint-length-delimited Command/Response framing as the
+ * threaded server, so the existing Client works unchanged. An idle
+ * connection costs only its selection key and a small read buffer.
+ * WATCH subscriptions signal the selector when changes are pending, and a
+ * connection only drains its subscription once earlier frames are written.
+ * Commands carrying a request_id run on worker threads and their responses
+ * are queued back to the selector as they finish, possibly out of order.
+ * So do commands that wait for the write-ahead log to be forced, so an fsync
+ * never stalls the selector; without a request_id the connection is not
+ * read further until that command is answered, which keeps its order.
+ * A connection stops being read while it has too many commands in flight,
+ * or while too many response bytes are waiting for a client that does not
+ * read them. A client that shuts down its output still gets every response
+ * to the commands it sent before the connection is closed.
+ */
+class NioGatewayServer {
+    private static final Log log = Log.get("gateway");
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_FRAME_SIZE = 1 << 20;
+    // Unwritten response bytes past which a connection's further commands are left unread
+    private static final int MAX_PENDING_BYTES = 1 << 20;
+    private static final ByteBuffer EMPTY_FRAME = ByteBuffer.allocate(0);
+
+    private final int port;
+    private final WatchHub watchHub;
+    // Connections with pipelined responses or watched changes waiting to be written
+    private final ConcurrentLinkedQueue<Connection> ready = new ConcurrentLinkedQueue<>();
+    private final ExecutorService pipeline = Executors.newVirtualThreadPerTaskExecutor();
+    private Selector selector;
+
+    NioGatewayServer(int port, WatchHub watchHub) {
+        this.port = port;
+        this.watchHub = watchHub;
+    }
+
+    void start() {
+        try (Selector selector = Selector.open();
+             ServerSocketChannel server = ServerSocketChannel.open()) {
+            this.selector = selector;
+            server.bind(new InetSocketAddress(port));
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            log.info("Gateway: NIO TCP server started on port {}", port);
+
+            while (true) {
+                selector.select();
+                pumpReady();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isAcceptable()) {
+                            accept(server);
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isReadable()) {
+                                connection.read(key);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.flush(key);
+                            }
+                        }
+                    } catch (IOException e) {
+                        log.warn("Client error: {}", e.getMessage());
+                        close(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("NIO server error: {}", e.getMessage());
+        }
+    }
+
+    private void accept(ServerSocketChannel server) throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+    }
+
+    private void pumpReady() {
+        Connection connection;
+        while ((connection = ready.poll()) != null) {
+            SelectionKey key = connection.key;
+            if (!key.isValid()) {
+                continue;
+            }
+            try {
+                connection.resume(key);
+            } catch (IOException e) {
+                log.warn("Client error: {}", e.getMessage());
+                close(key);
+            }
+        }
+    }
+
+    private void signal(Connection connection) {
+        ready.add(connection);
+        selector.wakeup();
+    }
+
+    private void close(SelectionKey key) {
+        if (key.attachment() instanceof Connection connection && connection.subscription != null) {
+            watchHub.unsubscribe(connection.subscription);
+        }
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ignored) {
+            // Already failing; nothing more to release
+        }
+    }
+
+    private static ByteBuffer encode(Smarthome.Response response) throws IOException {
+        int size = response.getSerializedSize();
+        ByteBuffer frame = ByteBuffer.allocate(CodedOutputStream.computeUInt32SizeNoTag(size) + size);
+        CodedOutputStream output = CodedOutputStream.newInstance(frame);
+        output.writeUInt32NoTag(size);
+        response.writeTo(output);
+        output.flush();
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Encodes the response to a command, answering with an Error response if handling it fails.
+     */
+    private static ByteBuffer respond(Smarthome.Command command) throws IOException {
+        Smarthome.Response response;
+        try {
+            response = Gateway.respond(command);
+        } catch (RuntimeException e) {
+            log.error("Command {} failed: {}", command.getAction(), e.toString());
+            response = Smarthome.Response.newBuilder()
+                    .setStatus("Error")
+                    .setMessage("Internal error.")
+                    .setRequestId(command.getRequestId())
+                    .build();
+        }
+        return encode(response);
+    }
+
+    /**
+     * An encoded response waiting to be written, with the command it answers for the write event.
+     */
+    private record Frame(ByteBuffer buffer, String action, long requestId) {
+        Frame(ByteBuffer buffer, Smarthome.Command command) {
+            this(buffer, command.getAction(), command.getRequestId());
+        }
+    }
+
+    /**
+     * A response finished on a worker; {@code ordered} if it answers an untagged command.
+     */
+    private record Completed(Frame frame, boolean ordered) {
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final ArrayDeque<Frame> pending = new ArrayDeque<>();
+        // Filled by worker threads; drained into pending on the selector thread
+        private final ConcurrentLinkedQueue<Completed> completed = new ConcurrentLinkedQueue<>();
+        private ByteBuffer input = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        private SelectionKey key;
+        private WatchSubscription subscription;
+        private int inFlight;
+        private long pendingBytes;
+        // An untagged command is running on a worker; later commands wait for its response
+        private boolean awaiting;
+        // The client shut down its output; the connection closes once every response is written
+        private boolean inputClosed;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void read(SelectionKey key) throws IOException {
+            int read = channel.read(input);
+            if (read < 0) {
+                if (subscription != null) {
+                    close(key);
+                    return;
+                }
+                // A half-closed client still gets the responses to the commands it sent
+                inputClosed = true;
+            }
+
+            decodeAvailable();
+            flush(key);
+        }
+
+        /**
+         * Picks up finished pipelined responses, decodes frames held back while the
+         * pipeline was full, and writes whatever is pending.
+         */
+        void resume(SelectionKey key) throws IOException {
+            Completed done;
+            while ((done = completed.poll()) != null) {
+                enqueue(done.frame());
+                inFlight--;
+                if (done.ordered()) {
+                    awaiting = false;
+                }
+            }
+            decodeAvailable();
+            flush(key);
+        }
+
+        private void decodeAvailable() throws IOException {
+            input.flip();
+            while (decodeFrame()) {
+                // Keep decoding until only a partial frame is left
+            }
+            input.compact();
+        }
+
+        private boolean pipelineFull() {
+            return inFlight >= Gateway.PIPELINE_DEPTH || awaiting;
+        }
+
+        private boolean backlogged() {
+            return pendingBytes >= MAX_PENDING_BYTES || pending.size() >= Gateway.PIPELINE_DEPTH;
+        }
+
+        private void enqueue(Frame frame) {
+            pending.add(frame);
+            pendingBytes += frame.buffer().remaining();
+        }
+
+        /**
+         * Decodes one length-delimited Command from the input buffer, if a complete one is present.
+         */
+        private boolean decodeFrame() throws IOException {
+            if (pipelineFull() || backlogged()) {
+                // Leave further frames buffered until responses come back or are written
+                return false;
+            }
+            int start = input.position();
+            int length = 0;
+            int shift = 0;
+            int cursor = start;
+            while (true) {
+                if (cursor == input.limit()) {
+                    return false;
+                }
+                byte b = input.get(cursor++);
+                length |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+                shift += 7;
+                if (shift > 28) {
+                    throw new IOException("Malformed frame length");
+                }
+            }
+            if (length < 0 || length > MAX_FRAME_SIZE) {
+                throw new IOException("Frame too large: " + length);
+            }
+
+            int headerSize = cursor - start;
+            if (input.limit() - cursor < length) {
+                ensureCapacity(headerSize + length);
+                return false;
+            }
+
+            Smarthome.Command command = Smarthome.Command.parseFrom(input.slice(cursor, length));
+            input.position(cursor + length);
+
+            if (subscription != null) {
+                // A watching connection only streams; later commands are ignored
+                return true;
+            }
+            if ("WATCH".equalsIgnoreCase(command.getAction())) {
+                subscription = watchHub.subscribe(command, () -> signal(this));
+                enqueue(new Frame(encode(WatchHub.acknowledgement(subscription)), command));
+                return true;
+            }
+
+            if (command.getRequestId() != 0 || Gateway.awaitsDurability(command)) {
+                boolean ordered = command.getRequestId() == 0;
+                inFlight++;
+                awaiting |= ordered;
+                pipeline.submit(() -> {
+                    // An empty frame still returns the in-flight slot if encoding fails
+                    ByteBuffer frame = EMPTY_FRAME;
+                    try {
+                        frame = respond(command);
+                    } catch (IOException e) {
+                        log.warn("Client error: {}", e.getMessage());
+                    } finally {
+                        completed.add(new Completed(new Frame(frame, command), ordered));
+                        signal(this);
+                    }
+                });
+                return true;
+            }
+
+            byte[] cached = Gateway.cachedResponse(command);
+            if (cached != null) {
+                enqueue(new Frame(ByteBuffer.wrap(cached), command));
+                return true;
+            }
+
+            enqueue(new Frame(respond(command), command));
+            return true;
+        }
+
+        private void ensureCapacity(int frameSize) {
+            if (frameSize <= input.capacity()) {
+                return;
+            }
+            // Called with the buffer in read mode; keep the unread bytes and switch back to read mode
+            ByteBuffer larger = ByteBuffer.allocate(Integer.highestOneBit(frameSize - 1) << 1);
+            larger.put(input);
+            larger.flip();
+            input = larger;
+        }
+
+        void flush(SelectionKey key) throws IOException {
+            while (!pending.isEmpty() || refillFromWatch()) {
+                Frame head = pending.peek();
+                ResponseWriteEvent event = new ResponseWriteEvent();
+                event.begin();
+                int written = channel.write(head.buffer());
+                if (written > 0 && event.shouldCommit()) {
+                    event.action = head.action();
+                    event.requestId = head.requestId();
+                    event.payloadSize = written;
+                    event.commit();
+                }
+                if (head.buffer().hasRemaining()) {
+                    // Socket buffer is full; resume when the channel becomes writable
+                    key.interestOps(readInterest() | SelectionKey.OP_WRITE);
+                    return;
+                }
+                pending.poll();
+                pendingBytes -= head.buffer().limit();
+            }
+            if (input.position() > 0) {
+                // Commands held back by the backlog are not announced by another read, nor is anything after EOF
+                decodeAvailable();
+                if (!pending.isEmpty()) {
+                    flush(key);
+                    return;
+                }
+            }
+            if (inputClosed && inFlight == 0 && !backlogged()) {
+                // Everything received is answered; what is left in the input is a partial frame
+                close(key);
+                return;
+            }
+            key.interestOps(readInterest());
+        }
+
+        private int readInterest() {
+            // A full pipeline or backlog stops reading, which pushes back on the client through TCP flow control
+            return inputClosed || pipelineFull() || backlogged() ? 0 : SelectionKey.OP_READ;
+        }
+
+        /**
+         * Queues the next batch of watched changes; only called once earlier frames are fully written.
+         */
+        private boolean refillFromWatch() throws IOException {
+            if (subscription == null) {
+                return false;
+            }
+            WatchSubscription.Batch batch = subscription.poll(WatchHub.MAX_BATCH);
+            if (batch == null) {
+                return false;
+            }
+            enqueue(new Frame(encode(WatchHub.update(batch)), "WATCH", 0));
+            return true;
+        }
+    }
+}
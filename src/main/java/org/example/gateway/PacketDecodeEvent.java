@@ -0,0 +1,27 @@
+package org.example.gateway;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A datagram decoded and applied by a multicast worker, including the registry update and any reply.
+ */
+@Name("org.example.gateway.PacketDecode")
+@Label("Packet Decode")
+@Category({"Smart Home", "Multicast"})
+@Description("Multicast datagram decoded and applied by a worker")
+class PacketDecodeEvent extends jdk.jfr.Event {
+    @Label("Device Id")
+    String deviceId;
+
+    @Label("Envelope")
+    @Description("Sent in a DeviceMessage envelope rather than the legacy format")
+    boolean envelope;
+
+    @Label("Payload Size")
+    @DataAmount
+    int payloadSize;
+}
@@ -0,0 +1,101 @@
+package org.example.gateway;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded single-producer/single-consumer ring of datagrams.
+ * Slots own preallocated direct buffers, so handing a packet from the
+ * receive thread to a worker is one copy and no allocation. The producer
+ * never blocks: {@link #offer} fails when the ring is full.
+ */
+final class PacketQueue {
+    static final class Slot {
+        final ByteBuffer data;
+        SocketAddress sender;
+
+        Slot(int size) {
+            this.data = ByteBuffer.allocateDirect(size);
+        }
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    // Producer-local copy of head, refreshed only when the ring looks full
+    private long cachedHead;
+
+    private volatile Thread consumer;
+    private volatile boolean consumerParked;
+
+    PacketQueue(int capacity, int slotSize) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(slotSize);
+        }
+    }
+
+    /**
+     * Copies the readable bytes of {@code packet} into the next free slot.
+     * Producer thread only.
+     *
+     * @return false if the ring is full and the packet was not queued
+     */
+    boolean offer(ByteBuffer packet, SocketAddress sender) {
+        long t = tail.get();
+        if (t - cachedHead >= slots.length) {
+            cachedHead = head.get();
+            if (t - cachedHead >= slots.length) {
+                return false;
+            }
+        }
+
+        Slot slot = slots[(int) (t & mask)];
+        slot.data.clear();
+        slot.data.put(packet);
+        slot.data.flip();
+        slot.sender = sender;
+        tail.set(t + 1);
+
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the oldest queued packet without removing it, or null if the ring is empty.
+     * Consumer thread only; call {@link #release()} once the slot has been processed.
+     */
+    Slot peek() {
+        long h = head.get();
+        return h < tail.get() ? slots[(int) (h & mask)] : null;
+    }
+
+    void release() {
+        head.set(head.get() + 1);
+    }
+
+    /**
+     * Parks the consumer until a packet may be available. Consumer thread only.
+     */
+    void awaitPacket() {
+        consumer = Thread.currentThread();
+        consumerParked = true;
+        if (head.get() == tail.get()) {
+            LockSupport.park(this);
+        }
+        consumerParked = false;
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+}
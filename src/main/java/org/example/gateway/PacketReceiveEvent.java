@@ -0,0 +1,28 @@
+package org.example.gateway;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A datagram handed from the multicast receive thread to a worker queue.
+ * The duration covers partitioning and the copy into the queue, not the wait for the datagram.
+ */
+@Name("org.example.gateway.PacketReceive")
+@Label("Packet Receive")
+@Category({"Smart Home", "Multicast"})
+@Description("Multicast datagram received and queued for a worker")
+class PacketReceiveEvent extends jdk.jfr.Event {
+    @Label("Payload Size")
+    @DataAmount
+    int payloadSize;
+
+    @Label("Worker")
+    int worker;
+
+    @Label("Dropped")
+    @Description("The worker queue was full")
+    boolean dropped;
+}
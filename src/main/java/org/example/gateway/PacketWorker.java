@@ -0,0 +1,197 @@
+package org.example.gateway;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import org.example.devices.Smarthome;
+import org.example.logging.Log;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes and applies the datagrams of one partition of devices.
+ * Every packet for a given device id lands on the same worker, so a
+ * device's reports are applied in the order they were received.
+ */
+class PacketWorker implements Runnable {
+    private static final Log log = Log.get("multicast");
+    // Per-packet events; unless log.sample.packet says otherwise, about one in 100 is logged
+    private static final Log packets = Log.get("packet", 100);
+    static final byte[] HEALTH_CHECK = "HEALTH_CHECK".getBytes(StandardCharsets.US_ASCII);
+    static final byte[] STATUS_SENSOR_PREFIX = "STATUSSENSOR_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEALTH_OK = "HEALTH_OK".getBytes(StandardCharsets.US_ASCII);
+    private static final int SPINS_BEFORE_PARK = 100;
+
+    private final DatagramChannel channel;
+    private final DeviceRegistry devices;
+    private final SensorHistory history;
+    private final PacketQueue queue;
+
+    private final ByteBuffer replyBuffer;
+    private final ByteBuffer healthOk = ByteBuffer.allocateDirect(HEALTH_OK.length).put(HEALTH_OK).flip();
+
+    PacketWorker(DatagramChannel channel, DeviceRegistry devices, SensorHistory history,
+                 PacketQueue queue, int maxDatagramSize) {
+        this.channel = channel;
+        this.devices = devices;
+        this.history = history;
+        this.queue = queue;
+        this.replyBuffer = ByteBuffer.allocateDirect(maxDatagramSize);
+    }
+
+    @Override
+    public void run() {
+        int idleSpins = 0;
+        while (channel.isOpen()) {
+            PacketQueue.Slot slot = queue.peek();
+            if (slot == null) {
+                if (++idleSpins < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    queue.awaitPacket();
+                }
+                continue;
+            }
+            idleSpins = 0;
+
+            PacketDecodeEvent event = new PacketDecodeEvent();
+            event.begin();
+            int payloadSize = slot.data.remaining();
+            boolean envelope = isEnvelope(slot.data);
+            try {
+                String deviceId = handlePacket(slot.data, slot.sender);
+                if (event.shouldCommit()) {
+                    event.deviceId = deviceId;
+                    event.envelope = envelope;
+                    event.payloadSize = payloadSize;
+                    event.commit();
+                }
+            } catch (Exception e) {
+                log.error("Multicast error: {}", e.getMessage(), e);
+            } finally {
+                slot.sender = null;
+                queue.release();
+            }
+        }
+    }
+
+    /**
+     * @return the id of the device the packet was about, or null if it names none
+     */
+    private String handlePacket(ByteBuffer packet, SocketAddress sender) throws IOException {
+        return isEnvelope(packet) ? handleEnvelope(packet, sender) : handleLegacy(packet, sender);
+    }
+
+    /**
+     * Envelope fields are numbered from 16, so their tag varint always has the
+     * continuation bit set, while bare Devices and the legacy ASCII messages never do.
+     */
+    static boolean isEnvelope(ByteBuffer packet) {
+        return packet.hasRemaining() && packet.get(packet.position()) < 0;
+    }
+
+    /**
+     * Dispatches a {@link Smarthome.DeviceMessage} on its oneof field tag without building the envelope object.
+     */
+    private String handleEnvelope(ByteBuffer packet, SocketAddress sender) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(packet);
+        int tag = input.readTag();
+        switch (WireFormat.getTagFieldNumber(tag)) {
+            case Smarthome.DeviceMessage.REGISTRATION_FIELD_NUMBER -> {
+                return register(input.readMessage(Smarthome.Device.parser(), ExtensionRegistryLite.getEmptyRegistry()));
+            }
+            case Smarthome.DeviceMessage.HEARTBEAT_FIELD_NUMBER -> {
+                Smarthome.Heartbeat heartbeat = input.readMessage(
+                        Smarthome.Heartbeat.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                reply(Smarthome.DeviceMessage.newBuilder().setHeartbeat(heartbeat).build(), sender);
+                return heartbeat.getDeviceId();
+            }
+            case Smarthome.DeviceMessage.STATE_QUERY_FIELD_NUMBER -> {
+                Smarthome.StateQuery query = input.readMessage(
+                        Smarthome.StateQuery.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                Smarthome.StateReply.Builder stateReply = Smarthome.StateReply.newBuilder()
+                        .setDeviceId(query.getDeviceId());
+                Smarthome.Device device = devices.get(query.getDeviceId());
+                if (device != null) {
+                    stateReply.setFound(true).setState(device.getState());
+                }
+                reply(Smarthome.DeviceMessage.newBuilder().setStateReply(stateReply).build(), sender);
+                return query.getDeviceId();
+            }
+            default -> {
+                log.warn("Ignoring multicast envelope with tag {}", tag);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Compatibility decoder for devices that still send bare Devices and ASCII control messages.
+     */
+    private String handleLegacy(ByteBuffer packet, SocketAddress sender) throws IOException {
+        if (matches(packet, HEALTH_CHECK, true)) {
+            packets.info("Received health check request. Sending response...");
+            healthOk.rewind();
+            channel.send(healthOk, sender);
+            return null;
+        } else if (matches(packet, STATUS_SENSOR_PREFIX, false)) {
+            packets.info("Received status sensor request. Sending response...");
+            packet.position(packet.position() + STATUS_SENSOR_PREFIX.length);
+            String sensorId = StandardCharsets.US_ASCII.decode(packet).toString();
+
+            Smarthome.Device device = devices.get(sensorId);
+            if (device != null) {
+                replyBuffer.clear();
+                device.getStateBytes().copyTo(replyBuffer);
+                replyBuffer.flip();
+                channel.send(replyBuffer, sender);
+            }
+            return sensorId;
+        } else {
+            // Deserialize the data without copying it out of the slot buffer
+            return register(Smarthome.Device.parseFrom(CodedInputStream.newInstance(packet)));
+        }
+    }
+
+    private String register(Smarthome.Device device) {
+        if (device.getId().isEmpty()) {
+            packets.info("Ignoring registration without a device id, Type={}", device.getType());
+            return null;
+        }
+        packets.info("Device Registered: ID={}, Type={}, State={}", device.getId(), device.getType(), device.getState());
+        devices.put(device);
+        history.record(device);
+        return device.getId();
+    }
+
+    private void reply(Smarthome.DeviceMessage message, SocketAddress sender) throws IOException {
+        replyBuffer.clear();
+        CodedOutputStream output = CodedOutputStream.newInstance(replyBuffer);
+        message.writeTo(output);
+        output.flush();
+        replyBuffer.flip();
+        channel.send(replyBuffer, sender);
+    }
+
+    /**
+     * Compares the readable bytes of {@code buffer} with {@code expected}, either exactly or as a prefix.
+     */
+    static boolean matches(ByteBuffer buffer, byte[] expected, boolean exact) {
+        int length = buffer.remaining();
+        if (exact ? length != expected.length : length < expected.length) {
+            return false;
+        }
+        int start = buffer.position();
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
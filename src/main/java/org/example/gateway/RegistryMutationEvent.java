@@ -0,0 +1,31 @@
+package org.example.gateway;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One device written to the registry, including the listeners notified while its entry is locked.
+ */
+@Name("org.example.gateway.RegistryMutation")
+@Label("Registry Mutation")
+@Category({"Smart Home", "Registry"})
+@Description("Device stored in the registry and listeners notified")
+class RegistryMutationEvent extends jdk.jfr.Event {
+    @Label("Device Id")
+    String deviceId;
+
+    @Label("Operation")
+    @Description("put, update or compareAndSet")
+    String operation;
+
+    @Label("Changed")
+    @Description("False if the device was missing or, for compareAndSet, not the expected one")
+    boolean changed;
+
+    @Label("Payload Size")
+    @DataAmount
+    int payloadSize;
+}
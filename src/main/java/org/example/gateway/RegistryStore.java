@@ -0,0 +1,344 @@
+package org.example.gateway;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.example.devices.Smarthome;
+import org.example.logging.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Durable home of the device registry: a compacted snapshot plus the
+ * write-ahead log segments written since.
+ * <p>
+ * {@code snapshot-N.flat} holds the latest value of every device as of the
+ * end of WAL segment N, in the memory-mapped {@link FlatSnapshot} layout.
+ * Recovery maps it under the registry without parsing it and replays the
+ * segments after N in order, so restart time depends on the log tail rather
+ * than the number of devices. Snapshots in the older length-delimited
+ * {@code snapshot-N.db} format are still loaded record by record, and so are
+ * segments in the older untagged {@code wal-N.log} format.
+ * <p>
+ * Compaction runs off the write path: when the log closes a segment, the
+ * previous snapshot and the closed segments are merged into a new snapshot,
+ * which replaces the old one with an atomic rename before the covered
+ * segments are deleted. The live registry is never read, so the snapshot
+ * cannot miss a change that was in flight while it was taken.
+ */
+class RegistryStore {
+    private static final Log log = Log.get("store");
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".flat";
+    private static final String LEGACY_SNAPSHOT_SUFFIX = ".db";
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String LEGACY_SEGMENT_SUFFIX = ".log";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("registry-compactor").daemon().factory());
+    private WriteAheadLog wal;
+
+    private RegistryStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the stored devices into {@code devices}, then logs every later change.
+     * Must be called before other listeners are added, so recovery is not seen as new changes.
+     */
+    static RegistryStore open(Path directory, DeviceRegistry devices, WriteAheadLog.FsyncPolicy policy,
+                              long fsyncMillis, long segmentBytes, long segmentSeconds) throws IOException {
+        Files.createDirectories(directory);
+        long start = System.nanoTime();
+        deleteTemporaryFiles(directory);
+
+        long snapshot = latestSnapshot(directory);
+        if (snapshot >= 0) {
+            Path flat = snapshotPath(directory, snapshot, SNAPSHOT_SUFFIX);
+            if (Files.exists(flat)) {
+                devices.setBase(FlatSnapshot.open(flat));
+            } else {
+                readDevices(snapshotPath(directory, snapshot, LEGACY_SNAPSHOT_SUFFIX), devices::put);
+            }
+        }
+        List<Long> segments = segments(directory);
+        long lastSegment = snapshot;
+        for (long segment : segments) {
+            if (segment > snapshot) {
+                readSegment(directory, segment, devices::put);
+            }
+            lastSegment = Math.max(lastSegment, segment);
+        }
+        log.info("Recovered {} devices from {} in {} ms",
+                devices.size(), directory, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        RegistryStore store = new RegistryStore(directory);
+        store.wal = new WriteAheadLog(directory, lastSegment + 1, policy, fsyncMillis, segmentBytes, segmentSeconds,
+                store::compact);
+        devices.addListener(store.wal);
+        return store;
+    }
+
+    void awaitDurable() throws IOException {
+        wal.awaitDurable();
+    }
+
+    void close() {
+        wal.close();
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void compact(long lastSegment) {
+        compactor.execute(() -> {
+            try {
+                compactThrough(lastSegment);
+            } catch (IOException e) {
+                // The segments stay in place and are picked up by the next compaction
+                log.error("Snapshot compaction error: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void compactThrough(long lastSegment) throws IOException {
+        long previous = latestSnapshot(directory);
+        if (previous >= lastSegment) {
+            return;
+        }
+
+        // Keyed by UTF-8 id in unsigned byte order, the order of the flat index
+        TreeMap<byte[], byte[]> records = new TreeMap<>(Arrays::compareUnsigned);
+        Consumer<Smarthome.Device> keep = device ->
+                records.put(device.getId().getBytes(StandardCharsets.UTF_8), device.toByteArray());
+        if (previous >= 0) {
+            Path flat = snapshotPath(directory, previous, SNAPSHOT_SUFFIX);
+            if (Files.exists(flat)) {
+                // Copy records as they are; there is no need to parse them
+                FlatSnapshot snapshot = FlatSnapshot.open(flat);
+                for (int i = 0; i < snapshot.size(); i++) {
+                    ByteBuffer record = snapshot.record(i);
+                    byte[] bytes = new byte[record.remaining()];
+                    record.get(bytes);
+                    records.put(snapshot.idBytes(i), bytes);
+                }
+            } else {
+                readDevices(snapshotPath(directory, previous, LEGACY_SNAPSHOT_SUFFIX), keep);
+            }
+        }
+        List<Long> segments = segments(directory);
+        for (long segment : segments) {
+            if (segment > previous && segment <= lastSegment) {
+                readSegment(directory, segment, keep);
+            }
+        }
+
+        Path target = snapshotPath(directory, lastSegment, SNAPSHOT_SUFFIX);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        FlatSnapshot.write(temporary, records);
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // Older files are only removed once the new snapshot is in place. A snapshot
+        // mapped by the registry stays readable after it is unlinked.
+        for (String suffix : List.of(SNAPSHOT_SUFFIX, LEGACY_SNAPSHOT_SUFFIX)) {
+            for (long snapshot : numbered(directory, SNAPSHOT_PREFIX, suffix)) {
+                if (snapshot < lastSegment) {
+                    delete(snapshotPath(directory, snapshot, suffix));
+                }
+            }
+        }
+        for (long segment : segments) {
+            if (segment <= lastSegment) {
+                delete(WriteAheadLog.segmentPath(directory, segment));
+                delete(legacySegmentPath(directory, segment));
+            }
+        }
+    }
+
+    /**
+     * Removes snapshots left half-written by a crash during compaction.
+     */
+    private static void deleteTemporaryFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(TEMPORARY_SUFFIX)).forEach(RegistryStore::delete);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Still in use on some platforms; it is covered by the new snapshot and retried next time
+            log.warn("Cannot delete {}: {}", file.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Replays a log segment, in whichever format it was written.
+     */
+    private static void readSegment(Path directory, long segment, Consumer<Smarthome.Device> consumer)
+            throws IOException {
+        Path file = WriteAheadLog.segmentPath(directory, segment);
+        if (Files.exists(file)) {
+            readRecords(file, consumer);
+        } else {
+            readDevices(legacySegmentPath(directory, segment), consumer);
+        }
+    }
+
+    /**
+     * Reads the {@code WalRecord} fields of a log segment. A torn record at the
+     * end, left by a crash during an append, ends the file. A batch cut short
+     * by the end of the file is dropped as a whole.
+     */
+    private static void readRecords(Path file, Consumer<Smarthome.Device> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CodedInputStream input = CodedInputStream.newInstance(buffer);
+            try {
+                while (!input.isAtEnd()) {
+                    int tag = input.readTag();
+                    if (tag == WriteAheadLog.DEVICE_TAG) {
+                        consumer.accept(readDevice(input));
+                        continue;
+                    }
+                    if (tag != WriteAheadLog.BATCH_HEADER_TAG) {
+                        log.warn("Ignoring unknown record with tag {} and the rest of {}", tag, file.getFileName());
+                        return;
+                    }
+                    int batchSize = input.readUInt32();
+                    List<Smarthome.Device> batch = new ArrayList<>();
+                    while (batch.size() < Integer.toUnsignedLong(batchSize)) {
+                        if (input.isAtEnd()) {
+                            log.warn("Ignoring incomplete batch at the end of {}", file.getFileName());
+                            return;
+                        }
+                        if (input.readTag() != WriteAheadLog.DEVICE_TAG) {
+                            log.warn("Ignoring malformed batch and the rest of {}", file.getFileName());
+                            return;
+                        }
+                        batch.add(readDevice(input));
+                    }
+                    batch.forEach(consumer);
+                }
+            } catch (InvalidProtocolBufferException e) {
+                log.warn("Ignoring torn record at the end of {}", file.getFileName());
+            }
+        }
+    }
+
+    /**
+     * Reads length-delimited devices, the format of {@code .db} snapshots and of
+     * {@code .log} segments written before records were tagged. In those segments
+     * a device with an empty id and a numeric state heads a batch; any other
+     * device without an id is skipped.
+     */
+    private static void readDevices(Path file, Consumer<Smarthome.Device> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CodedInputStream input = CodedInputStream.newInstance(buffer);
+            try {
+                while (!input.isAtEnd()) {
+                    Smarthome.Device record = readDevice(input);
+                    if (!record.getId().isEmpty()) {
+                        consumer.accept(record);
+                        continue;
+                    }
+                    int batchSize;
+                    try {
+                        batchSize = Integer.parseInt(record.getState());
+                    } catch (NumberFormatException e) {
+                        continue;
+                    }
+                    List<Smarthome.Device> batch = new ArrayList<>();
+                    while (batch.size() < batchSize) {
+                        if (input.isAtEnd()) {
+                            log.warn("Ignoring incomplete batch at the end of {}", file.getFileName());
+                            return;
+                        }
+                        batch.add(readDevice(input));
+                    }
+                    batch.forEach(consumer);
+                }
+            } catch (InvalidProtocolBufferException e) {
+                log.warn("Ignoring torn record at the end of {}", file.getFileName());
+            }
+        }
+    }
+
+    private static Smarthome.Device readDevice(CodedInputStream input) throws IOException {
+        return input.readMessage(Smarthome.Device.parser(), ExtensionRegistryLite.getEmptyRegistry());
+    }
+
+    private static Path legacySegmentPath(Path directory, long segment) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, segment, LEGACY_SEGMENT_SUFFIX));
+    }
+
+    private static Path snapshotPath(Path directory, long segment, String suffix) {
+        return directory.resolve(String.format("%s%016d%s", SNAPSHOT_PREFIX, segment, suffix));
+    }
+
+    /**
+     * @return the segment covered by the newest snapshot of either format, or -1 if there is none
+     */
+    private static long latestSnapshot(Path directory) throws IOException {
+        long latest = -1;
+        for (String suffix : List.of(SNAPSHOT_SUFFIX, LEGACY_SNAPSHOT_SUFFIX)) {
+            List<Long> numbers = numbered(directory, SNAPSHOT_PREFIX, suffix);
+            if (!numbers.isEmpty()) {
+                latest = Math.max(latest, numbers.getLast());
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * @return the numbers of the log segments of either format, in ascending order
+     */
+    private static List<Long> segments(Path directory) throws IOException {
+        return Stream.concat(numbered(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX).stream(),
+                numbered(directory, SEGMENT_PREFIX, LEGACY_SEGMENT_SUFFIX).stream()).sorted().toList();
+    }
+
+    /**
+     * Returns the numbers of the files named {@code prefix + number + suffix}, in ascending order.
+     */
+    private static List<Long> numbered(Path directory, String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name, prefix.length(), name.length() - suffix.length(), 10))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
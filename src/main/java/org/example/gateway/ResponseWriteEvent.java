@@ -0,0 +1,28 @@
+package org.example.gateway;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A response written to a client socket, including the wait for the connection's write lock.
+ */
+@Name("org.example.gateway.ResponseWrite")
+@Label("Response Write")
+@Category({"Smart Home", "TCP"})
+@Description("Response written to a client connection")
+class ResponseWriteEvent extends jdk.jfr.Event {
+    @Label("Action")
+    @Description("Action of the answered command")
+    String action;
+
+    @Label("Request Id")
+    long requestId;
+
+    @Label("Payload Size")
+    @Description("Bytes written, including the length prefix")
+    @DataAmount
+    int payloadSize;
+}
@@ -0,0 +1,71 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named device groups and scenes kept by the gateway.
+ * A group maps its name straight to its member ids, so fanning a command
+ * out to a group costs one lookup plus one command per member. A scene is
+ * a stored batch whose commands target either a device or a group; groups
+ * are expanded when the scene is applied, so later membership changes
+ * apply to existing scenes.
+ */
+class SceneStore {
+    private final ConcurrentHashMap<String, List<String>> groups = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Smarthome.CommandBatch> scenes = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the members of {@code group}; an empty list deletes the group.
+     */
+    void defineGroup(String group, List<String> members) {
+        if (members.isEmpty()) {
+            groups.remove(group);
+        } else {
+            groups.put(group, List.copyOf(members));
+        }
+    }
+
+    /**
+     * Replaces the commands of {@code scene}; an empty batch deletes the scene.
+     */
+    void defineScene(String scene, Smarthome.CommandBatch commands) {
+        if (commands.getCommandsCount() == 0) {
+            scenes.remove(scene);
+        } else {
+            scenes.put(scene, commands);
+        }
+    }
+
+    /**
+     * Returns the scene as a batch of device commands, with every group command
+     * repeated for each current member of the group.
+     *
+     * @return the expanded batch, or null if there is no such scene
+     */
+    Smarthome.CommandBatch expand(String scene) {
+        Smarthome.CommandBatch commands = scenes.get(scene);
+        if (commands == null) {
+            return null;
+        }
+
+        Smarthome.CommandBatch.Builder expanded = Smarthome.CommandBatch.newBuilder().setAtomic(commands.getAtomic());
+        for (Smarthome.Command command : commands.getCommandsList()) {
+            if (command.getGroup().isEmpty()) {
+                expanded.addCommands(command);
+                continue;
+            }
+            List<String> members = groups.getOrDefault(command.getGroup(), List.of());
+            if (members.isEmpty()) {
+                continue;
+            }
+            Smarthome.Command.Builder memberCommand = command.toBuilder().clearGroup();
+            for (String member : members) {
+                expanded.addCommands(memberCommand.setDeviceId(member).build());
+            }
+        }
+        return expanded.build();
+    }
+}
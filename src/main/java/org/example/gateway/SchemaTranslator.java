@@ -0,0 +1,182 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.example.devices.v2.SmarthomeV2;
+
+import java.util.Locale;
+
+/**
+ * Converts between the v1 protocol, where every attribute is a (sometimes
+ * decorated) string, and the typed v2 protocol. The registry keeps v1
+ * devices, so v2 clients are translated at the edge.
+ */
+final class SchemaTranslator {
+    private SchemaTranslator() {
+    }
+
+    static Smarthome.Command toV1(SmarthomeV2.Command command) {
+        Smarthome.Command.Builder v1 = Smarthome.Command.newBuilder()
+                .setDeviceId(command.getDeviceId())
+                .setColor(command.getColor());
+
+        switch (command.getAction()) {
+            case ACTION_LIST_DEVICES -> v1.setAction("LIST_DEVICES");
+            case ACTION_STATUS -> v1.setAction("STATUS");
+            case ACTION_ON -> v1.setAction("ON");
+            case ACTION_OFF -> v1.setAction("OFF");
+            default -> {
+                // Attribute-only command: v1 leaves the state untouched when the action is empty
+            }
+        }
+        if (command.hasBrightness()) {
+            v1.setBrightness(Integer.toString(command.getBrightness()));
+        }
+        if (command.hasChannel()) {
+            v1.setChannel(Integer.toString(command.getChannel()));
+        }
+        if (command.hasVolume()) {
+            v1.setVolume(Integer.toString(command.getVolume()));
+        }
+        if (command.hasTemperature()) {
+            v1.setTemperature(formatTemperature(command.getTemperature()));
+        }
+        if (command.getMode() != SmarthomeV2.Mode.MODE_UNSPECIFIED
+                && command.getMode() != SmarthomeV2.Mode.UNRECOGNIZED) {
+            v1.setMode(modeName(command.getMode()));
+        }
+        return v1.build();
+    }
+
+    static SmarthomeV2.Device toV2(Smarthome.Device device) {
+        SmarthomeV2.Device.Builder v2 = SmarthomeV2.Device.newBuilder()
+                .setId(device.getId())
+                .setType(DeviceTypes.v2Type(device))
+                .setState(powerState(device.getState()))
+                .setColor(stripLabel(device.getColor()))
+                .setMode(mode(stripLabel(device.getMode())));
+
+        Integer brightness = parseInt(device.getBrightness());
+        if (brightness != null) {
+            v2.setBrightness(brightness);
+        }
+        Integer channel = parseInt(device.getChannel());
+        if (channel != null) {
+            v2.setChannel(channel);
+        }
+        Integer volume = parseInt(device.getVolume());
+        if (volume != null) {
+            v2.setVolume(volume);
+        }
+        // A sensor's temperature is its reading, any other device's the one it is set to
+        Double reading = DeviceTypes.reading(device);
+        Float temperature = reading != null ? Float.valueOf(reading.floatValue()) : parseFloat(device.getTemperature());
+        if (temperature != null) {
+            v2.setTemperature(temperature);
+        }
+        return v2.build();
+    }
+
+    static SmarthomeV2.Response toV2(Smarthome.Response response) {
+        return SmarthomeV2.Response.newBuilder()
+                .setStatus(response.getStatus())
+                .setMessage(response.getMessage())
+                .build();
+    }
+
+    private static SmarthomeV2.PowerState powerState(String state) {
+        if ("ON".equalsIgnoreCase(state)) {
+            return SmarthomeV2.PowerState.POWER_STATE_ON;
+        }
+        if ("OFF".equalsIgnoreCase(state)) {
+            return SmarthomeV2.PowerState.POWER_STATE_OFF;
+        }
+        return SmarthomeV2.PowerState.POWER_STATE_UNSPECIFIED;
+    }
+
+    private static SmarthomeV2.Mode mode(String mode) {
+        if (mode.isEmpty()) {
+            return SmarthomeV2.Mode.MODE_UNSPECIFIED;
+        }
+        try {
+            return SmarthomeV2.Mode.valueOf("MODE_" + mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return SmarthomeV2.Mode.MODE_UNSPECIFIED;
+        }
+    }
+
+    /**
+     * Renders a v2 mode the way v1 clients type it, e.g. MODE_COOLING becomes "Cooling".
+     */
+    private static String modeName(SmarthomeV2.Mode mode) {
+        String name = mode.name().substring("MODE_".length());
+        return name.charAt(0) + name.substring(1).toLowerCase(Locale.ROOT);
+    }
+
+    private static String formatTemperature(float temperature) {
+        return temperature == Math.rint(temperature)
+                ? Integer.toString((int) temperature)
+                : Float.toString(temperature);
+    }
+
+    /**
+     * @return {@code value} without its "Label: " prefix, e.g. "Cooling" for "Mode: Cooling"
+     */
+    static String stripLabel(String value) {
+        int separator = value.indexOf(": ");
+        return separator < 0 ? value : value.substring(separator + 2);
+    }
+
+    private static Integer parseInt(String decorated) {
+        Double number = parseDouble(decorated);
+        return number == null ? null : (int) Math.round(number);
+    }
+
+    /**
+     * @return the first number in {@code decorated}, or null if it holds none
+     */
+    static Double parseDouble(String decorated) {
+        String number = extractNumber(decorated);
+        if (number == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Float parseFloat(String decorated) {
+        String number = extractNumber(decorated);
+        if (number == null) {
+            return null;
+        }
+        try {
+            return Float.parseFloat(number);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the first number in a decorated value such as "Brightness: 80%" or "Temperature: -2.5°C".
+     */
+    private static String extractNumber(String decorated) {
+        int start = 0;
+        while (start < decorated.length() && !Character.isDigit(decorated.charAt(start))) {
+            start++;
+        }
+        if (start == decorated.length()) {
+            return null;
+        }
+        if (start > 0 && decorated.charAt(start - 1) == '-') {
+            start--;
+        }
+        int end = start + 1;
+        while (end < decorated.length()
+                && (Character.isDigit(decorated.charAt(end)) || decorated.charAt(end) == '.')) {
+            end++;
+        }
+        return decorated.substring(start, end);
+    }
+}
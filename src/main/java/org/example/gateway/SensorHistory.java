@@ -0,0 +1,79 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.example.timeseries.TimeSeriesStore;
+
+/**
+ * Keeps the history of sensor readings for QUERY_RANGE.
+ * Every reading a sensor reports over multicast, including a repeat of the
+ * last one, is appended to the sensor's series at the time the gateway
+ * received it, and folded into the series' minute, hour and day rollups on
+ * the way in. Changes made through the gateway are not readings and are not
+ * recorded.
+ */
+class SensorHistory {
+    // Largest number of buckets a single QUERY_RANGE may ask for
+    static final int MAX_BUCKETS = 10_000;
+    private static final long DEFAULT_RANGE_MILLIS = 60 * 60 * 1000;
+    private static final int DEFAULT_BUCKETS = 60;
+
+    private final TimeSeriesStore store;
+
+    SensorHistory(long rawRetentionMillis) {
+        this.store = new TimeSeriesStore(rawRetentionMillis);
+    }
+
+    /**
+     * Appends the reading of a device report received from the network, if it is a sensor's.
+     */
+    void record(Smarthome.Device report) {
+        Double reading = DeviceTypes.reading(report);
+        if (reading != null) {
+            store.append(report.getId(), System.currentTimeMillis(), reading);
+        }
+    }
+
+    /**
+     * Answers a QUERY_RANGE with the min, max and average reading per step of the requested window.
+     */
+    void query(Smarthome.Command command, Smarthome.Response.Builder response) {
+        long to = command.getToMillis() > 0 ? command.getToMillis() : System.currentTimeMillis();
+        long from = command.getFromMillis() > 0 ? command.getFromMillis() : to - DEFAULT_RANGE_MILLIS;
+        if (from >= to) {
+            response.setStatus("Error").setMessage("from_millis must be before to_millis.");
+            return;
+        }
+        long step = command.getStepMillis();
+        if (step <= 0) {
+            step = Math.max(1, ceilDiv(to - from, DEFAULT_BUCKETS));
+            // A whole number of rollup intervals is served without decoding raw samples
+            long resolution = store.resolutionFor(step);
+            step = ceilDiv(step, resolution) * resolution;
+        }
+        if ((to - from) / step >= MAX_BUCKETS) {
+            response.setStatus("Error").setMessage("Too many buckets; use a step of at least "
+                    + ((to - from) / MAX_BUCKETS + 1) + " ms.");
+            return;
+        }
+        if (!store.contains(command.getDeviceId())) {
+            response.setStatus("Error").setMessage("No readings for " + command.getDeviceId() + ".");
+            return;
+        }
+
+        int count = 0;
+        for (TimeSeriesStore.Bucket bucket : store.downsample(command.getDeviceId(), from, to, step)) {
+            response.addBuckets(Smarthome.Bucket.newBuilder()
+                    .setStartMillis(bucket.start())
+                    .setMin(bucket.min())
+                    .setMax(bucket.max())
+                    .setAvg(bucket.average())
+                    .setCount(bucket.count()));
+            count += (int) bucket.count();
+        }
+        response.setStatus("OK").setMessage(count + " readings in " + response.getBucketsCount() + " buckets.");
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
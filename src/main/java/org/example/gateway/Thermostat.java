@@ -0,0 +1,138 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+import org.example.logging.Log;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop control of air conditioners from their room sensors.
+ * A room is an air conditioner {@code <id>} and its sensor {@code <id>_sensor}.
+ * When either one changes, the listener queues the room; a room already
+ * queued is not queued again, so a burst of readings is evaluated once. A
+ * single worker then compares the latest reading with the air conditioner's
+ * temperature setpoint and switches its mode:
+ * <ul>
+ *     <li>Cooling once the reading reaches setpoint + band, Heating once it falls to setpoint - band;</li>
+ *     <li>back to Fan when a cooling room is down to the setpoint, or a heating room up to it;</li>
+ *     <li>otherwise the mode is left as it is.</li>
+ * </ul>
+ * Only rooms that changed are looked at, so the cost follows the rate of
+ * readings, not the number of rooms. Air conditioners that are off, have no
+ * setpoint, or are in Dry mode are left alone.
+ */
+class Thermostat implements DeviceRegistry.Listener {
+    private static final Log log = Log.get("thermostat");
+    private static final String SENSOR_SUFFIX = "_sensor";
+    private static final String COOLING = "Cooling";
+    private static final String HEATING = "Heating";
+    private static final String IDLE = "Fan";
+
+    private final DeviceRegistry devices;
+    private final double band;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<String> rooms = new LinkedBlockingQueue<>();
+    private final LongAdder modeChanges = new LongAdder();
+
+    /**
+     * @param band degrees the reading must stray from the setpoint before heating or cooling starts
+     */
+    Thermostat(DeviceRegistry devices, double band) {
+        this.devices = devices;
+        this.band = band;
+    }
+
+    void start() {
+        devices.addListener(this);
+        Thread.ofPlatform().name("thermostat").daemon().start(this::run);
+    }
+
+    long modeChanges() {
+        return modeChanges.sum();
+    }
+
+    @Override
+    public void deviceChanged(Smarthome.Device previous, Smarthome.Device current) {
+        if (current.equals(previous)) {
+            return;
+        }
+        String id = current.getId();
+        String room;
+        if (id.endsWith(SENSOR_SUFFIX)) {
+            room = id.substring(0, id.length() - SENSOR_SUFFIX.length());
+        } else if (DeviceTypes.setpoint(current) != null) {
+            room = id;
+        } else {
+            return;
+        }
+        // Listeners must not update the registry; the worker does it outside the device's lock
+        if (queued.add(room)) {
+            rooms.add(room);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            String room;
+            try {
+                room = rooms.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            // Removed first, so a change made while the room is evaluated queues it again
+            queued.remove(room);
+            try {
+                evaluate(room);
+            } catch (RuntimeException e) {
+                log.error("Thermostat error for {}: {}", room, e.toString());
+            }
+        }
+    }
+
+    private void evaluate(String room) {
+        Smarthome.Device sensor = devices.get(room + SENSOR_SUFFIX);
+        Smarthome.Device air = devices.get(room);
+        if (sensor == null || air == null) {
+            return;
+        }
+        Double reading = DeviceTypes.reading(sensor);
+        Double setpoint = DeviceTypes.setpoint(air);
+        if (reading == null || setpoint == null || !"ON".equalsIgnoreCase(air.getState())) {
+            return;
+        }
+        String current = SchemaTranslator.stripLabel(air.getMode());
+        if ("Dry".equalsIgnoreCase(current)) {
+            return;
+        }
+        String mode = mode(current, reading, setpoint);
+        if (mode.equalsIgnoreCase(current)) {
+            return;
+        }
+
+        Smarthome.Device.Builder updated = air.toBuilder();
+        CommandField.MODE.apply(updated, mode);
+        // If the air conditioner changed meanwhile, that change has queued the room again
+        if (devices.compareAndSet(room, air, updated.build())) {
+            modeChanges.increment();
+            log.debug("{}: {} at {}", room, mode, reading);
+        }
+    }
+
+    private String mode(String current, double reading, double setpoint) {
+        if (reading >= setpoint + band) {
+            return COOLING;
+        }
+        if (reading <= setpoint - band) {
+            return HEATING;
+        }
+        if (COOLING.equalsIgnoreCase(current) && reading <= setpoint
+                || HEATING.equalsIgnoreCase(current) && reading >= setpoint) {
+            return IDLE;
+        }
+        return current;
+    }
+}
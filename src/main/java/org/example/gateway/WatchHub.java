@@ -0,0 +1,115 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes registry changes to WATCH subscriptions.
+ * Subscriptions are indexed by device id and by type, so a change only
+ * touches the subscriptions that asked for it.
+ */
+class WatchHub implements DeviceRegistry.Listener {
+    static final int MAX_BATCH = 256;
+
+    private final int capacity;
+    private final Set<WatchSubscription> all = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Set<WatchSubscription>> byDevice = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<WatchSubscription>> byType = new ConcurrentHashMap<>();
+
+    WatchHub(DeviceRegistry devices, int capacity) {
+        this.capacity = capacity;
+        devices.addListener(this);
+    }
+
+    /**
+     * Subscribes to the device in {@code device_id}, else to the type in {@code type_filter}, else to everything.
+     */
+    WatchSubscription subscribe(Smarthome.Command command, Runnable onReady) {
+        WatchSubscription subscription;
+        if (!command.getDeviceId().isEmpty()) {
+            subscription = new WatchSubscription(
+                    WatchSubscription.Scope.DEVICE, command.getDeviceId(), capacity, onReady);
+            add(byDevice, subscription);
+        } else if (!command.getTypeFilter().isEmpty()) {
+            subscription = new WatchSubscription(
+                    WatchSubscription.Scope.TYPE, typeKey(command.getTypeFilter()), capacity, onReady);
+            add(byType, subscription);
+        } else {
+            subscription = new WatchSubscription(WatchSubscription.Scope.ALL, "", capacity, onReady);
+            all.add(subscription);
+        }
+        return subscription;
+    }
+
+    void unsubscribe(WatchSubscription subscription) {
+        subscription.close();
+        switch (subscription.scope) {
+            case ALL -> all.remove(subscription);
+            case DEVICE -> remove(byDevice, subscription);
+            case TYPE -> remove(byType, subscription);
+        }
+    }
+
+    @Override
+    public void deviceChanged(Smarthome.Device previous, Smarthome.Device current) {
+        if (current.equals(previous)) {
+            return;
+        }
+        offer(all, current);
+        offer(byDevice.get(current.getId()), current);
+        offer(byType.get(typeKey(current.getType())), current);
+    }
+
+    static Smarthome.Response acknowledgement(WatchSubscription subscription) {
+        String target = switch (subscription.scope) {
+            case ALL -> "all devices";
+            case DEVICE -> "device " + subscription.key;
+            case TYPE -> "type " + subscription.key;
+        };
+        return Smarthome.Response.newBuilder()
+                .setStatus("OK")
+                .setMessage("Watching " + target + ".")
+                .build();
+    }
+
+    /**
+     * One streamed WATCH frame. OVERFLOW means some changes were dropped and the client should resync.
+     */
+    static Smarthome.Response update(WatchSubscription.Batch batch) {
+        return Smarthome.Response.newBuilder()
+                .setStatus(batch.overflowed() ? "OVERFLOW" : "UPDATE")
+                .addAllDevices(batch.devices())
+                .build();
+    }
+
+    private static void offer(Set<WatchSubscription> subscriptions, Smarthome.Device device) {
+        if (subscriptions == null) {
+            return;
+        }
+        for (WatchSubscription subscription : subscriptions) {
+            subscription.offer(device);
+        }
+    }
+
+    private static void add(ConcurrentHashMap<String, Set<WatchSubscription>> index, WatchSubscription subscription) {
+        index.compute(subscription.key, (key, subscriptions) -> {
+            Set<WatchSubscription> members = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            members.add(subscription);
+            return members;
+        });
+    }
+
+    private static void remove(ConcurrentHashMap<String, Set<WatchSubscription>> index, WatchSubscription subscription) {
+        index.computeIfPresent(subscription.key, (key, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private static String typeKey(String type) {
+        return type.toLowerCase(Locale.ROOT);
+    }
+}
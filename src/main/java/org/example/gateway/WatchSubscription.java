@@ -0,0 +1,125 @@
+package org.example.gateway;
+
+import org.example.devices.Smarthome;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pending device changes for one WATCH client.
+ * Changes are coalesced per device, so a device that changes many times
+ * before the client catches up is delivered once, with its latest value.
+ * The number of distinct pending devices is bounded; past that the oldest
+ * pending change is dropped and the next batch is flagged as overflowed.
+ * Offering never blocks, so a slow client cannot stall the registry.
+ */
+class WatchSubscription {
+    enum Scope { ALL, DEVICE, TYPE }
+
+    record Batch(List<Smarthome.Device> devices, boolean overflowed) {
+    }
+
+    final Scope scope;
+    final String key;
+
+    private final int capacity;
+    private final Runnable onReady;
+    private final LinkedHashMap<String, Smarthome.Device> pending = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private boolean overflowed;
+    private boolean closed;
+
+    /**
+     * @param onReady called, outside the lock, when the first change arrives in an empty queue; may be null
+     */
+    WatchSubscription(Scope scope, String key, int capacity, Runnable onReady) {
+        this.scope = scope;
+        this.key = key;
+        this.capacity = capacity;
+        this.onReady = onReady;
+    }
+
+    void offer(Smarthome.Device device) {
+        boolean wasEmpty;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            wasEmpty = pending.isEmpty();
+            // Re-putting an existing key keeps its place in the queue and replaces the value
+            if (pending.put(device.getId(), device) == null && pending.size() > capacity) {
+                Iterator<String> eldest = pending.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                overflowed = true;
+            }
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (wasEmpty && onReady != null) {
+            onReady.run();
+        }
+    }
+
+    /**
+     * Removes up to {@code max} pending changes, or returns null if there are none.
+     */
+    Batch poll(int max) {
+        lock.lock();
+        try {
+            return drain(max);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for pending changes and removes up to {@code max} of them.
+     *
+     * @return the batch, or null once the subscription is closed
+     */
+    Batch take(int max) throws InterruptedException {
+        lock.lock();
+        try {
+            while (pending.isEmpty() && !closed) {
+                changed.await();
+            }
+            return closed ? null : drain(max);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            pending.clear();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Batch drain(int max) {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        List<Smarthome.Device> devices = new ArrayList<>(Math.min(max, pending.size()));
+        Iterator<Smarthome.Device> values = pending.values().iterator();
+        while (values.hasNext() && devices.size() < max) {
+            devices.add(values.next());
+            values.remove();
+        }
+        Batch batch = new Batch(devices, overflowed);
+        overflowed = false;
+        return batch;
+    }
+}
@@ -0,0 +1,308 @@
+package org.example.gateway;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.example.devices.Smarthome;
+import org.example.logging.Log;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * Append-only log of registry changes.
+ * Every change is queued by the registry listener as the device's new value
+ * and a single writer thread appends everything queued since its last pass,
+ * so concurrent changes share one write and one fsync (group commit). The log
+ * is split into numbered segments; a full or old segment is closed and handed
+ * to {@code onSegmentClosed} for compaction into a snapshot.
+ * <p>
+ * Each record is one field of a {@code WalRecord} message with a oneof of
+ * {@code Device device = 1} and {@code uint32 batch_header = 2}, so its kind
+ * is in its tag and never depends on what a device contains. The changes of
+ * an all-or-nothing batch are preceded by a batch header holding the number
+ * of device records that follow. Recovery only applies the batch if all of
+ * them are there.
+ * <p>
+ * A failed write or force leaves the end of the segment in an unknown state,
+ * so the log stops writing: later changes are kept in memory only, and
+ * every {@link #awaitDurable()} fails from then on.
+ */
+class WriteAheadLog implements DeviceRegistry.Listener {
+    private static final Log log = Log.get("store");
+    enum FsyncPolicy {
+        /** Force every group to disk; {@link #awaitDurable()} waits for it. */
+        ALWAYS,
+        /** Force at most once per fsync interval; a crash may lose the last interval. */
+        INTERVAL,
+        /** Leave flushing to the operating system. */
+        NEVER
+    }
+
+    static final int DEVICE_FIELD = 1;
+    static final int BATCH_HEADER_FIELD = 2;
+    static final int DEVICE_TAG = (DEVICE_FIELD << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    static final int BATCH_HEADER_TAG = (BATCH_HEADER_FIELD << 3) | WireFormat.WIRETYPE_VARINT;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * A queued record: a changed device, or a batch header if {@code device} is null.
+     */
+    private record Record(Smarthome.Device device, int batchSize) {
+    }
+
+    private final Path directory;
+    private final FsyncPolicy policy;
+    private final long fsyncNanos;
+    private final long segmentBytes;
+    private final long segmentNanos;
+    private final LongConsumer onSegmentClosed;
+    private final Thread writer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingAvailable = lock.newCondition();
+    private final Condition durableAdvanced = lock.newCondition();
+    private List<Record> pending = new ArrayList<>();
+    private List<Record> writing = new ArrayList<>();
+    private long appended;
+    private long durable;
+    private boolean closed;
+    private IOException failure;
+
+    // Owned by the writer thread
+    private long segment;
+    private long segmentStarted;
+    private FileChannel channel;
+    private CodedOutputStream output;
+
+    WriteAheadLog(Path directory, long firstSegment, FsyncPolicy policy, long fsyncMillis,
+                  long segmentBytes, long segmentSeconds, LongConsumer onSegmentClosed) throws IOException {
+        this.directory = directory;
+        this.policy = policy;
+        this.fsyncNanos = TimeUnit.MILLISECONDS.toNanos(fsyncMillis);
+        this.segmentBytes = segmentBytes;
+        this.segmentNanos = TimeUnit.SECONDS.toNanos(segmentSeconds);
+        this.onSegmentClosed = onSegmentClosed;
+        openSegment(firstSegment);
+        this.writer = Thread.ofPlatform().name("wal-writer").daemon().start(this::run);
+    }
+
+    static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(String.format("wal-%016d.wal", segment));
+    }
+
+    @Override
+    public void deviceChanged(Smarthome.Device previous, Smarthome.Device current) {
+        lock.lock();
+        try {
+            pending.add(new Record(current, 0));
+            appended++;
+            if (pending.size() == 1) {
+                pendingAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void devicesChanged(List<Smarthome.Device> previous, List<Smarthome.Device> current) {
+        lock.lock();
+        try {
+            // Queued together, so the writer never sees part of the batch
+            pending.add(new Record(null, current.size()));
+            for (Smarthome.Device device : current) {
+                pending.add(new Record(device, 0));
+            }
+            appended += current.size() + 1;
+            if (pending.size() == current.size() + 1) {
+                pendingAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Under {@link FsyncPolicy#ALWAYS}, waits until every change made so far is on disk.
+     * Returns at once under the other policies.
+     *
+     * @throws IOException if the log failed before the changes reached the disk
+     */
+    void awaitDurable() throws IOException {
+        if (policy != FsyncPolicy.ALWAYS) {
+            return;
+        }
+        lock.lock();
+        try {
+            long target = appended;
+            while (durable < target && !closed && failure == null) {
+                durableAdvanced.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw new IOException("Write-ahead log failed: " + failure.getMessage(), failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes and forces everything queued so far, then stops the writer.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            pendingAvailable.signal();
+            durableAdvanced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long lastSync = System.nanoTime();
+        boolean dirty = false;
+        while (true) {
+            List<Record> batch;
+            long target;
+            boolean closing;
+            boolean failed;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && !closed) {
+                    if (!dirty || policy != FsyncPolicy.INTERVAL) {
+                        pendingAvailable.awaitUninterruptibly();
+                        continue;
+                    }
+                    // Wake up in time to force the last writes of a quiet period
+                    long remaining = fsyncNanos - (System.nanoTime() - lastSync);
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    try {
+                        pendingAvailable.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                batch = pending;
+                pending = writing;
+                writing = batch;
+                target = appended;
+                closing = closed;
+                failed = failure != null;
+            } finally {
+                lock.unlock();
+            }
+
+            if (failed) {
+                // The segment cannot be trusted any more; drop the changes instead of appending after a gap
+                batch.clear();
+            } else {
+                try {
+                    if (!batch.isEmpty()) {
+                        for (Record record : batch) {
+                            if (record.device() != null) {
+                                output.writeMessage(DEVICE_FIELD, record.device());
+                            } else {
+                                output.writeUInt32(BATCH_HEADER_FIELD, record.batchSize());
+                            }
+                        }
+                        output.flush();
+                        batch.clear();
+                        dirty = true;
+                    }
+
+                    long now = System.nanoTime();
+                    boolean sync = switch (policy) {
+                        case ALWAYS -> true;
+                        case INTERVAL -> closing || now - lastSync >= fsyncNanos;
+                        case NEVER -> closing;
+                    };
+                    if (sync && dirty) {
+                        channel.force(false);
+                        lastSync = now;
+                        dirty = false;
+                    }
+
+                    if (channel.position() >= segmentBytes
+                            || (channel.position() > 0 && now - segmentStarted >= segmentNanos && !closing)) {
+                        rotate();
+                        dirty = false;
+                    }
+                    publishDurable(target);
+                } catch (IOException e) {
+                    // Keep serving from memory, but fail everyone waiting for these changes to be durable
+                    log.error("WAL write error, changes are no longer persisted: {}", e.getMessage());
+                    batch.clear();
+                    dirty = false;
+                    fail(e);
+                }
+            }
+
+            if (closing) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.error("WAL close error: {}", e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    private void publishDurable(long target) {
+        if (policy != FsyncPolicy.ALWAYS) {
+            return;
+        }
+        lock.lock();
+        try {
+            durable = target;
+            durableAdvanced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail(IOException e) {
+        lock.lock();
+        try {
+            failure = e;
+            durableAdvanced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rotate() throws IOException {
+        channel.force(false);
+        channel.close();
+        long closedSegment = segment;
+        openSegment(segment + 1);
+        onSegmentClosed.accept(closedSegment);
+    }
+
+    private void openSegment(long number) throws IOException {
+        segment = number;
+        segmentStarted = System.nanoTime();
+        channel = FileChannel.open(segmentPath(directory, number),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        output = CodedOutputStream.newInstance(Channels.newOutputStream(channel), OUTPUT_BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.gateway.types;
+
+import org.example.devices.Smarthome;
+import org.example.devices.v2.SmarthomeV2;
+import org.example.gateway.CommandField;
+import org.example.gateway.DeviceTypeHandler;
+
+import java.util.List;
+
+/**
+ * Air conditioners: state, target temperature and mode.
+ */
+public class AirConditionerHandler implements DeviceTypeHandler {
+    @Override
+    public String code() {
+        return "air";
+    }
+
+    @Override
+    public List<CommandField> fields() {
+        return List.of(CommandField.TEMPERATURE, CommandField.MODE);
+    }
+
+    @Override
+    public SmarthomeV2.DeviceType v2Type() {
+        return SmarthomeV2.DeviceType.DEVICE_TYPE_AIR_CONDITIONER;
+    }
+
+    @Override
+    public String setpoint(Smarthome.Device device) {
+        return device.getTemperature();
+    }
+}
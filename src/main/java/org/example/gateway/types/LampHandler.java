@@ -0,0 +1,27 @@
+package org.example.gateway.types;
+
+import org.example.devices.v2.SmarthomeV2;
+import org.example.gateway.CommandField;
+import org.example.gateway.DeviceTypeHandler;
+
+import java.util.List;
+
+/**
+ * Lamps: state, color and brightness.
+ */
+public class LampHandler implements DeviceTypeHandler {
+    @Override
+    public String code() {
+        return "lamp";
+    }
+
+    @Override
+    public List<CommandField> fields() {
+        return List.of(CommandField.COLOR, CommandField.BRIGHTNESS);
+    }
+
+    @Override
+    public SmarthomeV2.DeviceType v2Type() {
+        return SmarthomeV2.DeviceType.DEVICE_TYPE_LAMP;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.gateway.types;
+
+import org.example.devices.Smarthome;
+import org.example.devices.v2.SmarthomeV2;
+import org.example.gateway.CommandField;
+import org.example.gateway.DeviceTypeHandler;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Temperature sensors: the reading is their state, so commands set no fields.
+ * A sensor is recognised by a type containing "sensor" or an id ending in
+ * "_sensor", such as the "air1_sensor" of the air conditioner "air1".
+ * Listed first so such ids are not taken for the device they belong to.
+ */
+public class SensorHandler implements DeviceTypeHandler {
+    @Override
+    public String code() {
+        return "sensor";
+    }
+
+    @Override
+    public List<CommandField> fields() {
+        return List.of();
+    }
+
+    @Override
+    public boolean matches(Smarthome.Device device) {
+        return device.getId().endsWith("_sensor") || device.getType().toLowerCase(Locale.ROOT).contains("sensor");
+    }
+
+    @Override
+    public SmarthomeV2.DeviceType v2Type() {
+        return SmarthomeV2.DeviceType.DEVICE_TYPE_TEMPERATURE_SENSOR;
+    }
+
+    @Override
+    public String reading(Smarthome.Device device) {
+        return device.getState();
+    }
+}
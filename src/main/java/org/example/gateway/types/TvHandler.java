@@ -0,0 +1,27 @@
+package org.example.gateway.types;
+
+import org.example.devices.v2.SmarthomeV2;
+import org.example.gateway.CommandField;
+import org.example.gateway.DeviceTypeHandler;
+
+import java.util.List;
+
+/**
+ * TVs: state, channel and volume.
+ */
+public class TvHandler implements DeviceTypeHandler {
+    @Override
+    public String code() {
+        return "tv";
+    }
+
+    @Override
+    public List<CommandField> fields() {
+        return List.of(CommandField.CHANNEL, CommandField.VOLUME);
+    }
+
+    @Override
+    public SmarthomeV2.DeviceType v2Type() {
+        return SmarthomeV2.DeviceType.DEVICE_TYPE_TV;
+    }
+}
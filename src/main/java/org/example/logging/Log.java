@@ -0,0 +1,144 @@
+package org.example.logging;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logger for one category, e.g. {@code tcp} or {@code packet}.
+ * <p>
+ * Messages are templates with {@code {}} placeholders. A call only checks
+ * the level and, if enabled, copies the template and argument references
+ * into a slot of a lock-free ring; a background thread formats and prints
+ * them. A disabled call therefore builds no strings, as long as the
+ * arguments are already objects: primitives are boxed at the call site, so
+ * hot paths that pass them should test {@link #enabled(Level)} first.
+ * Arguments are formatted later on another thread and must not be mutated
+ * after the call.
+ * <p>
+ * Levels are read once per category from {@code log.level.<category>},
+ * falling back to {@code log.level} (default INFO). {@code log.sample.<category>=N}
+ * keeps about one DEBUG or INFO event in N, for categories that log per packet
+ * or per command; warnings and errors are always kept.
+ */
+public final class Log {
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private static final ConcurrentHashMap<String, Log> categories = new ConcurrentHashMap<>();
+    private static final Level DEFAULT_LEVEL = parseLevel(System.getProperty("log.level"), Level.INFO);
+
+    private final String category;
+    private final Level level;
+    private final int sampleRate;
+
+    private Log(String category, int defaultSampleRate) {
+        this.category = category;
+        this.level = parseLevel(System.getProperty("log.level." + category), DEFAULT_LEVEL);
+        this.sampleRate = Math.max(1, Integer.getInteger("log.sample." + category, defaultSampleRate));
+    }
+
+    public static Log get(String category) {
+        return get(category, 1);
+    }
+
+    /**
+     * Returns the logger of {@code category}, keeping one DEBUG or INFO event in {@code defaultSampleRate}
+     * unless {@code log.sample.<category>} says otherwise.
+     */
+    public static Log get(String category, int defaultSampleRate) {
+        return categories.computeIfAbsent(category, name -> new Log(name, defaultSampleRate));
+    }
+
+    /**
+     * Whether an event at {@code level} would be logged. With sampling enabled this
+     * is true for about one DEBUG or INFO call in N, so the event must follow the check.
+     */
+    public boolean enabled(Level level) {
+        if (level.compareTo(this.level) < 0 || level == Level.OFF) {
+            return false;
+        }
+        return sampleRate == 1 || level.compareTo(Level.WARN) >= 0
+                || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    public void debug(String template) {
+        log(Level.DEBUG, template, null, null, null, null);
+    }
+
+    public void debug(String template, Object first) {
+        log(Level.DEBUG, template, first, null, null, null);
+    }
+
+    public void debug(String template, Object first, Object second) {
+        log(Level.DEBUG, template, first, second, null, null);
+    }
+
+    public void debug(String template, Object first, Object second, Object third) {
+        log(Level.DEBUG, template, first, second, third, null);
+    }
+
+    public void info(String template) {
+        log(Level.INFO, template, null, null, null, null);
+    }
+
+    public void info(String template, Object first) {
+        log(Level.INFO, template, first, null, null, null);
+    }
+
+    public void info(String template, Object first, Object second) {
+        log(Level.INFO, template, first, second, null, null);
+    }
+
+    public void info(String template, Object first, Object second, Object third) {
+        log(Level.INFO, template, first, second, third, null);
+    }
+
+    public void warn(String template, Object first) {
+        log(Level.WARN, template, first, null, null, null);
+    }
+
+    public void warn(String template, Object first, Object second) {
+        log(Level.WARN, template, first, second, null, null);
+    }
+
+    public void error(String template, Object first) {
+        log(Level.ERROR, template, first, null, null, null);
+    }
+
+    public void error(String template, Object first, Object second) {
+        log(Level.ERROR, template, first, second, null, null);
+    }
+
+    /**
+     * Logs at ERROR with the stack trace of {@code error}.
+     */
+    public void error(String template, Object first, Throwable error) {
+        log(Level.ERROR, template, first, null, null, error);
+    }
+
+    /**
+     * Waits until everything logged so far has been printed.
+     */
+    public static void flush() {
+        LogWriter.INSTANCE.flush();
+    }
+
+    private void log(Level level, String template, Object first, Object second, Object third, Throwable error) {
+        if (enabled(level)) {
+            LogWriter.INSTANCE.publish(System.currentTimeMillis(), level, category, template, first, second, third, error);
+        }
+    }
+
+    private static Level parseLevel(String name, Level fallback) {
+        if (name == null || name.isEmpty()) {
+            return fallback;
+        }
+        try {
+            return Level.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
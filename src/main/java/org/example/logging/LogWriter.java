@@ -0,0 +1,204 @@
+package org.example.logging;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded multi-producer ring of log events drained by one writer thread.
+ * <p>
+ * Each slot carries a sequence number, as in Vyukov's bounded queue: a
+ * producer claims a position with one CAS on the tail, fills the slot and
+ * publishes it by advancing the slot's sequence. Logging threads never
+ * block and never allocate; when the ring is full the event is dropped and
+ * counted. The writer formats everything published since its last pass and
+ * prints it with one write per stream, then sleeps for a short interval. An
+ * event that fails to format is printed as its bare template.
+ */
+final class LogWriter {
+    static final LogWriter INSTANCE = new LogWriter(Integer.getInteger("log.ring.capacity", 8192));
+
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static final class Event {
+        long timeMillis;
+        Log.Level level;
+        String category;
+        String template;
+        Object first;
+        Object second;
+        Object third;
+        Throwable error;
+    }
+
+    private final Event[] events;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    // Position up to which events have been printed, for flush()
+    private volatile long drained;
+    // Owned by the writer thread
+    private long head;
+    private long reportedDrops;
+    private final StringBuilder out = new StringBuilder(1 << 12);
+    private final StringBuilder err = new StringBuilder(1 << 10);
+
+    private LogWriter(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        events = new Event[capacity];
+        sequences = new AtomicLongArray(capacity);
+        mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new Event();
+            sequences.set(i, i);
+        }
+        writer = Thread.ofPlatform().name("log-writer").daemon().start(this::run);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    void publish(long timeMillis, Log.Level level, String category, String template,
+                 Object first, Object second, Object third, Throwable error) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The writer has not freed this slot yet: the ring is full
+                dropped.increment();
+                return;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        int index = (int) position & mask;
+        Event event = events[index];
+        event.timeMillis = timeMillis;
+        event.level = level;
+        event.category = category;
+        event.template = template;
+        event.first = first;
+        event.second = second;
+        event.third = third;
+        event.error = error;
+        sequences.set(index, position + 1);
+    }
+
+    /**
+     * Waits until the writer has printed every event published before the call.
+     */
+    void flush() {
+        long target = tail.get();
+        while (drained < target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_NANOS);
+            }
+        }
+    }
+
+    private int drain() {
+        int count = 0;
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            Event event = events[index];
+            StringBuilder line = event.level.compareTo(Log.Level.WARN) >= 0 ? err : out;
+            int length = line.length();
+            try {
+                format(event, line);
+            } catch (RuntimeException e) {
+                // An argument's toString threw; print the bare template rather than lose the writer
+                line.setLength(length);
+                formatFailed(event, e, line);
+            }
+            event.template = null;
+            event.first = null;
+            event.second = null;
+            event.third = null;
+            event.error = null;
+            sequences.set(index, head + events.length);
+            head++;
+            count++;
+        }
+
+        long drops = dropped.sum();
+        if (drops != reportedDrops) {
+            err.append(TIME_FORMAT.format(Instant.now())).append(" WARN  [log] ")
+                    .append(drops - reportedDrops).append(" log events dropped: ring full\n");
+            reportedDrops = drops;
+        }
+        print(System.out, out);
+        print(System.err, err);
+        drained = head;
+        return count;
+    }
+
+    private static void format(Event event, StringBuilder line) {
+        line.append(TIME_FORMAT.format(Instant.ofEpochMilli(event.timeMillis))).append(' ');
+        String level = event.level.name();
+        line.append(level).repeat(' ', 6 - level.length())
+                .append('[').append(event.category).append("] ");
+
+        String template = event.template;
+        Object[] arguments = {event.first, event.second, event.third};
+        int argument = 0;
+        int start = 0;
+        int placeholder;
+        while (argument < arguments.length && (placeholder = template.indexOf("{}", start)) >= 0) {
+            line.append(template, start, placeholder).append(arguments[argument++]);
+            start = placeholder + 2;
+        }
+        line.append(template, start, template.length()).append('\n');
+
+        if (event.error != null) {
+            StringWriter trace = new StringWriter();
+            event.error.printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+    }
+
+    private static void formatFailed(Event event, RuntimeException failure, StringBuilder line) {
+        line.append(TIME_FORMAT.format(Instant.ofEpochMilli(event.timeMillis))).append(' ');
+        String level = event.level.name();
+        line.append(level).repeat(' ', 6 - level.length())
+                .append('[').append(event.category).append("] ")
+                .append(event.template)
+                .append(" (formatting failed: ").append(failure.getClass().getName()).append(")\n");
+    }
+
+    private static void print(PrintStream stream, StringBuilder text) {
+        if (!text.isEmpty()) {
+            stream.print(text);
+            stream.flush();
+            text.setLength(0);
+        }
+    }
+}
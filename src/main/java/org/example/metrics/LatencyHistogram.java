@@ -0,0 +1,108 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram.
+ * Each power-of-two range is split into 64 linear sub-buckets, so any
+ * recorded value is reported within about 1.6% of its true value, from
+ * nanoseconds up to the full range of a long. Recording is lock-free and
+ * allocation-free, so one histogram can be shared by many threads.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 64 - SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray((BUCKET_COUNT + 1) * SUB_BUCKET_HALF_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(value);
+        long max;
+        while (value > (max = maxValue.get()) && !maxValue.compareAndSet(max, value)) {
+            // Retry until our value is stored or a larger one wins
+        }
+    }
+
+    public long count() {
+        return totalCount.get();
+    }
+
+    public long max() {
+        return maxValue.get();
+    }
+
+    public double mean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * Returns the highest value equivalent to the recording at {@code percentile} (0-100).
+     */
+    public long valueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    /**
+     * Adds every recording of {@code other} to this histogram.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalValue.addAndGet(other.totalValue.get());
+        long max;
+        long otherMax = other.maxValue.get();
+        while (otherMax > (max = maxValue.get()) && !maxValue.compareAndSet(max, otherMax)) {
+            // Retry until the larger max is stored
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalValue.set(0);
+        maxValue.set(0);
+    }
+
+    private static int indexOf(long value) {
+        // Values below 128 map one-to-one; above that, keep the top 7 bits of the value
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        int shift = Math.max(0, index / SUB_BUCKET_HALF_COUNT - 1);
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF_COUNT;
+        long upper = ((subBucket + 1) << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Named counters, gauges and latency summaries, rendered in the Prometheus
+ * text exposition format.
+ * <p>
+ * Counters are {@link LongAdder}s and latencies are {@link LatencyHistogram}s,
+ * so recording is lock-free and does not allocate. A metric family with a
+ * label keeps one metric per label value; callers should hold on to the
+ * {@link Family} and look values up with {@link Family#labels(String)},
+ * which is a single map lookup once the value has been seen.
+ */
+public class MetricsRegistry {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    /** Metrics of one name, one per value of its label. */
+    public static final class Family<T> {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final String label;
+        private final Function<String, T> factory;
+        private final ConcurrentHashMap<String, T> metrics = new ConcurrentHashMap<>();
+
+        private Family(String name, String help, String type, String label, Function<String, T> factory) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.label = label;
+            this.factory = factory;
+        }
+
+        public T labels(String value) {
+            T metric = metrics.get(value);
+            return metric != null ? metric : metrics.computeIfAbsent(value, factory);
+        }
+    }
+
+    private final List<Family<?>> families = new CopyOnWriteArrayList<>();
+
+    public Family<LongAdder> counter(String name, String help, String label) {
+        return register(new Family<>(name, help, "counter", label, value -> new LongAdder()));
+    }
+
+    public LongAdder counter(String name, String help) {
+        return counter(name, help, (String) null).labels("");
+    }
+
+    /**
+     * Registers a counter whose value is kept elsewhere and read when the metrics are rendered.
+     */
+    public void counter(String name, String help, LongSupplier value) {
+        register(new Family<LongSupplier>(name, help, "counter", null, key -> value)).labels("");
+    }
+
+    public void gauge(String name, String help, LongSupplier value) {
+        register(new Family<LongSupplier>(name, help, "gauge", null, key -> value)).labels("");
+    }
+
+    /**
+     * Latencies recorded in nanoseconds and exported in seconds, as quantiles plus sum and count.
+     */
+    public Family<LatencyHistogram> latency(String name, String help, String label) {
+        return register(new Family<>(name, help, "summary", label, value -> new LatencyHistogram()));
+    }
+
+    public String prometheus() {
+        StringBuilder text = new StringBuilder(4096);
+        writePrometheus(text);
+        return text.toString();
+    }
+
+    public void writePrometheus(StringBuilder text) {
+        for (Family<?> family : families) {
+            text.append("# HELP ").append(family.name).append(' ').append(family.help).append('\n');
+            text.append("# TYPE ").append(family.name).append(' ').append(family.type).append('\n');
+            // Sorted, so successive dumps are easy to compare
+            for (Map.Entry<String, ?> entry : new TreeMap<>(family.metrics).entrySet()) {
+                String labels = family.label == null ? "" : family.label + "=\"" + escape(entry.getKey()) + "\"";
+                switch (entry.getValue()) {
+                    case LongAdder adder -> sample(text, family.name, labels, adder.sum());
+                    case LongSupplier supplier -> sample(text, family.name, labels, supplier.getAsLong());
+                    case LatencyHistogram histogram -> summary(text, family.name, labels, histogram);
+                    default -> throw new IllegalStateException("Unknown metric " + entry.getValue());
+                }
+            }
+        }
+    }
+
+    private <T> Family<T> register(Family<T> family) {
+        for (Family<?> existing : families) {
+            if (existing.name.equals(family.name)) {
+                throw new IllegalArgumentException("Metric already registered: " + family.name);
+            }
+        }
+        families.add(family);
+        return family;
+    }
+
+    private static void summary(StringBuilder text, String name, String labels, LatencyHistogram histogram) {
+        String separator = labels.isEmpty() ? "" : ",";
+        for (double quantile : QUANTILES) {
+            sample(text, name, labels + separator + "quantile=\"" + quantile + "\"",
+                    seconds(histogram.valueAtPercentile(quantile * 100)));
+        }
+        long count = histogram.count();
+        sample(text, name + "_sum", labels, seconds(histogram.mean() * count));
+        sample(text, name + "_count", labels, count);
+    }
+
+    private static void sample(StringBuilder text, String name, String labels, long value) {
+        sampleName(text, name, labels).append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder text, String name, String labels, double value) {
+        sampleName(text, name, labels).append(value).append('\n');
+    }
+
+    private static StringBuilder sampleName(StringBuilder text, String name, String labels) {
+        text.append(name);
+        if (!labels.isEmpty()) {
+            text.append('{').append(labels).append('}');
+        }
+        return text.append(' ');
+    }
+
+    private static double seconds(double nanos) {
+        return nanos / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.logging.Log;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes a {@link MetricsRegistry} for Prometheus, either by rewriting a
+ * text file for the node exporter's textfile collector or from an HTTP
+ * endpoint that only listens on the loopback interface.
+ */
+public final class PrometheusExporter {
+    private static final Log log = Log.get("metrics");
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private PrometheusExporter() {
+    }
+
+    /**
+     * Rewrites {@code file} every {@code periodSeconds}. Each dump replaces the file
+     * with an atomic rename, so readers never see a partial one.
+     */
+    public static ScheduledExecutorService writeFile(MetricsRegistry registry, Path file, long periodSeconds) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("metrics-file").daemon().factory());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                Files.writeString(temporary, registry.prometheus());
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.warn("Cannot write metrics to {}: {}", file, e.getMessage());
+            }
+        }, 0, periodSeconds, TimeUnit.SECONDS);
+        return scheduler;
+    }
+
+    /**
+     * Serves the metrics at {@code http://127.0.0.1:<port>/metrics}.
+     */
+    public static HttpServer serve(MetricsRegistry registry, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = registry.prometheus().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,242 @@
+package org.example.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * Append-only block of samples compressed as in Facebook's Gorilla.
+ * <p>
+ * Timestamps are stored as the difference between consecutive deltas, so
+ * readings at a steady interval cost one bit each and jittered ones 9 to 16
+ * bits. Values are XOR-ed with the previous value and only the bits that
+ * differ are kept, so an unchanged reading costs one bit. A chunk holds at
+ * most {@link #MAX_SAMPLES} samples; appending to a full chunk fails and the
+ * caller starts a new one.
+ */
+final class Chunk {
+    static final int MAX_SAMPLES = 120;
+    private static final int INITIAL_WORDS = 8;
+
+    private final long firstTime;
+    private final double firstValue;
+    private long[] words = new long[INITIAL_WORDS];
+    private int bitCount;
+    private int count;
+
+    // Encoder state
+    private long lastTime;
+    private long lastDelta;
+    private long lastValueBits;
+    private int lastLeading = -1;
+    private int lastTrailing;
+
+    Chunk(long time, double value) {
+        firstTime = time;
+        firstValue = value;
+        lastTime = time;
+        lastValueBits = Double.doubleToLongBits(value);
+        count = 1;
+    }
+
+    private Chunk(Chunk other) {
+        firstTime = other.firstTime;
+        firstValue = other.firstValue;
+        words = Arrays.copyOf(other.words, (other.bitCount + 63) >>> 6);
+        bitCount = other.bitCount;
+        count = other.count;
+        lastTime = other.lastTime;
+        lastDelta = other.lastDelta;
+        lastValueBits = other.lastValueBits;
+        lastLeading = other.lastLeading;
+        lastTrailing = other.lastTrailing;
+    }
+
+    /**
+     * Appends a sample. A time before the last sample is recorded as the last sample's time.
+     *
+     * @return false if the chunk is full or the gap is too large to encode
+     */
+    boolean append(long time, double value) {
+        if (count == MAX_SAMPLES) {
+            return false;
+        }
+        time = Math.max(time, lastTime);
+        long delta = time - lastTime;
+        long deltaOfDelta = delta - lastDelta;
+        if (deltaOfDelta != (int) deltaOfDelta) {
+            return false;
+        }
+
+        if (deltaOfDelta == 0) {
+            writeBits(0, 1);
+        } else if (deltaOfDelta >= -63 && deltaOfDelta <= 64) {
+            writeBits(0b10, 2);
+            writeBits(deltaOfDelta + 63, 7);
+        } else if (deltaOfDelta >= -255 && deltaOfDelta <= 256) {
+            writeBits(0b110, 3);
+            writeBits(deltaOfDelta + 255, 9);
+        } else if (deltaOfDelta >= -2047 && deltaOfDelta <= 2048) {
+            writeBits(0b1110, 4);
+            writeBits(deltaOfDelta + 2047, 12);
+        } else {
+            writeBits(0b1111, 4);
+            writeBits(deltaOfDelta, 32);
+        }
+
+        long valueBits = Double.doubleToLongBits(value);
+        long xor = valueBits ^ lastValueBits;
+        if (xor == 0) {
+            writeBits(0, 1);
+        } else {
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trailing = Long.numberOfTrailingZeros(xor);
+            if (lastLeading >= 0 && leading >= lastLeading && trailing >= lastTrailing) {
+                // The changed bits fit in the previous window
+                writeBits(0b10, 2);
+                writeBits(xor >>> lastTrailing, 64 - lastLeading - lastTrailing);
+            } else {
+                int significant = 64 - leading - trailing;
+                writeBits(0b11, 2);
+                writeBits(leading, 5);
+                writeBits(significant - 1, 6);
+                writeBits(xor >>> trailing, significant);
+                lastLeading = leading;
+                lastTrailing = trailing;
+            }
+        }
+
+        lastTime = time;
+        lastDelta = delta;
+        lastValueBits = valueBits;
+        count++;
+        return true;
+    }
+
+    /**
+     * Calls {@code consumer} with every sample, in time order.
+     */
+    void forEach(SampleConsumer consumer) {
+        BitReader reader = new BitReader(words);
+        long time = firstTime;
+        long delta = 0;
+        long valueBits = Double.doubleToLongBits(firstValue);
+        int leading = 0;
+        int trailing = 0;
+        consumer.accept(time, Double.longBitsToDouble(valueBits));
+
+        for (int i = 1; i < count; i++) {
+            long deltaOfDelta;
+            if (reader.readBit() == 0) {
+                deltaOfDelta = 0;
+            } else if (reader.readBit() == 0) {
+                deltaOfDelta = reader.readBits(7) - 63;
+            } else if (reader.readBit() == 0) {
+                deltaOfDelta = reader.readBits(9) - 255;
+            } else if (reader.readBit() == 0) {
+                deltaOfDelta = reader.readBits(12) - 2047;
+            } else {
+                deltaOfDelta = (int) reader.readBits(32);
+            }
+            delta += deltaOfDelta;
+            time += delta;
+
+            if (reader.readBit() == 1) {
+                if (reader.readBit() == 1) {
+                    leading = (int) reader.readBits(5);
+                    int significant = (int) reader.readBits(6) + 1;
+                    trailing = 64 - leading - significant;
+                }
+                valueBits ^= reader.readBits(64 - leading - trailing) << trailing;
+            }
+            consumer.accept(time, Double.longBitsToDouble(valueBits));
+        }
+    }
+
+    /**
+     * Copy that stays unchanged while this chunk keeps growing.
+     */
+    Chunk copy() {
+        return new Chunk(this);
+    }
+
+    /**
+     * Releases the unused tail of the bit buffer once no more samples will be appended.
+     */
+    void seal() {
+        words = Arrays.copyOf(words, (bitCount + 63) >>> 6);
+    }
+
+    long firstTime() {
+        return firstTime;
+    }
+
+    long lastTime() {
+        return lastTime;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * Approximate heap footprint: the bit buffer plus object headers and fields.
+     */
+    long bytes() {
+        return 16L + words.length * 8L + 64;
+    }
+
+    private void writeBits(long value, int bits) {
+        if (bits == 0) {
+            return;
+        }
+        if (bitCount + bits > words.length * 64L) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        value &= mask(bits);
+        int word = bitCount >>> 6;
+        int free = 64 - (bitCount & 63);
+        if (bits <= free) {
+            words[word] |= value << (free - bits);
+        } else {
+            int rest = bits - free;
+            words[word] |= value >>> rest;
+            words[word + 1] |= value << (64 - rest);
+        }
+        bitCount += bits;
+    }
+
+    private static long mask(int bits) {
+        return bits == 64 ? -1L : (1L << bits) - 1;
+    }
+
+    private static final class BitReader {
+        private final long[] words;
+        private int position;
+
+        BitReader(long[] words) {
+            this.words = words;
+        }
+
+        int readBit() {
+            int bit = (int) (words[position >>> 6] >>> (63 - (position & 63))) & 1;
+            position++;
+            return bit;
+        }
+
+        long readBits(int bits) {
+            if (bits == 0) {
+                return 0;
+            }
+            int word = position >>> 6;
+            int free = 64 - (position & 63);
+            long value;
+            if (bits <= free) {
+                value = (words[word] >>> (free - bits)) & mask(bits);
+            } else {
+                int rest = bits - free;
+                value = ((words[word] & mask(free)) << rest) | (words[word + 1] >>> (64 - rest));
+            }
+            position += bits;
+            return value;
+        }
+    }
+}
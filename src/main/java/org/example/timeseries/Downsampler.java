@@ -0,0 +1,54 @@
+package org.example.timeseries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges samples, or rollup intervals, into buckets of a fixed step.
+ * Input must arrive in time order.
+ */
+final class Downsampler implements SampleConsumer {
+    private final long step;
+    private final List<TimeSeriesStore.Bucket> buckets = new ArrayList<>();
+    private long start = Long.MIN_VALUE;
+    private double min;
+    private double max;
+    private double sum;
+    private long count;
+
+    Downsampler(long step) {
+        this.step = step;
+    }
+
+    @Override
+    public void accept(long timeMillis, double value) {
+        add(timeMillis, value, value, value, 1);
+    }
+
+    void add(long timeMillis, double min, double max, double sum, long count) {
+        long bucket = Math.floorDiv(timeMillis, step) * step;
+        if (bucket != start) {
+            flush();
+            start = bucket;
+            this.min = min;
+            this.max = max;
+        }
+        this.min = Math.min(this.min, min);
+        this.max = Math.max(this.max, max);
+        this.sum += sum;
+        this.count += count;
+    }
+
+    List<TimeSeriesStore.Bucket> finish() {
+        flush();
+        return buckets;
+    }
+
+    private void flush() {
+        if (count > 0) {
+            buckets.add(new TimeSeriesStore.Bucket(start, min, max, sum, count));
+        }
+        sum = 0;
+        count = 0;
+    }
+}
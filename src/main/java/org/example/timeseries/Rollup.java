@@ -0,0 +1,132 @@
+package org.example.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * Min, max, sum and count of a series per fixed interval, kept for a
+ * limited time. Intervals start at multiples of the resolution. Samples
+ * are folded in as they arrive, so reading a long window only touches one
+ * entry per interval. Entries are held in a ring of primitive columns; the
+ * oldest are dropped once they fall out of the retention window.
+ */
+final class Rollup {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long resolution;
+    private final long retention;
+    // Enough slots for every interval within the retention window, plus the newest
+    private final int maxCapacity;
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private double[] mins = new double[INITIAL_CAPACITY];
+    private double[] maxes = new double[INITIAL_CAPACITY];
+    private double[] sums = new double[INITIAL_CAPACITY];
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+    // Start of the newest interval dropped from the window
+    private long dropped = Long.MIN_VALUE;
+
+    Rollup(long resolution, long retention) {
+        this.resolution = resolution;
+        this.retention = retention;
+        this.maxCapacity = (int) Math.min(Integer.MAX_VALUE - 8, retention / resolution + 2);
+    }
+
+    long resolution() {
+        return resolution;
+    }
+
+    /**
+     * Folds in a sample. Times must not go backwards.
+     */
+    void add(long time, double value) {
+        long start = Math.floorDiv(time, resolution) * resolution;
+        if (size > 0) {
+            int last = slot(size - 1);
+            if (starts[last] == start) {
+                mins[last] = Math.min(mins[last], value);
+                maxes[last] = Math.max(maxes[last], value);
+                sums[last] += value;
+                counts[last]++;
+                return;
+            }
+        }
+
+        while (size > 0 && starts[head] < start - retention) {
+            dropped = starts[head];
+            head = slot(1);
+            size--;
+        }
+        if (size == starts.length) {
+            grow();
+        }
+        int slot = slot(size);
+        starts[slot] = start;
+        mins[slot] = value;
+        maxes[slot] = value;
+        sums[slot] = value;
+        counts[slot] = 1;
+        size++;
+    }
+
+    /**
+     * Whether every interval from the one holding {@code from} onwards is still kept.
+     */
+    boolean covers(long from) {
+        return Math.floorDiv(from, resolution) * resolution > dropped;
+    }
+
+    /**
+     * Passes the intervals starting in {@code [from, to)} to {@code downsampler}, in time order.
+     */
+    void forEach(long from, long to, Downsampler downsampler) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[slot(middle)] < from) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        for (int i = low; i < size; i++) {
+            int slot = slot(i);
+            if (starts[slot] >= to) {
+                break;
+            }
+            downsampler.add(starts[slot], mins[slot], maxes[slot], sums[slot], counts[slot]);
+        }
+    }
+
+    long bytes() {
+        return 16L + starts.length * 40L + 5 * 16L;
+    }
+
+    private int slot(int index) {
+        int slot = head + index;
+        return slot < starts.length ? slot : slot - starts.length;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(maxCapacity, starts.length * 2L);
+        starts = unwrap(starts, capacity);
+        mins = unwrap(mins, capacity);
+        maxes = unwrap(maxes, capacity);
+        sums = unwrap(sums, capacity);
+        counts = unwrap(counts, capacity);
+        head = 0;
+    }
+
+    private long[] unwrap(long[] column, int capacity) {
+        long[] grown = Arrays.copyOfRange(column, head, head + capacity);
+        System.arraycopy(column, 0, grown, column.length - head, head);
+        return grown;
+    }
+
+    private double[] unwrap(double[] column, int capacity) {
+        double[] grown = Arrays.copyOfRange(column, head, head + capacity);
+        System.arraycopy(column, 0, grown, column.length - head, head);
+        return grown;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.timeseries;
+
+/**
+ * Receives decoded samples without boxing them.
+ */
+@FunctionalInterface
+public interface SampleConsumer {
+    void accept(long timeMillis, double value);
+}
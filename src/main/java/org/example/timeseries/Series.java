@@ -0,0 +1,155 @@
+package org.example.timeseries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Samples of one series: sealed chunks plus the chunk being appended to,
+ * and one {@link Rollup} per configured resolution, updated on every append.
+ * Appends take a per-series lock, so series never contend with each other.
+ * A raw query only copies the chunks it needs under the lock and decodes
+ * them after releasing it. Sealed chunks whose last sample is older than the
+ * raw retention are dropped when the next chunk is started.
+ */
+final class Series {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long rawRetention;
+    private final Rollup[] rollups;
+    private final List<Chunk> sealed = new ArrayList<>();
+    private Chunk head;
+
+    Series(long rawRetention, List<TimeSeriesStore.Level> levels) {
+        this.rawRetention = rawRetention;
+        this.rollups = new Rollup[levels.size()];
+        for (int i = 0; i < rollups.length; i++) {
+            rollups[i] = new Rollup(levels.get(i).resolutionMillis(), levels.get(i).retentionMillis());
+        }
+    }
+
+    void append(long time, double value) {
+        lock.lock();
+        try {
+            if (head == null) {
+                head = new Chunk(time, value);
+            } else {
+                // Rollups and chunks both expect time to move forward
+                time = Math.max(time, head.lastTime());
+                if (!head.append(time, value)) {
+                    head.seal();
+                    sealed.add(head);
+                    head = new Chunk(time, value);
+                    evictBefore(time - rawRetention);
+                }
+            }
+            for (Rollup rollup : rollups) {
+                rollup.add(time, value);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Calls {@code consumer} with the raw samples in {@code [from, to)}, in time order.
+     */
+    void forEach(long from, long to, SampleConsumer consumer) {
+        List<Chunk> chunks = new ArrayList<>();
+        lock.lock();
+        try {
+            for (int i = firstOverlapping(from); i < sealed.size(); i++) {
+                Chunk chunk = sealed.get(i);
+                if (chunk.firstTime() >= to) {
+                    break;
+                }
+                // Sealed chunks no longer change and can be read without the lock
+                chunks.add(chunk);
+            }
+            if (head != null && head.firstTime() < to && head.lastTime() >= from) {
+                chunks.add(head.copy());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Chunk chunk : chunks) {
+            chunk.forEach((time, value) -> {
+                if (time >= from && time < to) {
+                    consumer.accept(time, value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Passes the intervals of rollup {@code level} that start in {@code [from, to)} to {@code downsampler}.
+     *
+     * @return false, having passed nothing, if the rollup has already dropped the interval holding {@code from}
+     */
+    boolean forEachRollup(int level, long from, long to, Downsampler downsampler) {
+        lock.lock();
+        try {
+            if (!rollups[level].covers(from)) {
+                return false;
+            }
+            rollups[level].forEach(from, to, downsampler);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long samples() {
+        lock.lock();
+        try {
+            long samples = head == null ? 0 : head.count();
+            for (Chunk chunk : sealed) {
+                samples += chunk.count();
+            }
+            return samples;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long bytes() {
+        lock.lock();
+        try {
+            long bytes = head == null ? 0 : head.bytes();
+            for (Chunk chunk : sealed) {
+                bytes += chunk.bytes();
+            }
+            for (Rollup rollup : rollups) {
+                bytes += rollup.bytes();
+            }
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictBefore(long cutoff) {
+        int expired = firstOverlapping(cutoff);
+        if (expired > 0) {
+            sealed.subList(0, expired).clear();
+        }
+    }
+
+    /**
+     * Index of the first sealed chunk that may hold samples at or after {@code from}.
+     * Chunks are in time order and do not overlap, so a binary search on their last sample suffices.
+     */
+    private int firstOverlapping(long from) {
+        int low = 0;
+        int high = sealed.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (sealed.get(middle).lastTime() < from) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
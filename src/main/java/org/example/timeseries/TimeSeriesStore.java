@@ -0,0 +1,143 @@
+package org.example.timeseries;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory store of numeric readings, one series per id.
+ * Samples are kept in Gorilla-compressed {@link Chunk}s, so a sensor that
+ * reports at a steady interval costs a few bits per unchanged reading and
+ * a few bytes per changed one. Raw samples are kept for a retention window;
+ * beyond it, each series keeps min/max/sum/count rollups per minute, hour
+ * and day, which also answer long range queries without decoding samples.
+ */
+public class TimeSeriesStore {
+    /** A downsampled interval {@code [start, start + step)}; starts are multiples of the step. */
+    public record Bucket(long start, double min, double max, double sum, long count) {
+        public double average() {
+            return sum / count;
+        }
+    }
+
+    /** Rollup intervals of {@code resolutionMillis}, kept for {@code retentionMillis}. */
+    public record Level(long resolutionMillis, long retentionMillis) {
+    }
+
+    public static final long MINUTE = 60_000;
+    public static final long HOUR = 60 * MINUTE;
+    public static final long DAY = 24 * HOUR;
+    /** Finest first; a full series holds about 1,440 minutes, 720 hours and 730 days, about 115 KB. */
+    public static final List<Level> DEFAULT_LEVELS = List.of(
+            new Level(MINUTE, DAY),
+            new Level(HOUR, 30 * DAY),
+            new Level(DAY, 2 * 365 * DAY));
+
+    private final ConcurrentHashMap<String, Series> series = new ConcurrentHashMap<>();
+    private final long rawRetentionMillis;
+    private final List<Level> levels;
+
+    public TimeSeriesStore(long rawRetentionMillis) {
+        this(rawRetentionMillis, DEFAULT_LEVELS);
+    }
+
+    /**
+     * @param levels rollup levels, finest first
+     */
+    public TimeSeriesStore(long rawRetentionMillis, List<Level> levels) {
+        this.rawRetentionMillis = rawRetentionMillis;
+        this.levels = List.copyOf(levels);
+    }
+
+    public void append(String id, long timeMillis, double value) {
+        series.computeIfAbsent(id, key -> new Series(rawRetentionMillis, levels)).append(timeMillis, value);
+    }
+
+    public boolean contains(String id) {
+        return series.containsKey(id);
+    }
+
+    /**
+     * Calls {@code consumer} with the samples of {@code id} in {@code [from, to)}, in time order.
+     */
+    public void forEach(String id, long from, long to, SampleConsumer consumer) {
+        Series samples = series.get(id);
+        if (samples != null) {
+            samples.forEach(from, to, consumer);
+        }
+    }
+
+    /**
+     * Min, max and average of the samples of {@code id} in {@code [from, to)}, per {@code step} milliseconds.
+     * Buckets without samples are left out.
+     * <p>
+     * When the step is a multiple of a rollup resolution, the coarsest such rollup
+     * that still reaches back to {@code from} is read instead of the raw samples.
+     * The window is then widened to whole rollup intervals, and samples older than
+     * the raw retention are still counted. If no such rollup reaches back that far,
+     * the raw samples are read.
+     */
+    public List<Bucket> downsample(String id, long from, long to, long step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("step must be positive: " + step);
+        }
+        Downsampler downsampler = new Downsampler(step);
+        Series samples = series.get(id);
+        if (samples != null && !forEachRollup(samples, from, to, step, downsampler)) {
+            samples.forEach(from, to, downsampler);
+        }
+        return downsampler.finish();
+    }
+
+    /**
+     * The coarsest rollup resolution no larger than {@code step}, or {@code step} itself if there is none.
+     * Rounding a step up to a multiple of this lets a query be served from the rollup.
+     */
+    public long resolutionFor(long step) {
+        long resolution = step;
+        for (Level level : levels) {
+            if (level.resolutionMillis() <= step) {
+                resolution = level.resolutionMillis();
+            }
+        }
+        return resolution;
+    }
+
+    /**
+     * Reads the window from the coarsest rollup whose resolution divides {@code step} and that still covers {@code from}.
+     *
+     * @return false if there is no such rollup
+     */
+    private boolean forEachRollup(Series samples, long from, long to, long step, Downsampler downsampler) {
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            long resolution = levels.get(i).resolutionMillis();
+            if (step % resolution == 0
+                    && samples.forEachRollup(i, Math.floorDiv(from, resolution) * resolution, to, downsampler)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int seriesCount() {
+        return series.size();
+    }
+
+    public long samples() {
+        long samples = 0;
+        for (Series each : series.values()) {
+            samples += each.samples();
+        }
+        return samples;
+    }
+
+    /**
+     * Approximate heap used by the stored samples and rollups.
+     */
+    public long bytes() {
+        long bytes = 0;
+        for (Series each : series.values()) {
+            bytes += each.bytes();
+        }
+        return bytes;
+    }
+}